@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+#
+# 조회 부하 시험: 같은 요청을 블로킹(MyBatis/JDBC) 경로와 논블로킹(R2DBC) 경로에 동시 요청으로 보내고
+# 처리량, 응답 시간과 함께 시험 중 최대 스레드/커넥션 사용량을 비교합니다.
+#
+#   blocking  : GET /board/{idx}, GET /comment/board/{idx}
+#   reactive  : GET /reactive/board/{idx}, GET /reactive/comment/board/{idx}
+#
+# 사용법: scripts/read-load-test.sh [동시 요청 수] [경로별 요청 수]
+#   BASE_URL        대상 서버 (기본 http://localhost:8080)
+#   BOARD_IDS       조회할 게시글 ID 목록 (공백 구분, 기본: GET /board/trending 상위 20개)
+#   ADMIN_USER      지표 조회(/actuator/metrics)용 관리자 계정 (기본 perf_admin)
+#   ADMIN_PASSWORD  (기본 password1234)
+#
+# 동시 요청은 curl --parallel로 만들므로 별도 부하 도구가 필요 없습니다 (curl 7.66 이상).
+# 서버 스레드 지표(tomcat.threads.busy)는 server.tomcat.mbeanregistry.enabled=true 일 때만 수집됩니다 (perf 프로필 기본값).
+set -euo pipefail
+
+CONCURRENCY="${1:-200}"
+REQUESTS="${2:-2000}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+ADMIN_USER="${ADMIN_USER:-perf_admin}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-password1234}"
+WORK_DIR="$(dirname "$0")/../build/read-load-test"
+METRICS=(tomcat.threads.busy jvm.threads.live hikaricp.connections.active hikaricp.connections.pending
+         r2dbc.pool.acquired r2dbc.pool.pending)
+
+mkdir -p "$WORK_DIR"
+
+TOKEN=$(curl -s -X POST "$BASE_URL/auth/login" -H 'Content-Type: application/json' \
+  -d "{\"userId\":\"$ADMIN_USER\",\"password\":\"$ADMIN_PASSWORD\"}" \
+  | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+if [ -z "$TOKEN" ]; then
+  echo "관리자 로그인 실패 ($ADMIN_USER) - 지표를 조회할 수 없습니다." >&2
+  exit 1
+fi
+
+if [ -z "${BOARD_IDS:-}" ]; then
+  BOARD_IDS=$(curl -s "$BASE_URL/board/trending?size=20" | grep -o '"boardIdx":[0-9]*' | cut -d: -f2 | tr '\n' ' ')
+fi
+if [ -z "$BOARD_IDS" ]; then
+  echo "조회할 게시글이 없습니다. BOARD_IDS를 지정하세요." >&2
+  exit 1
+fi
+read -r -a BOARDS <<< "$BOARD_IDS"
+
+# 지표 한 개의 현재 값 (없으면 -)
+metric_value() {
+  curl -s -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/metrics/$1" \
+    | grep -o '"statistic":"VALUE","value":[0-9.E]*' | head -1 | cut -d: -f3 | cut -d. -f1 || true
+}
+
+# 시험이 끝날 때까지 0.5초마다 지표를 기록
+sample_metrics() {
+  local out="$1"
+  : > "$out"
+  while [ ! -f "$WORK_DIR/done" ]; do
+    for name in "${METRICS[@]}"; do
+      echo "$name $(metric_value "$name")" >> "$out"
+    done
+    sleep 0.5
+  done
+}
+
+# 경로 접두사(""/"/reactive")로 요청 목록을 만들어 동시 실행
+run() {
+  local label="$1" prefix="$2"
+  local urls="$WORK_DIR/$label.urls" results="$WORK_DIR/$label.results" samples="$WORK_DIR/$label.metrics"
+
+  : > "$urls"
+  for ((i = 0; i < REQUESTS; i++)); do
+    local board="${BOARDS[$((i % ${#BOARDS[@]}))]}"
+    if (( i % 2 == 0 )); then
+      printf 'url = "%s%s/board/%s"\noutput = "/dev/null"\n' "$BASE_URL" "$prefix" "$board" >> "$urls"
+    else
+      printf 'url = "%s%s/comment/board/%s"\noutput = "/dev/null"\n' "$BASE_URL" "$prefix" "$board" >> "$urls"
+    fi
+  done
+
+  rm -f "$WORK_DIR/done"
+  sample_metrics "$samples" &
+  local sampler=$!
+
+  local started ended
+  started=$(date +%s%3N)
+  curl -s --no-progress-meter --parallel --parallel-max "$CONCURRENCY" -K "$urls" \
+       -w '%{http_code} %{time_total}\n' > "$results" || true
+  ended=$(date +%s%3N)
+
+  touch "$WORK_DIR/done"
+  wait "$sampler" 2>/dev/null || true
+
+  local elapsed=$(( ended - started ))
+  local ok errors
+  ok=$(grep -c '^200 ' "$results" || true)
+  errors=$(( REQUESTS - ok ))
+
+  # 응답 시간 백분위 (ms)
+  local p50 p95 p99
+  read -r p50 p95 p99 < <(cut -d' ' -f2 "$results" | sort -n | awk '
+    { t[NR] = $1 * 1000 }
+    END { printf "%d %d %d\n", t[int(NR * 0.50) + 1], t[int(NR * 0.95) + 1], t[int(NR * 0.99) + 1] }')
+
+  printf '%-9s %6d req/s  p50 %5d ms  p95 %5d ms  p99 %5d ms  errors %d\n' \
+    "$label" $(( REQUESTS * 1000 / elapsed )) "$p50" "$p95" "$p99" "$errors"
+  for name in "${METRICS[@]}"; do
+    local max
+    max=$(awk -v name="$name" '$1 == name && $2 != "" && (!seen || $2 + 0 > max) { max = $2 + 0; seen = 1 }
+                               END { print (seen ? max : "-") }' "$samples")
+    printf '          max %-28s %s\n' "$name" "$max"
+  done
+}
+
+echo "동시 요청 $CONCURRENCY, 경로별 요청 $REQUESTS, 게시글 ${#BOARDS[@]}개 ($BASE_URL)"
+echo
+# 첫 요청의 클래스 로딩, 캐시 적재 영향을 줄이기 위해 경로별로 한 번씩 먼저 호출
+for prefix in "" "/reactive"; do
+  curl -s -o /dev/null "$BASE_URL$prefix/board/${BOARDS[0]}"
+  curl -s -o /dev/null "$BASE_URL$prefix/comment/board/${BOARDS[0]}"
+done
+
+run blocking ""
+echo
+run reactive "/reactive"
@@ -0,0 +1,92 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 측정: 프로세스 시작부터 첫 번째 성공한 GET /board(HTTP 200)까지 걸린 시간
+#
+#   plain     : 일반 실행 가능한 jar (java -jar)
+#   optimized : Spring AOT 처리 + 추출된 jar + AppCDS 아카이브
+#
+# 사용법: scripts/startup-benchmark.sh [반복 횟수]
+#   APP_ARGS  애플리케이션 인자 (예: --spring.profiles.active=perf)
+#   PORT      측정에 사용할 포트 (기본 18080)
+#   TIMEOUT   한 번 기동을 기다리는 최대 시간(초, 기본 120)
+#   PROBE_PATH 준비 완료 판단에 사용할 경로 (기본 /board)
+#
+# GET /board가 200을 반환해야 하므로 DB에 접속할 수 있는 환경에서 실행합니다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+TIMEOUT="${TIMEOUT:-120}"
+APP_ARGS="${APP_ARGS:-}"
+PROBE_PATH="${PROBE_PATH:-/board}"
+JAR_NAME="board-0.0.1-SNAPSHOT.jar"
+WORK_DIR="build/startup-benchmark"
+
+now_millis() {
+  date +%s%3N
+}
+
+# 애플리케이션을 띄우고 GET $PROBE_PATH가 200을 반환할 때까지의 시간(ms)을 출력
+measure() {
+  local dir="$1"
+  shift
+  local started pid elapsed=""
+
+  started=$(now_millis)
+  (cd "$dir" && exec java "$@" -jar "$JAR_NAME" --server.port="$PORT" $APP_ARGS) > "$WORK_DIR/app.log" 2>&1 &
+  pid=$!
+
+  while kill -0 "$pid" 2>/dev/null; do
+    if [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$PROBE_PATH")" = "200" ]; then
+      elapsed=$(( $(now_millis) - started ))
+      break
+    fi
+    if [ $(( $(now_millis) - started )) -gt $(( TIMEOUT * 1000 )) ]; then
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+
+  if [ -z "$elapsed" ]; then
+    echo "GET $PROBE_PATH 성공 응답을 받지 못했습니다. 로그: $WORK_DIR/app.log" >&2
+    exit 1
+  fi
+  echo "$elapsed"
+}
+
+run_series() {
+  local label="$1"
+  shift
+  local total=0 min="" max=0 ms
+
+  for i in $(seq 1 "$RUNS"); do
+    ms=$(measure "$@") || exit 1
+    total=$(( total + ms ))
+    [ -z "$min" ] || [ "$ms" -lt "$min" ] && min=$ms
+    [ "$ms" -gt "$max" ] && max=$ms
+    echo "  $label #$i: ${ms} ms"
+  done
+  printf '%-10s avg %6d ms  min %6d ms  max %6d ms\n' "$label" $(( total / RUNS )) "$min" "$max" >> "$WORK_DIR/summary.txt"
+}
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR/plain"
+
+echo "[1/3] 일반 jar 빌드"
+./gradlew -q bootJar
+cp "build/libs/$JAR_NAME" "$WORK_DIR/plain/"
+
+echo "[2/3] AOT 처리 + CDS 학습 실행"
+./gradlew -q -Paot cdsTrainingRun > /dev/null 2>&1
+
+echo "[3/3] 측정 (각 ${RUNS}회)"
+run_series plain "$WORK_DIR/plain"
+run_series optimized build/cds -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true
+
+echo
+cat "$WORK_DIR/summary.txt"
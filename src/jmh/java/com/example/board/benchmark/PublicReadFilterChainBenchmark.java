@@ -0,0 +1,135 @@
+package com.example.board.benchmark;
+
+import com.example.board.config.SecurityConfig;
+import com.example.board.ratelimit.RateLimitProperties;
+import com.example.board.ratelimit.RateLimiter;
+import com.example.board.security.JwtAuthenticationFilter;
+import com.example.board.service.TokenRevocationService;
+import com.example.board.util.JwtTokenUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 익명 공개 조회 요청의 보안 필터 체인 비용 측정
+ *
+ * SecurityConfig만 올린 최소 컨텍스트에서 springSecurityFilterChain을 직접 호출합니다.
+ * - fastPath=true: 경량 필터 체인 (security.public-read-fast-path.enabled=true)
+ * - fastPath=false: 기존 필터 체인 (JWT 필터, 익명 인증, SecurityContext 저장/복원 포함)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicReadFilterChainBenchmark {
+
+    @Param({"true", "false"})
+    public String fastPath;
+
+    private AnnotationConfigWebApplicationContext context;
+    private Filter springSecurityFilterChain;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("security.public-read-fast-path.enabled", fastPath)));
+        context.register(BenchmarkConfig.class);
+        context.refresh();
+
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 게시글 상세 조회 (GET /board/{idx}, 토큰 없음)
+     */
+    @Benchmark
+    public MockHttpServletResponse anonymousBoardRead() throws Exception {
+        return doFilter("/board/1");
+    }
+
+    /**
+     * 게시글별 댓글 조회 (GET /comment/board/{idx}, 토큰 없음)
+     */
+    @Benchmark
+    public MockHttpServletResponse anonymousCommentRead() throws Exception {
+        return doFilter("/comment/board/1");
+    }
+
+    private MockHttpServletResponse doFilter(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        springSecurityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * 보안 설정과 JWT 필터만 등록한 측정용 설정 (DB, MyBatis 미사용)
+     * 요청 빈도 제한은 끈 상태로 등록해 필터 체인 자체의 비용만 비교합니다.
+     */
+    @Configuration
+    @EnableWebMvc
+    @Import(SecurityConfig.class)
+    static class BenchmarkConfig {
+
+        @Bean
+        JwtTokenUtil jwtTokenUtil() {
+            return new JwtTokenUtil("benchmarkSecretKeyForJwtTokenGenerationThatIsLongEnoughForHS512Algorithm!!", 86400);
+        }
+
+        @Bean
+        JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil) {
+            return new JwtAuthenticationFilter(jwtTokenUtil, new TokenRevocationService() {
+                @Override
+                public boolean isRevoked(String jti, String userId, long issuedAtMillis) {
+                    return false;
+                }
+
+                @Override
+                public void revokeToken(String jti, String userId, long expiresAtMillis) {
+                }
+
+                @Override
+                public void revokeUser(String userId) {
+                }
+            });
+        }
+
+        @Bean
+        RateLimiter rateLimiter() throws JsonProcessingException {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.setEnabled(false);
+            return new RateLimiter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        }
+    }
+}
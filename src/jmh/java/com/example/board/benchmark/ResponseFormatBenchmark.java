@@ -0,0 +1,110 @@
+package com.example.board.benchmark;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답(ApiResponse&lt;List&lt;BoardV0&gt;&gt;)의 형식별 인코딩/디코딩 비용 측정
+ *
+ * 애플리케이션과 같은 Jackson 설정(날짜 문자열, 기본 필터)으로 JSON, CBOR, Smile을 비교합니다.
+ * 형식/페이지 크기별 응답 크기(바이트)는 준비 단계에서 한 번 출력합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ResponseFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<List<BoardV0>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"10", "50", "200"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<BoardV0>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = createMapper(format);
+        response = ApiResponse.success("게시글 목록 조회가 완료되었습니다.", createBoards(pageSize), pageSize);
+        encoded = objectMapper.writeValueAsBytes(response);
+
+        System.out.printf("%n[payload] format=%s, pageSize=%d, bytes=%d%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<BoardV0>> decode() throws Exception {
+        return objectMapper.readValue(encoded, RESPONSE_TYPE);
+    }
+
+    private static ObjectMapper createMapper(String format) {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+
+        // Spring Boot 기본 설정 + JacksonConfig와 동일하게 구성
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+    }
+
+    /**
+     * 실제 목록과 비슷한 크기의 게시글 (제목 수십 자, 본문 수백 자)
+     */
+    private static List<BoardV0> createBoards(int size) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<BoardV0> boards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BoardV0 board = new BoardV0();
+            board.setIdx(100_000L + i);
+            board.setTitle("게시글 제목 " + i + " - 서비스 간 응답 형식 비교용 샘플 데이터");
+            board.setContent(("본문 내용 " + i + ". 게시판 목록 응답의 직렬화 비용을 측정하기 위한 문장입니다. ").repeat(8));
+            board.setWriterNm("작성자" + (i % 50));
+            board.setWriterId("user" + (i % 50));
+            board.setRegDate(now.minusMinutes(i * 7L));
+            board.setDelYn("N");
+            board.setViews(1_000L + i * 13L);
+            board.setCommentCount(i % 40);
+            board.setIsNew(i % 5 == 0 ? 1 : 0);
+            boards.add(board);
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.board.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 인스턴스 간에 전달되는 캐시 무효화 메시지 한 건을 표현합니다.
+ */
+@Getter
+@Builder
+public class CacheInvalidation {
+
+    private final Long id;                // 전송 계층에서 부여한 순번 (DB 전송 시 사용)
+    private final String cacheName;       // 캐시 이름 (CacheNames)
+    private final String cacheKey;        // 무효화할 키
+    private final String originNode;      // 발행한 인스턴스 ID
+    private final long publishedAt;       // 발행 시각 (epoch millis)
+}
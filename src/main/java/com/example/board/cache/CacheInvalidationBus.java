@@ -0,0 +1,31 @@
+package com.example.board.cache;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * DIP (Dependency Inversion Principle):
+ * Service 계층은 전송 방식(DB 폴링, 메모리)을 모른 채 이 인터페이스에만 무효화를 발행합니다.
+ *
+ * ISP (Interface Segregation Principle):
+ * 발행과 구독, 두 가지 기능만 정의합니다.
+ *
+ * 여러 인스턴스가 로드밸런서 뒤에서 동작할 때, 한 인스턴스의 쓰기로 인해
+ * 다른 인스턴스의 메모리 캐시가 오래된 값을 들고 있지 않도록 무효화를 전파합니다.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 무효화 발행
+     * 같은 인스턴스의 구독자에게는 즉시 전달되고, 다른 인스턴스에는 묶어서 전파됩니다.
+     * @param cacheName 캐시 이름 (CacheNames)
+     * @param cacheKey 무효화할 키
+     */
+    void publish(String cacheName, Object cacheKey);
+
+    /**
+     * 무효화 구독
+     * @param cacheName 캐시 이름 (CacheNames)
+     * @param listener 무효화 수신 콜백
+     */
+    void subscribe(String cacheName, CacheInvalidationListener listener);
+}
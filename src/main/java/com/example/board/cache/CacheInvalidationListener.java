@@ -0,0 +1,14 @@
+package com.example.board.cache;
+
+/**
+ * 캐시 무효화 수신 콜백
+ * 각 캐시 구현은 자신의 캐시 이름으로 구독하고, 키를 받으면 해당 항목을 제거합니다.
+ */
+@FunctionalInterface
+public interface CacheInvalidationListener {
+
+    /**
+     * @param cacheKey 무효화할 키
+     */
+    void onInvalidate(String cacheKey);
+}
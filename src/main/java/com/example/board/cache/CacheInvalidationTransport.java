@@ -0,0 +1,27 @@
+package com.example.board.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * SOLID 원칙 적용: OCP (Open-Closed Principle)
+ * 무효화 메시지를 인스턴스 간에 전달하는 방식을 추상화합니다.
+ * 새로운 전송 방식(메시지 브로커 등)은 이 인터페이스 구현체만 추가하면 됩니다.
+ *
+ * - db: t_cache_invalidation 테이블 폴링 (여러 인스턴스 운영용)
+ * - memory: 같은 JVM 안에서만 전달 (단일 인스턴스, 테스트용)
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 무효화 메시지 전송
+     * @param invalidations 전송할 메시지 목록 (중복 제거 완료)
+     */
+    void send(List<CacheInvalidation> invalidations);
+
+    /**
+     * 수신 시작
+     * @param receiver 다른 인스턴스에서 온 메시지를 전달받을 콜백
+     */
+    void start(Consumer<List<CacheInvalidation>> receiver);
+}
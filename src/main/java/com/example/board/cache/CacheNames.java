@@ -0,0 +1,16 @@
+package com.example.board.cache;
+
+/**
+ * 캐시 무효화 버스에서 사용하는 캐시 이름 상수
+ * 발행하는 쪽(Service)과 구독하는 쪽(각 캐시)이 같은 이름을 사용하도록 한 곳에서 관리합니다.
+ */
+public final class CacheNames {
+
+    public static final String BOARD = "board";                      // 키: 게시글 ID
+    public static final String COMMENT = "comment";                  // 키: 댓글 ID
+    public static final String BOARD_COMMENTS = "board-comments";    // 키: 게시글 ID (해당 게시글의 댓글 목록)
+    public static final String USER = "user";                        // 키: 사용자 ID
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.board.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * DIP (Dependency Inversion Principle):
+ * 게시글/댓글 Service는 사용자 테이블 조회 방식을 모른 채 이 인터페이스로 작성자 이름을 채웁니다.
+ *
+ * ISP (Interface Segregation Principle):
+ * 사용자 ID → 표시 이름 조회와 무효화만 정의합니다.
+ *
+ * 게시글/댓글 조회 쿼리는 users 테이블을 조인하지 않고 writer_id만 반환하며,
+ * 작성자 이름은 조회 결과 전체에 대해 이 캐시로 한 번에 채웁니다.
+ */
+public interface UserDisplayNameCache {
+
+    /**
+     * 사용자 표시 이름 일괄 조회
+     * 캐시에 없는 사용자만 모아 한 번의 IN 조회로 읽습니다.
+     * @param userIds 사용자 ID 목록 (중복, null 허용)
+     * @return 사용자 ID → 표시 이름 (탈퇴/비활성 사용자는 포함되지 않음)
+     */
+    Map<String, String> getDisplayNames(Collection<String> userIds);
+
+    /**
+     * 모든 사용자의 표시 이름이 캐시에 있는지 확인 (DB 조회 없음)
+     * 논블로킹 조회 경로에서 getDisplayNames가 DB 조회 없이 끝나는지 미리 판단하는 데 사용합니다.
+     * @param userIds 사용자 ID 목록 (중복, null 허용)
+     * @return 모두 캐시에 있으면 true
+     */
+    boolean isCached(Collection<String> userIds);
+
+    /**
+     * 사용자 표시 이름 무효화 (비활성화, 이름 변경 시)
+     * @param userId 사용자 ID
+     */
+    void invalidate(String userId);
+
+    /**
+     * 조회 결과의 작성자 이름 채우기
+     * @param items 게시글/댓글 목록
+     * @param writerId 작성자 ID 추출 함수
+     * @param writerName 작성자 이름 설정 함수 (탈퇴/비활성 사용자는 null)
+     */
+    default <T> void fillDisplayNames(Collection<T> items,
+                                      Function<T, String> writerId,
+                                      BiConsumer<T, String> writerName) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        List<String> userIds = items.stream().map(writerId).filter(Objects::nonNull).toList();
+        Map<String, String> names = getDisplayNames(userIds);
+        for (T item : items) {
+            String userId = writerId.apply(item);
+            writerName.accept(item, userId != null ? names.get(userId) : null);
+        }
+    }
+}
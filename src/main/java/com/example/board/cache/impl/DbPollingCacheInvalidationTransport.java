@@ -0,0 +1,138 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.cache.CacheInvalidationTransport;
+import com.example.board.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * t_cache_invalidation 테이블을 통한 무효화 메시지 전달만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 CacheInvalidationRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 별도 메시지 브로커 없이 이미 공유하고 있는 DB로 전파
+ * (cache.invalidation.transport=db)
+ * - 전송은 묶음 단위 다건 INSERT 한 번
+ * - 각 인스턴스는 마지막으로 읽은 id 이후를 짧은 주기로 폴링 (PK 범위 조회)
+ * - AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로 일정 구간(overlap)을 겹쳐 읽고,
+ *   최근 처리한 id로 중복을 제거
+ * - 보관 기간이 지난 메시지는 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "db")
+public class DbPollingCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final long UNINITIALIZED = -1L;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final int pollBatchSize;
+    private final long overlapIds;
+    private final long retentionMillis;
+
+    private volatile Consumer<List<CacheInvalidation>> receiver;
+    private long lastSeenId = UNINITIALIZED;
+
+    /** 최근에 전달한 메시지 id (겹쳐 읽은 구간의 중복 제거용, 크기 제한) */
+    private final Set<Long> recentIds;
+
+    public DbPollingCacheInvalidationTransport(
+            CacheInvalidationRepository cacheInvalidationRepository,
+            @Value("${cache.invalidation.db.poll-batch-size:500}") int pollBatchSize,
+            @Value("${cache.invalidation.db.overlap-ids:200}") long overlapIds,
+            @Value("${cache.invalidation.db.retention-minutes:10}") long retentionMinutes) {
+
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.pollBatchSize = pollBatchSize;
+        this.overlapIds = overlapIds;
+        this.retentionMillis = retentionMinutes * 60_000L;
+
+        int recentCapacity = (int) Math.max(overlapIds * 4, pollBatchSize * 2L);
+        this.recentIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > recentCapacity;
+            }
+        });
+    }
+
+    @Override
+    public void send(List<CacheInvalidation> invalidations) {
+        cacheInvalidationRepository.saveAll(invalidations);
+    }
+
+    @Override
+    public void start(Consumer<List<CacheInvalidation>> receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * 새 무효화 메시지 폴링
+     * 시작 시점 이전의 메시지는 읽지 않습니다. (새로 뜬 인스턴스의 캐시는 비어 있음)
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.db.poll-interval-ms:200}")
+    public synchronized void poll() {
+        if (receiver == null) {
+            return;
+        }
+
+        try {
+            if (lastSeenId == UNINITIALIZED) {
+                lastSeenId = cacheInvalidationRepository.findMaxId();
+                return;
+            }
+
+            // 겹쳐 읽는 구간의 행 수는 overlapIds 이하이므로, 조회 한도에 더해 새 메시지를 항상 pollBatchSize건 이상 읽음
+            int limit = (int) (pollBatchSize + overlapIds);
+            List<CacheInvalidation> rows;
+            do {
+                rows = cacheInvalidationRepository.findAfter(Math.max(0, lastSeenId - overlapIds), limit);
+
+                List<CacheInvalidation> fresh = new ArrayList<>(rows.size());
+                for (CacheInvalidation row : rows) {
+                    if (recentIds.add(row.getId())) {
+                        fresh.add(row);
+                    }
+                    lastSeenId = Math.max(lastSeenId, row.getId());
+                }
+
+                if (!fresh.isEmpty()) {
+                    receiver.accept(fresh);
+                }
+            } while (rows.size() == limit);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 폴링 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.db.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        try {
+            int deleted = cacheInvalidationRepository.deletePublishedBefore(System.currentTimeMillis() - retentionMillis);
+            if (deleted > 0) {
+                log.debug("오래된 캐시 무효화 메시지 삭제 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 정리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheInvalidationListener;
+import com.example.board.cache.CacheInvalidationTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 무효화 발행/구독 관리, 중복 제거(coalescing), 지연 지표만을 담당합니다.
+ * 인스턴스 간 전달은 CacheInvalidationTransport에 위임합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 전송 방식이 아닌 CacheInvalidationTransport 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 쓰기 경로에 원격 호출을 추가하지 않음
+ * - 같은 인스턴스의 구독자에게는 발행 즉시 전달
+ * - 원격 전파는 대기 집합에 모았다가 짧은 주기로 묶어서 전송,
+ *   같은 주기 안의 같은 (캐시, 키) 무효화는 한 건으로 합쳐짐
+ * - 수신 측도 한 묶음 안의 중복을 제거한 뒤 구독자에게 전달
+ * - 발행 시각과 적용 시각의 차이를 인스턴스별 지연 지표로 기록
+ */
+@Slf4j
+@Component
+public class DefaultCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final CacheInvalidationTransport transport;
+    private final String nodeId;
+
+    private final Map<String, List<CacheInvalidationListener>> listenersByCache = new ConcurrentHashMap<>();
+    private final Set<PendingInvalidation> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter coalescedCounter;
+    private final Counter receivedCounter;
+    private final Timer deliveryLagTimer;
+
+    public DefaultCacheInvalidationBus(
+            CacheInvalidationTransport transport,
+            MeterRegistry meterRegistry,
+            @Value("${cache.invalidation.node-id:}") String nodeId) {
+
+        this.transport = transport;
+        this.nodeId = StringUtils.hasText(nodeId)
+                ? nodeId
+                : "node-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        Tags nodeTag = Tags.of("node", this.nodeId);
+        this.publishedCounter = meterRegistry.counter("cache.invalidation.published", nodeTag);
+        this.coalescedCounter = meterRegistry.counter("cache.invalidation.coalesced", nodeTag);
+        this.receivedCounter = meterRegistry.counter("cache.invalidation.received", nodeTag);
+        this.deliveryLagTimer = Timer.builder("cache.invalidation.delivery")
+                .description("다른 인스턴스에서 발행된 무효화가 이 인스턴스에 적용되기까지 걸린 시간")
+                .tags(nodeTag)
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.invalidation.lag", nodeTag, lastLagMillis, AtomicLong::get);
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(this::onReceived);
+        log.info("캐시 무효화 버스 시작 - 인스턴스: {}, 전송 방식: {}", nodeId, transport.getClass().getSimpleName());
+    }
+
+    /**
+     * 무효화 발행
+     * 로컬 구독자에게 즉시 전달한 뒤, 원격 전파 대기 집합에 추가합니다.
+     */
+    @Override
+    public void publish(String cacheName, Object cacheKey) {
+        String key = String.valueOf(cacheKey);
+
+        deliver(cacheName, key);
+        publishedCounter.increment();
+
+        if (!pending.add(new PendingInvalidation(cacheName, key))) {
+            coalescedCounter.increment();
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, CacheInvalidationListener listener) {
+        listenersByCache.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 대기 중인 무효화를 묶어서 원격 전파
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.flush-interval-ms:100}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<CacheInvalidation> batch = new ArrayList<>();
+        Iterator<PendingInvalidation> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            PendingInvalidation invalidation = iterator.next();
+            iterator.remove();
+            batch.add(CacheInvalidation.builder()
+                    .cacheName(invalidation.cacheName())
+                    .cacheKey(invalidation.cacheKey())
+                    .originNode(nodeId)
+                    .publishedAt(now)
+                    .build());
+        }
+
+        try {
+            transport.send(batch);
+        } catch (Exception e) {
+            // 전송 실패 시 다음 주기에 재시도 (무효화는 여러 번 적용해도 결과가 같음)
+            log.error("캐시 무효화 전파 실패 - 건수: {}, 오류: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(invalidation ->
+                    pending.add(new PendingInvalidation(invalidation.getCacheName(), invalidation.getCacheKey())));
+        }
+    }
+
+    /**
+     * 종료 전 남은 무효화 전파
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 적용
+     */
+    private void onReceived(List<CacheInvalidation> invalidations) {
+        long now = System.currentTimeMillis();
+        Set<PendingInvalidation> applied = new HashSet<>();
+
+        for (CacheInvalidation invalidation : invalidations) {
+            if (nodeId.equals(invalidation.getOriginNode())) {
+                continue;
+            }
+
+            receivedCounter.increment();
+            if (!applied.add(new PendingInvalidation(invalidation.getCacheName(), invalidation.getCacheKey()))) {
+                continue;
+            }
+
+            deliver(invalidation.getCacheName(), invalidation.getCacheKey());
+
+            long lag = Math.max(0, now - invalidation.getPublishedAt());
+            lastLagMillis.set(lag);
+            deliveryLagTimer.record(lag, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void deliver(String cacheName, String cacheKey) {
+        List<CacheInvalidationListener> listeners = listenersByCache.get(cacheName);
+        if (listeners == null) {
+            return;
+        }
+
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidate(cacheKey);
+            } catch (Exception e) {
+                log.error("캐시 무효화 적용 실패 - 캐시: {}, 키: {}, 오류: {}", cacheName, cacheKey, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 전파 대기 중인 무효화 (캐시 이름 + 키가 같으면 같은 무효화로 취급)
+     */
+    private record PendingInvalidation(String cacheName, String cacheKey) {
+    }
+}
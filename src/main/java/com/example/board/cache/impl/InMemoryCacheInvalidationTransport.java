@@ -0,0 +1,54 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.cache.CacheInvalidationTransport;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * SOLID 원칙 적용: LSP (Liskov Substitution Principle)
+ * DB 전송과 같은 계약을 지키는 같은 JVM 내부 전송 구현체입니다.
+ *
+ * 단일 인스턴스 운영이나 한 JVM에 여러 애플리케이션 컨텍스트를 띄우는 테스트에서 사용합니다.
+ * (cache.invalidation.transport=memory, 기본값)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    /** 같은 JVM의 모든 컨텍스트가 공유하는 수신자 목록 */
+    private static final List<Consumer<List<CacheInvalidation>>> RECEIVERS = new CopyOnWriteArrayList<>();
+
+    private volatile Consumer<List<CacheInvalidation>> receiver;
+
+    @Override
+    public void send(List<CacheInvalidation> invalidations) {
+        for (Consumer<List<CacheInvalidation>> target : RECEIVERS) {
+            try {
+                target.accept(invalidations);
+            } catch (Exception e) {
+                log.error("캐시 무효화 전달 실패 - 건수: {}, 오류: {}", invalidations.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void start(Consumer<List<CacheInvalidation>> receiver) {
+        this.receiver = receiver;
+        RECEIVERS.add(receiver);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (receiver != null) {
+            RECEIVERS.remove(receiver);
+        }
+    }
+}
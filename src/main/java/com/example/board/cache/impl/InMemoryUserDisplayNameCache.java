@@ -0,0 +1,208 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.cache.UserDisplayNameCache;
+import com.example.board.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 사용자 ID → 표시 이름의 메모리 보관, 일괄 적재, 무효화만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 UserRepository, CacheInvalidationBus 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 조회 경로에서 조인과 락을 모두 없앰
+ * - 조회는 ConcurrentHashMap 읽기만 수행, 없는 사용자만 모아 load-batch-size 단위 IN 조회
+ * - 탈퇴/비활성 사용자도 "이름 없음"으로 저장하여 같은 사용자를 반복 조회하지 않음
+ * - 가입/비활성화 시 발행되는 USER 무효화를 구독하여 해당 항목 제거 (다른 인스턴스 포함)
+ * - 조회 중에 무효화가 일어났으면 읽은 값을 저장하지 않아 무효화 이전 값이 되살아나지 않음
+ * - 애플리케이션 밖에서 바뀐 이름은 ttl-seconds 안에 반영
+ * - max-entries를 넘으면 임의의 일부 항목을 제거 (다시 읽는 비용이 작으므로 LRU 정확도보다 락 없는 조회를 우선)
+ */
+@Slf4j
+@Component
+public class InMemoryUserDisplayNameCache implements UserDisplayNameCache {
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final int loadBatchSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 무효화 횟수 (적재 중 무효화 여부 판단용) */
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public InMemoryUserDisplayNameCache(
+            UserRepository userRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${user.display-name-cache.max-entries:100000}") int maxEntries,
+            @Value("${user.display-name-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${user.display-name-cache.load-batch-size:500}") int loadBatchSize) {
+
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.loadBatchSize = loadBatchSize;
+
+        this.hitCounter = meterRegistry.counter("user.display-name.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.display-name.cache", "result", "miss");
+        meterRegistry.gaugeMapSize("user.display-name.cache.size", List.of(), entries);
+    }
+
+    /**
+     * USER 무효화 구독 (생성이 끝난 뒤 등록하여 초기화되지 않은 객체가 버스에 노출되지 않도록 함)
+     */
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheNames.USER, this::invalidate);
+    }
+
+    /**
+     * 사용자 표시 이름 일괄 조회
+     * 캐시에 없거나 만료된 사용자만 IN 조회로 읽고, 조회 실패 시 이름 없이 반환합니다.
+     */
+    @Override
+    public Map<String, String> getDisplayNames(Collection<String> userIds) {
+        Map<String, String> names = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        long now = System.nanoTime();
+        int hits = 0;
+
+        for (String userId : userIds) {
+            if (userId == null || misses.contains(userId)) {
+                continue;
+            }
+
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits++;
+                if (entry.displayName() != null) {
+                    names.put(userId, entry.displayName());
+                }
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        hitCounter.increment(hits);
+        if (misses.isEmpty()) {
+            return names;
+        }
+        missCounter.increment(misses.size());
+
+        long invalidationsBefore = invalidations.get();
+        Map<String, String> loaded = new HashMap<>();
+        try {
+            List<String> missList = new ArrayList<>(misses);
+            for (int from = 0; from < missList.size(); from += loadBatchSize) {
+                loaded.putAll(userRepository.findDisplayNames(
+                        missList.subList(from, Math.min(from + loadBatchSize, missList.size()))));
+            }
+        } catch (Exception e) {
+            // 작성자 이름 때문에 게시글/댓글 조회 전체를 실패시키지 않음 (다음 조회에서 다시 적재)
+            log.warn("사용자 표시 이름 조회 실패 - 사용자 수: {}, 오류: {}", misses.size(), e.getMessage());
+            return names;
+        }
+
+        // 적재 중 무효화가 있었으면 무효화 이전 값일 수 있으므로 응답에만 사용
+        boolean cacheable = invalidations.get() == invalidationsBefore;
+        long expiresAt = System.nanoTime() + ttlNanos;
+        for (String userId : misses) {
+            String displayName = loaded.get(userId);
+            if (displayName != null) {
+                names.put(userId, displayName);
+            }
+            if (cacheable) {
+                entries.put(userId, new Entry(displayName, expiresAt));
+            }
+        }
+
+        if (entries.size() > maxEntries) {
+            evictOverflow();
+        }
+        return names;
+    }
+
+    /**
+     * 모든 사용자가 만료되지 않은 상태로 캐시에 있는지 확인
+     */
+    @Override
+    public boolean isCached(Collection<String> userIds) {
+        long now = System.nanoTime();
+        for (String userId : userIds) {
+            if (userId == null) {
+                continue;
+            }
+            Entry entry = entries.get(userId);
+            if (entry == null || entry.expiresAt() - now <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 사용자 표시 이름 무효화
+     */
+    @Override
+    public void invalidate(String userId) {
+        invalidations.incrementAndGet();
+        entries.remove(userId);
+    }
+
+    /**
+     * 상한을 넘은 만큼보다 조금 더(10%) 제거하여 매 적재마다 제거가 반복되지 않도록 함
+     */
+    private void evictOverflow() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int target = maxEntries - maxEntries / 10;
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 캐시 항목 (displayName이 null이면 탈퇴/비활성 사용자)
+     */
+    private record Entry(String displayName, long expiresAt) {
+    }
+}
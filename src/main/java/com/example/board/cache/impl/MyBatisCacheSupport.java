@@ -0,0 +1,115 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.mapper.BoardMapper;
+import com.example.board.mapper.CommentMapper;
+import com.example.board.mapper.UserMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.SimpleExecutor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * MyBatis 2차 캐시(WeightedMyBatisCache)를 애플리케이션의 지표와 캐시 무효화 버스에 연결하는 일만 담당합니다.
+ *
+ * 실무 원칙: 다른 인스턴스의 쓰기도 이 인스턴스의 2차 캐시에 반영
+ * - 같은 네임스페이스의 insert/update/delete는 MyBatis가 커밋 시 캐시를 비움 (flushCache 기본값)
+ * - 다른 인스턴스의 쓰기, 다른 네임스페이스(가져오기 등)의 쓰기는 Service가 발행하는 무효화를 받아 네임스페이스 캐시를 비움
+ * - 자주 실행되는 쓰기(조회수 반영 등)는 네임스페이스 전체 대신 해당 조회 항목만 제거 (evict)
+ * - 적중/실패/제거 횟수와 항목 수, 무게를 mybatis.cache.* 지표로 노출
+ */
+@Slf4j
+@Component
+public class MyBatisCacheSupport {
+
+    /** 무효화 캐시 이름 → 비울 Mapper 네임스페이스 */
+    private static final Map<String, String> NAMESPACES_BY_CACHE_NAME = Map.of(
+            CacheNames.BOARD, BoardMapper.class.getName(),
+            CacheNames.COMMENT, CommentMapper.class.getName(),
+            CacheNames.BOARD_COMMENTS, CommentMapper.class.getName(),
+            CacheNames.USER, UserMapper.class.getName());
+
+    private final Configuration configuration;
+
+    /** 캐시 키 계산 전용 (createCacheKey만 사용하므로 트랜잭션 없이 생성) */
+    private final Executor cacheKeyExecutor;
+
+    public MyBatisCacheSupport(SqlSessionFactory sqlSessionFactory,
+                               CacheInvalidationBus cacheInvalidationBus,
+                               MeterRegistry meterRegistry) {
+
+        this.configuration = sqlSessionFactory.getConfiguration();
+        this.cacheKeyExecutor = new SimpleExecutor(configuration, null);
+
+        NAMESPACES_BY_CACHE_NAME.forEach((cacheName, namespace) -> {
+            if (configuration.hasCache(namespace)) {
+                Cache cache = configuration.getCache(namespace);
+                cacheInvalidationBus.subscribe(cacheName, cacheKey -> cache.clear());
+            }
+        });
+
+        for (String id : configuration.getCacheNames()) {
+            WeightedMyBatisCache.find(id).ifPresent(cache -> registerMetrics(cache, meterRegistry));
+        }
+    }
+
+    /**
+     * 조회 문장의 파라미터별 캐시 항목만 제거
+     * MyBatis가 조회할 때와 같은 방식(Executor.createCacheKey)으로 키를 계산하므로 다른 항목은 그대로 남습니다.
+     * @param statementId 조회 문장 ID (네임스페이스.id)
+     * @param parameters 조회 파라미터 목록 (파라미터 하나당 항목 하나)
+     */
+    public void evict(String statementId, Collection<?> parameters) {
+        MappedStatement statement = configuration.getMappedStatement(statementId);
+        Cache cache = statement.getCache();
+        if (cache == null || !statement.isUseCache()) {
+            return;
+        }
+        for (Object parameter : parameters) {
+            CacheKey key = cacheKeyExecutor.createCacheKey(
+                    statement, parameter, RowBounds.DEFAULT, statement.getBoundSql(parameter));
+            cache.removeObject(key);
+        }
+    }
+
+    private void registerMetrics(WeightedMyBatisCache cache, MeterRegistry meterRegistry) {
+        String id = cache.getId();
+        Tags tags = Tags.of("cache", id.substring(id.lastIndexOf('.') + 1));
+
+        FunctionCounter.builder("mybatis.cache.gets", cache, WeightedMyBatisCache::getHitCount)
+                .tags(tags.and("result", "hit"))
+                .register(meterRegistry);
+        FunctionCounter.builder("mybatis.cache.gets", cache, WeightedMyBatisCache::getMissCount)
+                .tags(tags.and("result", "miss"))
+                .register(meterRegistry);
+        FunctionCounter.builder("mybatis.cache.evictions", cache, WeightedMyBatisCache::getEvictionCount)
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("mybatis.cache.size", cache, WeightedMyBatisCache::getSize)
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("mybatis.cache.weight", cache, WeightedMyBatisCache::getWeightBytes)
+                .tags(tags)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("MyBatis 2차 캐시 지표 등록 - 캐시: {}", id);
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.board.cache.impl;
+
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.apache.ibatis.io.Resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * MyBatis 2차 캐시 항목의 보관, 만료, 크기 기반 제거, 적중 통계만을 담당합니다.
+ * 지표 등록과 인스턴스 간 무효화 연결은 MyBatisCacheSupport가 담당합니다.
+ *
+ * LSP (Liskov Substitution Principle):
+ * MyBatis Cache 인터페이스를 구현하여 Mapper XML의 &lt;cache type="..."/&gt;로 기본 캐시를 대체합니다.
+ *
+ * 실무 원칙: 여러 요청이 같은 캐시를 동시에 읽어도 서로 막지 않음
+ * - 조회/저장은 ConcurrentHashMap 연산만 수행 (SynchronizedCache 같은 전역 락 없음)
+ * - 값은 직렬화한 바이트로 보관하고 조회마다 새 객체로 복원 (호출자가 결과를 수정해도 캐시는 그대로)
+ * - 직렬화한 바이트 수를 항목 무게로 삼아 전체 무게가 max-weight-bytes를 넘으면
+ *   만료된 항목부터, 그다음 가장 오래 조회되지 않은 항목부터 상한의 90%까지 제거
+ * - 제거는 한 스레드만 수행하고, 다른 스레드는 기다리지 않고 그대로 진행
+ * - 항목마다 ttl-seconds가 지나면 조회 시 만료 처리
+ *
+ * MyBatis가 Mapper XML을 읽을 때 생성하므로 Spring 빈이 아니며, 속성은 &lt;property&gt;로 주입됩니다.
+ */
+public class WeightedMyBatisCache implements Cache, InitializingObject {
+
+    /** 지표 등록을 위해 네임스페이스별 인스턴스를 보관 */
+    private static final Map<String, WeightedMyBatisCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final String id;
+    private final LongSupplier nanoClock;
+    private long maxWeightBytes = 16L * 1024 * 1024;
+    private long ttlSeconds = 300;
+    private long ttlNanos;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public WeightedMyBatisCache(String id) {
+        this(id, System::nanoTime);
+    }
+
+    WeightedMyBatisCache(String id, LongSupplier nanoClock) {
+        this.id = id;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 네임스페이스(캐시 ID)로 생성된 캐시 조회
+     */
+    public static Optional<WeightedMyBatisCache> find(String id) {
+        return Optional.ofNullable(INSTANCES.get(id));
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 속성 주입이 끝난 뒤 MyBatis가 호출
+     */
+    @Override
+    public void initialize() {
+        if (maxWeightBytes <= 0 || ttlSeconds <= 0) {
+            throw new CacheException("캐시 설정이 올바르지 않습니다 - 캐시: " + id
+                    + ", maxWeightBytes: " + maxWeightBytes + ", ttlSeconds: " + ttlSeconds);
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        INSTANCES.put(id, this);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        if (value == null) {
+            removeObject(key);
+            return;
+        }
+
+        byte[] bytes = serialize(value);
+        if (bytes.length > maxWeightBytes) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        Entry entry = new Entry(bytes, now + ttlNanos, now);
+        Entry previous = entries.put(key, entry);
+        long total = weight.addAndGet(bytes.length - (previous != null ? previous.bytes.length : 0));
+
+        if (total > maxWeightBytes) {
+            evictOverweight();
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Entry entry = entries.get(key);
+        long now = nanoClock.getAsLong();
+
+        if (entry == null || entry.isExpired(now)) {
+            if (entry != null) {
+                discard(key, entry);
+            }
+            misses.increment();
+            return null;
+        }
+
+        entry.lastAccess = now;
+        hits.increment();
+        return deserialize(entry.bytes);
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        weight.addAndGet(-entry.bytes.length);
+        return deserialize(entry.bytes);
+    }
+
+    @Override
+    public void clear() {
+        entries.forEach(this::discard);
+    }
+
+    @Override
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getWeightBytes() {
+        return weight.get();
+    }
+
+    /**
+     * 만료된 항목, 그다음 오래 조회되지 않은 항목 순으로 상한의 90%까지 제거
+     */
+    private void evictOverweight() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            long target = maxWeightBytes - maxWeightBytes / 10;
+            long now = nanoClock.getAsLong();
+
+            List<Map.Entry<Object, Entry>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<Object, Entry> candidate : entries.entrySet()) {
+                if (candidate.getValue().isExpired(now)) {
+                    discard(candidate.getKey(), candidate.getValue());
+                } else {
+                    candidates.add(candidate);
+                }
+            }
+
+            if (weight.get() <= target) {
+                return;
+            }
+
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (Map.Entry<Object, Entry> candidate : candidates) {
+                if (weight.get() <= target) {
+                    break;
+                }
+                if (discard(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 항목이 그대로일 때만 제거하고 무게 차감 (그 사이 새 값으로 바뀌었으면 유지)
+     */
+    private boolean discard(Object key, Entry entry) {
+        if (!entries.remove(key, entry)) {
+            return false;
+        }
+        weight.addAndGet(-entry.bytes.length);
+        return true;
+    }
+
+    private byte[] serialize(Object value) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new CacheException("캐시 값 직렬화 실패 - 캐시: " + id + ", 값: " + value.getClass().getName(), e);
+        }
+    }
+
+    private Object deserialize(byte[] bytes) {
+        try (ObjectInputStream input = new ClassLoaderAwareObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("캐시 값 역직렬화 실패 - 캐시: " + id, e);
+        }
+    }
+
+    /**
+     * 캐시 항목 (lastAccess는 제거 순서 판단용으로만 쓰므로 경합 시 어느 값이 남아도 무방)
+     */
+    private static final class Entry {
+
+        private final byte[] bytes;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(byte[] bytes, long expiresAt, long createdAt) {
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+            this.lastAccess = createdAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * 애플리케이션 클래스 로더로 클래스를 찾는 ObjectInputStream (실행 가능한 jar 환경 대응)
+     */
+    private static final class ClassLoaderAwareObjectInputStream extends ObjectInputStream {
+
+        private ClassLoaderAwareObjectInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws ClassNotFoundException {
+            return Resources.classForName(desc.getName());
+        }
+    }
+}
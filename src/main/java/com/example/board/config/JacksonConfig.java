@@ -0,0 +1,50 @@
+package com.example.board.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 애플리케이션 공용 ObjectMapper와 Jackson 기반 메시지 컨버터 설정만을 담당하는 설정 클래스입니다.
+ *
+ * - 부분 필드 선택(FieldSelection)용 @JsonFilter가 붙은 객체도
+ *   필터를 지정하지 않은 곳(상세 조회, 댓글 피드 등)에서는 모든 필드를 직렬화하도록 기본 필터를 등록
+ * - 내부 서비스 간 호출을 위해 Accept: application/cbor, application/x-jackson-smile 응답 지원
+ *   (JSON과 같은 빌더 설정을 사용하므로 날짜 형식, 필터 등 응답 구조가 동일)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultPropertyFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * CBOR 응답 컨버터 (Spring Boot의 Jackson 설정이 적용된 빌더 사용)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * Smile 응답 컨버터 (Spring Boot의 Jackson 설정이 적용된 빌더 사용)
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper smileMapper = builder.createXmlMapper(false).factory(new SmileFactory()).build();
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+}
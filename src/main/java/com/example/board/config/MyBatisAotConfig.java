@@ -0,0 +1,77 @@
+package com.example.board.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 빠른 기동 빌드(-Paot)에서 MyBatis Mapper 빈 정의를 AOT 처리 결과로 고정하는 설정만을 담당합니다.
+ *
+ * - 빌드 시점에 스캔된 Mapper 빈 정의가 생성 코드에 포함되므로,
+ *   실행 시 Mapper 스캐너(MapperScannerConfigurer)가 같은 이름의 빈을 다시 등록하지 않도록 제외
+ * - Mapper 인터페이스를 클래스 이름(문자열)이 아닌 Class로, 빈 타입을 MapperFactoryBean&lt;Mapper&gt;로 기록하여
+ *   생성 코드에서도 생성자 인자와 타입 기반 주입이 유지되도록 함
+ * - 생성 코드에는 autowire 모드가 남지 않으므로 SqlSessionTemplate 참조를 명시적으로 기록
+ *
+ * 일반 실행에서는 같은 값을 미리 해석해 둘 뿐이므로 동작이 달라지지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MyBatisAotConfig {
+
+    @Bean
+    public static MapperAotProcessor mapperAotProcessor() {
+        return new MapperAotProcessor();
+    }
+
+    /** MybatisAutoConfiguration이 등록하는 SqlSessionTemplate 빈 이름 */
+    private static final String SQL_SESSION_TEMPLATE = "sqlSessionTemplate";
+
+    static class MapperAotProcessor implements BeanFactoryInitializationAotProcessor,
+            BeanRegistrationExcludeFilter, MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+            // 추가로 생성할 코드 없음 (빈 정의 제외/보정만 담당)
+            return null;
+        }
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class == registeredBean.getBeanClass();
+        }
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!MapperFactoryBean.class.isAssignableFrom(beanType)
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+
+            if (beanDefinition.getPropertyValues().get("mapperInterface") instanceof Class<?> mapperInterface) {
+                ConstructorArgumentValues constructorArguments = new ConstructorArgumentValues();
+                constructorArguments.addGenericArgumentValue(mapperInterface);
+                beanDefinition.setConstructorArgumentValues(constructorArguments);
+                beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(MapperFactoryBean.class, mapperInterface));
+            }
+
+            if (beanDefinition.getAutowireMode() == AutowireCapableBeanFactory.AUTOWIRE_BY_TYPE
+                    && !beanDefinition.getPropertyValues().contains("sqlSessionFactory")
+                    && !beanDefinition.getPropertyValues().contains("sqlSessionTemplate")) {
+                beanDefinition.getPropertyValues().add("sqlSessionTemplate", new RuntimeBeanReference(SQL_SESSION_TEMPLATE));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 논블로킹 조회 경로(/reactive/**)의 DB 접근 구성과, 이와 함께 쓰는 JDBC 커넥션 풀 등록만을 담당하는 설정 클래스입니다.
+ *
+ * - R2DBC 커넥션 풀(ConnectionFactory)은 spring.r2dbc.* 설정으로 Spring Boot가 생성 (풀 크기는 spring.r2dbc.pool.*)
+ * - Spring Boot는 ConnectionFactory가 있으면 JDBC DataSource 자동 구성을 건너뛰므로,
+ *   MyBatis가 쓰는 Hikari 풀은 여기서 spring.datasource.* 설정으로 직접 등록
+ * - 쓰기는 모두 MyBatis/JDBC 트랜잭션으로 처리하므로 R2DBC 트랜잭션 관리자는 등록하지 않음
+ *   (spring.autoconfigure.exclude, 트랜잭션 관리자가 두 개가 되어 @Transactional이 어느 쪽인지 정하지 못하는 것 방지)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
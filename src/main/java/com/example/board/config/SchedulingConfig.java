@@ -0,0 +1,26 @@
+package com.example.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 주기 작업(@Scheduled) 활성화만을 담당하는 설정 클래스입니다.
+ *
+ * - 댓글 피드 하트비트 전송
+ * - 게시글 조회수 일괄 반영
+ * - 삭제 데이터 보관 작업
+ * - 캐시 무효화 전파 및 폴링
+ * - 토큰 폐기 목록 동기화 및 정리
+ * - 만료된 멱등성 키 정리
+ * - 요청 빈도 제한 상태 정리
+ * - 사용자 활동 집계 야간 재집계
+ * - 게시글 존재 여부 비트맵 재확인 및 재적재
+ *
+ * 보관 작업처럼 오래 걸리는 작업이 짧은 주기 작업을 막지 않도록
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 설정합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
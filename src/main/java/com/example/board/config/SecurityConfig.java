@@ -1,17 +1,35 @@
 package com.example.board.config;
 
+import com.example.board.ratelimit.RateLimitFilter;
+import com.example.board.ratelimit.RateLimitProperties;
+import com.example.board.ratelimit.RateLimiter;
 import com.example.board.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * SOLID 원칙 적용: SRP (Single Responsibility Principle)
@@ -21,13 +39,25 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * - 세션 사용하지 않음 (Stateless)
  * - JWT 토큰 기반 인증
  * - 특정 엔드포인트는 인증 없이 접근 가능
+ * 
+ * 실무 원칙: 트래픽 대부분인 익명 조회 요청은 인증 처리를 건너뜀
+ * - 토큰 없는 GET /board/**, /comment/**, /reactive/** 요청은 별도의 경량 필터 체인(@Order(1))에서 처리
+ *   (인증이 필요한 /board/my, /comment/my 제외)
+ *   (JWT 필터, 익명 인증 객체 생성, SecurityContext 저장/복원, 요청 캐시 등을 거치지 않음)
+ * - 토큰이 있는 요청과 나머지 요청은 기존 필터 체인에서 처리
+ * - 성능 비교: ./gradlew jmh (PublicReadFilterChainBenchmark)
+ * 
+ * 요청 빈도 제한(RateLimitFilter)은 JWT 필터 다음에 실행되어 사용자 ID 또는 IP 기준으로
+ * 로그인/등록 요청을 제한합니다 (규칙: rate-limit.rules).
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
 
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
@@ -38,10 +68,50 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * JWT 필터의 서블릿 필터 자동 등록 비활성화
+     * @Component 필터는 Spring Boot가 모든 요청에 다시 등록하므로,
+     * 보안 필터 체인 안에서만 실행되도록 자동 등록을 끕니다.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * 익명 공개 조회 전용 경량 필터 체인
+     * 토큰 없이 들어온 게시글/댓글 GET 요청만 처리하며, 인증 관련 필터를 모두 제외합니다.
+     * (security.public-read-fast-path.enabled=false 이면 기존 필터 체인에서 처리)
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "security.public-read-fast-path.enabled", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(anonymousPublicRead())
+            
+            // 요청마다 생성/저장하던 보안 컨텍스트, 익명 인증 객체, 세션/요청 캐시 처리 제외
+            .csrf(AbstractHttpConfigurer::disable)
+            .securityContext(AbstractHttpConfigurer::disable)
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .anonymous(AbstractHttpConfigurer::disable)
+            .servletApi(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .exceptionHandling(AbstractHttpConfigurer::disable)
+            
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
     /**
      * Spring Security 필터 체인 설정
      */
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             // CSRF 보호 비활성화 (JWT 사용시 불필요)
@@ -57,6 +127,14 @@ public class SecurityConfig {
                 // 인증 없이 접근 가능한 엔드포인트
                 .requestMatchers("/auth/**").permitAll()           // 로그인, 회원가입 등
                 .requestMatchers("/error").permitAll()             // 에러 페이지
+                .requestMatchers("/actuator/health").permitAll()   // 헬스 체크
+                
+                // 관리자 API와 운영 지표는 ADMIN 역할 필요
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                
+                // 내 게시글/댓글 목록은 인증 필요 (아래 공개 조회 규칙보다 먼저 적용)
+                .requestMatchers(HttpMethod.GET, "/board/my", "/comment/my").authenticated()
                 
                 // 게시글 조회는 인증 없이 접근 가능
                 .requestMatchers(HttpMethod.GET, "/board").permitAll()      // 게시글 목록 조회
@@ -66,13 +144,64 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/comment").permitAll()    // 전체 댓글 조회
                 .requestMatchers(HttpMethod.GET, "/comment/**").permitAll() // 특정 게시글 댓글 조회
                 
+                // 논블로킹 게시글/댓글 조회는 인증 없이 접근 가능
+                .requestMatchers(HttpMethod.GET, "/reactive/**").permitAll()
+                
+                // 사용자 활동 집계 조회는 인증 없이 접근 가능
+                .requestMatchers(HttpMethod.GET, "/users/*/stats", "/users/stats", "/users/top").permitAll()
+                
                 // 나머지 요청 (POST, PUT, DELETE 등)은 인증 필요
                 .anyRequest().authenticated()
             )
             
             // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 추가
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            
+            // 요청 빈도 제한: 인증 결과(사용자 ID)를 키로 쓰기 위해 JWT 필터 다음에 추가
+            .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /** 인증이 필요한 내 목록 조회 (기존 필터 체인에서 처리) */
+    private static final List<PathPattern> AUTHENTICATED_READ_PATHS = parsePatterns("/board/my", "/comment/my");
+
+    /** 경량 필터 체인에서 처리하는 공개 조회 */
+    private static final List<PathPattern> PUBLIC_READ_PATHS =
+            parsePatterns("/board", "/board/**", "/comment", "/comment/**", "/reactive/**");
+
+    /**
+     * 경량 필터 체인 대상: Authorization 헤더가 없는 게시글/댓글 GET 요청
+     * (헤더 확인 후에만 경로를 해석하며, 해석한 경로는 요청에 저장되어 DispatcherServlet이 다시 사용)
+     */
+    private static RequestMatcher anonymousPublicRead() {
+        return request -> HttpMethod.GET.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                && isPublicReadPath(request);
+    }
+
+    /**
+     * 컨트롤러 매핑과 같은 방식(PathPattern, 디코딩된 경로 세그먼트)으로 비교하므로
+     * /board/%6Dy 처럼 인코딩된 경로도 /board/my로 판단합니다.
+     */
+    static boolean isPublicReadPath(HttpServletRequest request) {
+        PathContainer path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+        if (matchesAny(AUTHENTICATED_READ_PATHS, path)) {
+            return false;
+        }
+        return matchesAny(PUBLIC_READ_PATHS, path);
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> parsePatterns(String... patterns) {
+        return Arrays.stream(patterns).map(PathPatternParser.defaultInstance::parse).toList();
+    }
+}
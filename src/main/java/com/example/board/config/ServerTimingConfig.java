@@ -0,0 +1,61 @@
+package com.example.board.config;
+
+import com.example.board.timing.ServerTimingFilter;
+import com.example.board.timing.ServerTimingHttpMessageConverter;
+import com.example.board.timing.ServerTimingMyBatisInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 요청 단계별 시간 측정(Server-Timing)에 필요한 구성요소 등록만을 담당하는 설정 클래스입니다.
+ *
+ * - 측정 단계: auth(JWT 인증), db-*(Mapper별 쿼리), serialize(응답 직렬화), total
+ * - server-timing.enabled=false(기본값)이면 아무것도 등록하지 않으며,
+ *   남는 비용은 측정 지점마다 ThreadLocal 조회 한 번뿐입니다.
+ * - 응답 본문 버퍼링과 내부 단계 이름 노출이 있으므로 측정 환경(perf 프로필)에서만 활성화합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(meterRegistry));
+        // 요청 로그 문맥(RequestLogContextFilter) 다음, 보안 필터 체인보다 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingMyBatisInterceptor serverTimingMyBatisInterceptor() {
+        return new ServerTimingMyBatisInterceptor();
+    }
+
+    /**
+     * Jackson 계열 메시지 컨버터(JSON, CBOR, Smile)를 직렬화 시간 측정 컨버터로 감쌈
+     */
+    @Bean
+    public WebMvcConfigurer serverTimingMessageConverters() {
+        return new WebMvcConfigurer() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.replaceAll(converter -> converter instanceof AbstractJackson2HttpMessageConverter
+                        ? new ServerTimingHttpMessageConverter((GenericHttpMessageConverter<Object>) converter)
+                        : converter);
+            }
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.board.controller;
+
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.ArchiveStatus;
+import com.example.board.dto.BoardBulkDeleteRequest;
+import com.example.board.dto.BoardDeleteResult;
+import com.example.board.dto.ImportResult;
+import com.example.board.service.ArchiveService;
+import com.example.board.service.AuthService;
+import com.example.board.service.BoardService;
+import com.example.board.service.DataTransferService;
+import com.example.board.service.UserActivityService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * SOLID 원칙 적용:
+ * 
+ * SRP (Single Responsibility Principle): 
+ * 관리자 전용 HTTP 요청/응답 처리만을 담당합니다. (ADMIN 역할 필요)
+ * 
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 구현체가 아닌 서비스 인터페이스에 의존합니다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ArchiveService archiveService;
+    private final AuthService authService;
+    private final BoardService boardService;
+    private final DataTransferService dataTransferService;
+    private final UserActivityService userActivityService;
+
+    /**
+     * 삭제 데이터 보관 작업 진행 상황 조회 - GET /admin/archive
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<ApiResponse<ArchiveStatus>> getArchiveStatus() {
+        ApiResponse<ArchiveStatus> response = ApiResponse.success(
+            "보관 작업 상태 조회가 완료되었습니다.", 
+            archiveService.getStatus()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 삭제 데이터 보관 작업 즉시 실행 - POST /admin/archive
+     * 백그라운드에서 시작하고 바로 202를 반환 (진행 상황은 GET /admin/archive),
+     * 이미 실행 중이면 409
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<ApiResponse<ArchiveStatus>> runArchive() {
+        if (!archiveService.startArchive()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.failure("보관 작업이 이미 실행 중입니다."));
+        }
+
+        ApiResponse<ArchiveStatus> response = ApiResponse.success(
+            "보관 작업이 시작되었습니다.", 
+            archiveService.getStatus()
+        );
+        
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 게시글 일괄 삭제 - POST /admin/boards/bulk-delete
+     * 게시글과 해당 게시글의 댓글을 함께 논리 삭제
+     */
+    @PostMapping("/boards/bulk-delete")
+    public ResponseEntity<ApiResponse<BoardDeleteResult>> deleteBoards(
+            @Valid @RequestBody BoardBulkDeleteRequest request) {
+        
+        ApiResponse<BoardDeleteResult> result = boardService.deleteBoards(request.getBoardIds());
+        
+        return result.isSuccess() 
+            ? ResponseEntity.ok(result)
+            : ResponseEntity.internalServerError().body(result);
+    }
+
+    /**
+     * 사용자 계정 비활성화 - PUT /admin/users/{userId}/deactivate
+     * 이미 발급된 토큰도 즉시 사용할 수 없게 됨
+     */
+    @PutMapping("/users/{userId}/deactivate")
+    public ResponseEntity<ApiResponse<Void>> deactivateUser(@PathVariable String userId) {
+        authService.deactivateUser(userId);
+        
+        ApiResponse<Void> response = ApiResponse.success("사용자 계정이 비활성화되었습니다.");
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 내보내기 - GET /admin/export/boards
+     * 한 줄에 게시글 하나(NDJSON)를 idx 순으로 스트리밍, 중단된 경우 afterIdx로 이어서 받음
+     * 예시: GET /admin/export/boards?gzip=true&afterIdx=0
+     */
+    @GetMapping("/export/boards")
+    public ResponseEntity<StreamingResponseBody> exportBoards(
+            @RequestParam(defaultValue = "0") long afterIdx,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        return exportResponse("boards", gzip, out -> dataTransferService.exportBoards(afterIdx, gzip, out));
+    }
+
+    /**
+     * 댓글 내보내기 - GET /admin/export/comments
+     * 한 줄에 댓글 하나(NDJSON)를 idx 순으로 스트리밍, 중단된 경우 afterIdx로 이어서 받음
+     */
+    @GetMapping("/export/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(defaultValue = "0") long afterIdx,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        return exportResponse("comments", gzip, out -> dataTransferService.exportComments(afterIdx, gzip, out));
+    }
+
+    /**
+     * 게시글 가져오기 - POST /admin/import/boards
+     * 요청 본문은 내보내기 결과 그대로 (NDJSON 또는 gzip), 중단된 경우 같은 파일을 다시 올리면 이어서 처리
+     * (체크포인트까지의 내용이 다른 파일이면 400, resume=false로 처음부터 처리)
+     * 예시: curl --data-binary @boards.ndjson.gz -H 'Content-Type: application/x-ndjson' .../admin/import/boards
+     */
+    @PostMapping("/import/boards")
+    public ResponseEntity<ApiResponse<ImportResult>> importBoards(
+            @RequestParam(defaultValue = "true") boolean resume,
+            HttpServletRequest request) throws IOException {
+        
+        ApiResponse<ImportResult> result = dataTransferService.importBoards(request.getInputStream(), resume);
+        
+        return result.isSuccess() 
+            ? ResponseEntity.ok(result)
+            : ResponseEntity.internalServerError().body(result);
+    }
+
+    /**
+     * 댓글 가져오기 - POST /admin/import/comments
+     * 게시글을 먼저 가져온 뒤 실행 (외래키)
+     */
+    @PostMapping("/import/comments")
+    public ResponseEntity<ApiResponse<ImportResult>> importComments(
+            @RequestParam(defaultValue = "true") boolean resume,
+            HttpServletRequest request) throws IOException {
+        
+        ApiResponse<ImportResult> result = dataTransferService.importComments(request.getInputStream(), resume);
+        
+        return result.isSuccess() 
+            ? ResponseEntity.ok(result)
+            : ResponseEntity.internalServerError().body(result);
+    }
+
+    /**
+     * 사용자 활동 집계 즉시 재집계 - POST /admin/user-activity/reconcile
+     * 작업이 끝날 때까지 응답을 기다리며, 다시 계산한 사용자 수를 반환
+     */
+    @PostMapping("/user-activity/reconcile")
+    public ResponseEntity<ApiResponse<Long>> reconcileUserActivity() {
+        ApiResponse<Long> response = ApiResponse.success(
+            "사용자 활동 재집계가 완료되었습니다.", 
+            userActivityService.reconcile()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, boolean gzip, StreamingResponseBody body) {
+        String filename = gzip ? name + ".ndjson.gz" : name + ".ndjson";
+        
+        return ResponseEntity.ok()
+            .contentType(gzip ? GZIP : NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+}
@@ -58,6 +58,24 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 로그아웃 - POST /auth/logout
+     * 현재 토큰을 폐기하여 만료 전이라도 더 이상 사용할 수 없게 함
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestHeader("Authorization") String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            ApiResponse<Void> response = ApiResponse.failure("토큰이 없거나 형식이 올바르지 않습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        
+        authService.logout(authHeader.substring(7)); // "Bearer " 제거
+        
+        ApiResponse<Void> response = ApiResponse.success("로그아웃이 완료되었습니다.");
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 토큰 검증 - GET /auth/validate
      * 개발/테스트 목적으로 토큰 유효성을 확인하는 엔드포인트
@@ -1,18 +1,28 @@
 package com.example.board.controller;
 
 import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
 import com.example.board.dto.ApiResponse;
+import com.example.board.dto.IdempotentResponse;
+import com.example.board.dto.BoardBatchResponse;
 import com.example.board.dto.BoardDetailResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.TrendingBoard;
 import com.example.board.service.BoardService;
+import com.example.board.service.TrendingService;
+import com.example.board.service.IdempotencyService;
+import com.example.board.util.FieldSelection;
 import com.example.board.util.JwtTokenUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SOLID 원칙 적용:
@@ -31,21 +41,29 @@ import java.util.List;
 @RequestMapping("/board")
 public class BoardController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final BoardService boardService;
+    private final TrendingService trendingService;
+    private final IdempotencyService idempotencyService;
     private final JwtTokenUtil jwtTokenUtil;
 
     /**
      * 게시글 목록 조회 - GET /board
      * 실무 원칙: 쿼리스트링 활용한 페이징과 검색 기능
      * 예시: GET /board?page=1&size=10&keyword=검색어
+     * 부분 필드 선택: GET /board?fields=title,regDate (선택한 필드의 컬럼만 조회하고 응답, idx는 항상 포함)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BoardV0>>> getBoardList(
+    public ResponseEntity<MappingJacksonValue> getBoardList(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String fields) {
         
-        List<BoardV0> boardList = boardService.getBoardList();
+        FieldSelection selection = FieldSelection.parse(fields, BoardV0.SELECTABLE_FIELDS);
+        List<BoardV0> boardList = boardService.getBoardList(selection);
         
         ApiResponse<List<BoardV0>> response = ApiResponse.success(
             "게시글 목록 조회가 완료되었습니다.", 
@@ -53,6 +71,51 @@ public class BoardController {
             boardList.size()
         );
         
+        return ResponseEntity.ok(selection.applyTo(response, BoardV0.FIELD_FILTER));
+    }
+
+    /**
+     * 게시글 여러 건 조회 (댓글 첫 페이지 포함) - GET /board?ids=1,2,3&commentSize=20
+     * 피드/알림 화면처럼 여러 게시글이 한 번에 필요한 경우 N번의 상세 조회 대신 사용
+     * 없거나 삭제된 게시글은 오류 대신 missingIds로 반환
+     * 부분 필드 선택: fields=title,views (게시글), commentFields=comment,regDate (댓글) - 응답에서만 제외
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MappingJacksonValue> getBoardsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "20") int commentSize,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String commentFields) {
+        
+        Map<String, FieldSelection> selections = detailSelections(fields, commentFields);
+        BoardBatchResponse batch = boardService.getBoardsWithComments(ids, commentSize);
+        
+        ApiResponse<BoardBatchResponse> response = ApiResponse.success(
+            "게시글 여러 건 조회가 완료되었습니다.", 
+            batch, 
+            batch.getBoards().size()
+        );
+        
+        return ResponseEntity.ok(FieldSelection.applyAll(response, selections));
+    }
+
+    /**
+     * 인기 게시글 조회 - GET /board/trending?size=10
+     * 최근 댓글/조회수에 시간 감쇠를 적용한 점수 순으로 게시글 번호와 점수를 반환
+     * 실무 원칙: 요청마다 집계 쿼리를 실행하지 않고 메모리에 유지된 순위를 사용
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingBoard>>> getTrendingBoards(
+            @RequestParam(defaultValue = "10") int size) {
+        
+        List<TrendingBoard> trendingBoards = trendingService.getTopBoards(size);
+        
+        ApiResponse<List<TrendingBoard>> response = ApiResponse.success(
+            "인기 게시글 조회가 완료되었습니다.", 
+            trendingBoards, 
+            trendingBoards.size()
+        );
+        
         return ResponseEntity.ok(response);
     }
 
@@ -60,9 +123,15 @@ public class BoardController {
      * 게시글 상세 조회 (댓글 포함) - GET /board/{idx}
      * 책임: HTTP 요청 처리 및 응답 반환
      * OCP 적용: 예외 처리는 GlobalExceptionHandler에 위임
+     * 부분 필드 선택: fields=title,content (게시글), commentFields=comment,regDate (댓글) - 응답에서만 제외
      */
     @GetMapping("/{idx}")
-    public ResponseEntity<ApiResponse<BoardDetailResponse>> getBoardWithComments(@PathVariable Long idx) {
+    public ResponseEntity<MappingJacksonValue> getBoardWithComments(
+            @PathVariable Long idx,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String commentFields) {
+        
+        Map<String, FieldSelection> selections = detailSelections(fields, commentFields);
         BoardDetailResponse boardDetail = boardService.getBoardWithComments(idx);
         
         ApiResponse<BoardDetailResponse> response = ApiResponse.success(
@@ -70,17 +139,49 @@ public class BoardController {
             boardDetail
         );
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(FieldSelection.applyAll(response, selections));
+    }
+
+    /**
+     * 내 게시글 목록 조회 - GET /board/my?size=20&cursor=...
+     * 로그인한 사용자가 작성한 게시글을 최신순으로 한 페이지씩 반환 (인증 필요)
+     * 부분 필드 선택: fields=title,regDate (응답에서만 제외)
+     */
+    @GetMapping("/my")
+    public ResponseEntity<MappingJacksonValue> getMyBoards(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        
+        FieldSelection selection = FieldSelection.parse(fields, BoardV0.SELECTABLE_FIELDS);
+        
+        // JWT 토큰에서 사용자 ID 추출
+        String token = getTokenFromRequest(request);
+        String userId = jwtTokenUtil.getUserIdFromToken(token);
+        
+        CursorPage<BoardV0> boardPage = boardService.getMyBoards(userId, cursor, size);
+        
+        ApiResponse<CursorPage<BoardV0>> response = ApiResponse.success(
+            "내 게시글 목록 조회가 완료되었습니다.", 
+            boardPage, 
+            boardPage.getItems().size()
+        );
+        
+        return ResponseEntity.ok(selection.applyTo(response, BoardV0.FIELD_FILTER));
     }
 
     /**
      * 게시글 등록 - POST /board
      * 실무 원칙: Controller는 HTTP 처리만, 모든 비즈니스 로직은 Service에 위임
      * Spring Validation 적용: @Valid로 입력값 검증 자동화
+     * 멱등성: Idempotency-Key 헤더가 있으면 같은 키로 재시도된 요청은 다시 등록하지 않고 처음 응답을 반환
+     *        (재사용된 응답에는 Idempotent-Replayed: true 헤더 추가)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createBoard(
-            @Valid @RequestBody BoardV0 board, 
+            @Valid @RequestBody BoardV0 board,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             HttpServletRequest request) {
         
         // JWT 토큰에서 사용자 ID 추출
@@ -88,11 +189,24 @@ public class BoardController {
         String userId = jwtTokenUtil.getUserIdFromToken(token);
         
         // Service에 모든 로직 위임
-        ApiResponse<Void> result = boardService.createBoard(board, userId);
+        if (idempotencyKey == null) {
+            ApiResponse<Void> result = boardService.createBoard(board, userId);
+            
+            return result.isSuccess() 
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+        }
         
-        return result.isSuccess() 
-            ? ResponseEntity.ok(result)
-            : ResponseEntity.badRequest().body(result);
+        IdempotentResponse idempotent = idempotencyService.execute(
+                "board", userId, idempotencyKey, board, () -> boardService.createBoard(board, userId));
+        ApiResponse<Void> result = idempotent.getResponse();
+        
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return idempotent.isReplayed()
+            ? ResponseEntity.ok().header(IDEMPOTENT_REPLAYED_HEADER, "true").body(result)
+            : ResponseEntity.ok(result);
     }
     
     /**
@@ -139,6 +253,16 @@ public class BoardController {
             : ResponseEntity.status(403).body(result);
     }
 
+    /**
+     * 게시글 상세 응답(게시글 + 댓글)의 필드 선택 해석
+     */
+    private static Map<String, FieldSelection> detailSelections(String fields, String commentFields) {
+        return Map.of(
+            BoardV0.FIELD_FILTER, FieldSelection.parse(fields, BoardV0.SELECTABLE_FIELDS),
+            CommentV0.FIELD_FILTER, FieldSelection.parse(commentFields, CommentV0.SELECTABLE_FIELDS)
+        );
+    }
+
     /**
      * HTTP 요청에서 JWT 토큰 추출
      */
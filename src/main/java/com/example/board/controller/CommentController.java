@@ -2,11 +2,19 @@ package com.example.board.controller;
 
 import com.example.board.domain.CommentV0;
 import com.example.board.dto.ApiResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.IdempotentResponse;
+import com.example.board.service.CommentFeedService;
 import com.example.board.service.CommentService;
+import com.example.board.service.IdempotencyService;
+import com.example.board.util.FieldSelection;
 import com.example.board.util.JwtTokenUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
@@ -28,17 +36,25 @@ import java.util.List;
 @RequestMapping("/comment")
 public class CommentController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final CommentService commentService;
+    private final CommentFeedService commentFeedService;
+    private final IdempotencyService idempotencyService;
     private final JwtTokenUtil jwtTokenUtil;
 
     /**
      * 댓글 등록 - POST /comment
      * 실무 원칙: Controller는 HTTP 처리만, 모든 비즈니스 로직은 Service에 위임
      * Spring Validation 적용: @Valid로 입력값 검증 자동화
+     * 멱등성: Idempotency-Key 헤더가 있으면 같은 키로 재시도된 요청은 다시 등록하지 않고 처음 응답을 반환
+     *        (재사용된 응답에는 Idempotent-Replayed: true 헤더 추가)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createComment(
             @Valid @RequestBody CommentV0 comment,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             HttpServletRequest request) {
         
         // JWT 토큰에서 사용자 ID 추출
@@ -46,11 +62,24 @@ public class CommentController {
         String userId = jwtTokenUtil.getUserIdFromToken(token);
         
         // Service에 모든 로직 위임
-        ApiResponse<Void> result = commentService.createComment(comment, userId);
+        if (idempotencyKey == null) {
+            ApiResponse<Void> result = commentService.createComment(comment, userId);
+            
+            return result.isSuccess() 
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+        }
         
-        return result.isSuccess() 
-            ? ResponseEntity.ok(result)
-            : ResponseEntity.badRequest().body(result);
+        IdempotentResponse idempotent = idempotencyService.execute(
+                "comment", userId, idempotencyKey, comment, () -> commentService.createComment(comment, userId));
+        ApiResponse<Void> result = idempotent.getResponse();
+        
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return idempotent.isReplayed()
+            ? ResponseEntity.ok().header(IDEMPOTENT_REPLAYED_HEADER, "true").body(result)
+            : ResponseEntity.ok(result);
     }
     
     /**
@@ -65,28 +94,103 @@ public class CommentController {
     }
 
     /**
-     * 특정 게시글의 댓글 목록 조회 - GET /comment/board/{boardIdx}
+     * 특정 게시글의 댓글 목록 조회 - GET /comment/board/{boardIdx}?size=50&cursor=...
+     * 최상위 댓글을 등록순으로 한 페이지씩 반환 (다음 페이지는 응답의 nextCursor 사용)
+     * 부분 필드 선택: fields=comment,regDate (선택한 필드의 컬럼만 조회하고 응답, idx는 항상 포함)
      * 책임: HTTP 요청 처리 및 응답 반환
      */
     @GetMapping("/board/{boardIdx}")
-    public ResponseEntity<ApiResponse<List<CommentV0>>> getCommentsByBoardIdx(@PathVariable Long boardIdx) {
-        List<CommentV0> commentList = commentService.getCommentsByBoardIdx(boardIdx);
+    public ResponseEntity<MappingJacksonValue> getCommentsByBoardIdx(
+            @PathVariable Long boardIdx,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String fields) {
         
-        ApiResponse<List<CommentV0>> response = ApiResponse.success(
+        FieldSelection selection = FieldSelection.parse(fields, CommentV0.SELECTABLE_FIELDS);
+        CursorPage<CommentV0> commentPage = commentService.getCommentPage(boardIdx, cursor, size, selection);
+        
+        ApiResponse<CursorPage<CommentV0>> response = ApiResponse.success(
             "댓글 목록 조회가 완료되었습니다.", 
-            commentList, 
-            commentList.size()
+            commentPage, 
+            commentPage.getItems().size()
+        );
+        
+        return ResponseEntity.ok(selection.applyTo(response, CommentV0.FIELD_FILTER));
+    }
+
+    /**
+     * 내 댓글 목록 조회 - GET /comment/my?size=50&cursor=...
+     * 로그인한 사용자가 작성한 댓글을 최신순으로 한 페이지씩 반환 (인증 필요)
+     * 부분 필드 선택: fields=comment,boardIdx (응답에서만 제외)
+     */
+    @GetMapping("/my")
+    public ResponseEntity<MappingJacksonValue> getMyComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        
+        FieldSelection selection = FieldSelection.parse(fields, CommentV0.SELECTABLE_FIELDS);
+        
+        // JWT 토큰에서 사용자 ID 추출
+        String token = getTokenFromRequest(request);
+        String userId = jwtTokenUtil.getUserIdFromToken(token);
+        
+        CursorPage<CommentV0> commentPage = commentService.getMyComments(userId, cursor, size);
+        
+        ApiResponse<CursorPage<CommentV0>> response = ApiResponse.success(
+            "내 댓글 목록 조회가 완료되었습니다.", 
+            commentPage, 
+            commentPage.getItems().size()
         );
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(selection.applyTo(response, CommentV0.FIELD_FILTER));
+    }
+
+    /**
+     * 특정 댓글의 답글 조회 - GET /comment/{idx}/replies?size=50&cursor=...
+     * 하위 스레드 전체를 스레드 순서(답글이 상위 댓글 바로 아래)로 한 페이지씩 반환
+     * 부분 필드 선택: fields=comment,depth (응답에서만 제외)
+     */
+    @GetMapping("/{idx}/replies")
+    public ResponseEntity<MappingJacksonValue> getReplies(
+            @PathVariable Long idx,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String fields) {
+        
+        FieldSelection selection = FieldSelection.parse(fields, CommentV0.SELECTABLE_FIELDS);
+        CursorPage<CommentV0> replyPage = commentService.getReplyPage(idx, cursor, size);
+        
+        ApiResponse<CursorPage<CommentV0>> response = ApiResponse.success(
+            "답글 목록 조회가 완료되었습니다.", 
+            replyPage, 
+            replyPage.getItems().size()
+        );
+        
+        return ResponseEntity.ok(selection.applyTo(response, CommentV0.FIELD_FILTER));
+    }
+
+    /**
+     * 특정 게시글의 실시간 댓글 피드 구독 - GET /comment/board/{boardIdx}/stream
+     * 실무 원칙: 주기적인 폴링 대신 Server-Sent Events로 변경분만 전달
+     * 이벤트: comment-created (댓글 데이터 포함), comment-deleted (댓글 번호만)
+     */
+    @GetMapping(value = "/board/{boardIdx}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCommentsByBoardIdx(@PathVariable Long boardIdx) {
+        return commentFeedService.subscribe(boardIdx);
     }
 
     /**
      * 모든 댓글 목록 조회 - GET /comment
      * 책임: HTTP 요청 처리 및 응답 반환
+     * 부분 필드 선택: fields=comment,regDate (응답에서만 제외)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentV0>>> getAllComments() {
+    public ResponseEntity<MappingJacksonValue> getAllComments(
+            @RequestParam(required = false) String fields) {
+        
+        FieldSelection selection = FieldSelection.parse(fields, CommentV0.SELECTABLE_FIELDS);
         List<CommentV0> commentList = commentService.getAllComments();
         
         ApiResponse<List<CommentV0>> response = ApiResponse.success(
@@ -95,7 +199,7 @@ public class CommentController {
             commentList.size()
         );
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(selection.applyTo(response, CommentV0.FIELD_FILTER));
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.example.board.controller;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.BoardDetailResponse;
+import com.example.board.service.ReactiveBoardService;
+import com.example.board.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 논블로킹 게시글 조회의 HTTP 요청/응답 처리만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 구현체가 아닌 인터페이스(ReactiveBoardService)에 의존합니다.
+ *
+ * 실무 원칙: GET /board, GET /board/{idx}와 같은 응답을 R2DBC로 조회
+ * - Mono를 반환하므로 DB 응답을 기다리는 동안 Tomcat 요청 스레드를 반환 (비동기 요청 처리)
+ * - MyBatis 조회 경로와 함께 운영하며 부하 시험(scripts/read-load-test.sh)으로 스레드/커넥션 사용량 비교
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/reactive/board")
+public class ReactiveBoardController {
+
+    private final ReactiveBoardService reactiveBoardService;
+
+    /**
+     * 게시글 목록 조회 - GET /reactive/board
+     * 부분 필드 선택: GET /reactive/board?fields=title,regDate (GET /board와 동일)
+     */
+    @GetMapping
+    public Mono<ResponseEntity<MappingJacksonValue>> getBoardList(
+            @RequestParam(required = false) String fields) {
+
+        FieldSelection selection = FieldSelection.parse(fields, BoardV0.SELECTABLE_FIELDS);
+
+        return reactiveBoardService.getBoardList(selection)
+                .map(boardList -> {
+                    ApiResponse<List<BoardV0>> response = ApiResponse.success(
+                        "게시글 목록 조회가 완료되었습니다.",
+                        boardList,
+                        boardList.size()
+                    );
+                    return ResponseEntity.ok(selection.applyTo(response, BoardV0.FIELD_FILTER));
+                });
+    }
+
+    /**
+     * 게시글 상세 조회 (댓글 포함) - GET /reactive/board/{idx}
+     * OCP 적용: 예외 처리는 GlobalExceptionHandler에 위임
+     * 부분 필드 선택: fields (게시글), commentFields (댓글) - GET /board/{idx}와 동일
+     */
+    @GetMapping("/{idx}")
+    public Mono<ResponseEntity<MappingJacksonValue>> getBoardWithComments(
+            @PathVariable Long idx,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String commentFields) {
+
+        Map<String, FieldSelection> selections = Map.of(
+            BoardV0.FIELD_FILTER, FieldSelection.parse(fields, BoardV0.SELECTABLE_FIELDS),
+            CommentV0.FIELD_FILTER, FieldSelection.parse(commentFields, CommentV0.SELECTABLE_FIELDS)
+        );
+
+        return reactiveBoardService.getBoardWithComments(idx)
+                .map(boardDetail -> {
+                    ApiResponse<BoardDetailResponse> response = ApiResponse.success(
+                        "게시글 상세 조회가 완료되었습니다.",
+                        boardDetail
+                    );
+                    return ResponseEntity.ok(FieldSelection.applyAll(response, selections));
+                });
+    }
+}
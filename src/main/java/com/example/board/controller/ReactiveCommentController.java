@@ -0,0 +1,53 @@
+package com.example.board.controller;
+
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.service.ReactiveCommentService;
+import com.example.board.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 논블로킹 댓글 조회의 HTTP 요청/응답 처리만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 구현체가 아닌 인터페이스(ReactiveCommentService)에 의존합니다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/reactive/comment")
+public class ReactiveCommentController {
+
+    private final ReactiveCommentService reactiveCommentService;
+
+    /**
+     * 특정 게시글의 댓글 목록 조회 - GET /reactive/comment/board/{boardIdx}?size=50&cursor=...
+     * GET /comment/board/{boardIdx}와 같은 응답 (커서, 부분 필드 선택 동일)
+     */
+    @GetMapping("/board/{boardIdx}")
+    public Mono<ResponseEntity<MappingJacksonValue>> getCommentsByBoardIdx(
+            @PathVariable Long boardIdx,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String fields) {
+
+        FieldSelection selection = FieldSelection.parse(fields, CommentV0.SELECTABLE_FIELDS);
+
+        return reactiveCommentService.getCommentPage(boardIdx, cursor, size, selection)
+                .map(commentPage -> {
+                    ApiResponse<CursorPage<CommentV0>> response = ApiResponse.success(
+                        "댓글 목록 조회가 완료되었습니다.",
+                        commentPage,
+                        commentPage.getItems().size()
+                    );
+                    return ResponseEntity.ok(selection.applyTo(response, CommentV0.FIELD_FILTER));
+                });
+    }
+}
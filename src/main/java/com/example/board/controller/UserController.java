@@ -0,0 +1,77 @@
+package com.example.board.controller;
+
+import com.example.board.domain.UserActivity;
+import com.example.board.dto.ApiResponse;
+import com.example.board.service.UserActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용:
+ * 
+ * SRP (Single Responsibility Principle): 
+ * 사용자 정보 조회 HTTP 요청/응답 처리만을 담당합니다. 비즈니스 로직은 Service 계층에 위임합니다.
+ * 
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 구현체가 아닌 인터페이스(UserActivityService)에 의존합니다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users")
+public class UserController {
+
+    private final UserActivityService userActivityService;
+
+    /**
+     * 사용자 활동 집계 조회 - GET /users/{userId}/stats
+     * 게시글 수, 댓글 수, 마지막 활동 시각 (집계 테이블 기본키 조회)
+     */
+    @GetMapping("/{userId}/stats")
+    public ResponseEntity<ApiResponse<UserActivity>> getStats(@PathVariable String userId) {
+        ApiResponse<UserActivity> response = ApiResponse.success(
+            "사용자 활동 조회가 완료되었습니다.", 
+            userActivityService.getStats(userId)
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 활동 순위 조회 - GET /users/top?by=boards&limit=10
+     * 게시글 수(boards) 또는 댓글 수(comments) 상위 사용자 (최대 100명, 순위 인덱스로 조회)
+     */
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<UserActivity>>> getTopUsers(
+            @RequestParam(defaultValue = "boards") String by,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserActivity> ranking = userActivityService.getTopUsers(by, limit);
+        
+        ApiResponse<List<UserActivity>> response = ApiResponse.success(
+            "사용자 활동 순위 조회가 완료되었습니다.", 
+            ranking,
+            ranking.size()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 여러 사용자 활동 집계 조회 - GET /users/stats?ids=user1,user2
+     * 이미 아는 사용자 목록의 집계를 한 번에 조회 (최대 100명, 요청 순서 유지)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<UserActivity>>> getStatsBatch(@RequestParam List<String> ids) {
+        List<UserActivity> stats = userActivityService.getStats(ids);
+        
+        ApiResponse<List<UserActivity>> response = ApiResponse.success(
+            "사용자 활동 조회가 완료되었습니다.", 
+            stats,
+            stats.size()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.board.domain;
 
 import lombok.Data;
+
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -12,9 +14,13 @@ import java.time.LocalDateTime;
  * - idx: 고유 식별자
  * - regDate: 등록일시  
  * - delYn: 삭제 여부
+ * 
+ * MyBatis 2차 캐시가 조회 결과를 직렬화하여 보관하므로 Serializable을 구현합니다.
  */
 @Data
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     /**
      * 엔티티 고유 식별자
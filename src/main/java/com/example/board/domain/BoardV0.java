@@ -1,9 +1,11 @@
 package com.example.board.domain;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.util.Set;
 
 /**
  * SOLID 원칙 적용: LSP (Liskov Substitution Principle)
@@ -12,11 +14,20 @@ import jakarta.validation.constraints.Size;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@JsonFilter(BoardV0.FIELD_FILTER)
 public class BoardV0 extends BaseEntity {
     
+    /** 부분 필드 선택(fields=) 시 응답 필터 ID */
+    public static final String FIELD_FILTER = "boardFields";
+    
+    /** 부분 필드 선택(fields=)으로 고를 수 있는 필드 */
+    public static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "idx", "title", "content", "writerNm", "writerId", "regDate", "delYn", "views", "commentCount", "isNew");
+    
     // 계산된 필드들 (SELECT 시에만 계산되는 값들)
     private Integer commentCount;       // 댓글 개수 (LEFT JOIN + COUNT)
     private Integer isNew;              // 신규 게시글 여부 (1: 오늘 작성, 0: 이전 작성)
+    private Long views;                 // 조회수 (DB 반영분 + 아직 반영되지 않은 집계분)
     
     // 등록/수정 시 필수 입력 필드
     @NotBlank(message = "제목은 필수 입력값입니다.")
@@ -1,10 +1,14 @@
 package com.example.board.domain;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.util.Set;
 
 /**
  * SOLID 원칙 적용: LSP (Liskov Substitution Principle)
@@ -13,8 +17,16 @@ import jakarta.validation.constraints.Size;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@JsonFilter(CommentV0.FIELD_FILTER)
 public class CommentV0 extends BaseEntity {
     
+    /** 부분 필드 선택(fields=) 시 응답 필터 ID */
+    public static final String FIELD_FILTER = "commentFields";
+    
+    /** 부분 필드 선택(fields=)으로 고를 수 있는 필드 */
+    public static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "idx", "boardIdx", "parentIdx", "comment", "writerName", "writerId", "regDate", "delYn", "depth", "replyCount");
+    
     // 등록 시 필수 입력 필드
     @NotNull(message = "게시글 번호는 필수입니다.")
     private Long boardIdx;              // 게시글 번호 (외래키)
@@ -32,6 +44,29 @@ public class CommentV0 extends BaseEntity {
      */
     private String writerId;          // 댓글 작성자명
     
+    /**
+     * 상위 댓글 번호 (최상위 댓글은 null)
+     */
+    private Long parentIdx;
+    
+    /**
+     * 루트부터 자신까지의 경로 (하위 스레드 범위 조회용, 서버 내부에서만 사용)
+     */
+    @JsonIgnore
+    private String path;
+    
+    /**
+     * 답글 깊이 (최상위 댓글은 0)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer depth;
+    
+    /**
+     * 바로 아래 답글 수 (목록 조회 시에만 채워짐)
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer replyCount;
+    
     /**
      * LSP 적용: 댓글이 표시 가능한지 확인
      * 기본적으로는 유효하고, 추가로 댓글 내용과 게시글 참조가 있어야 함
@@ -0,0 +1,18 @@
+package com.example.board.domain;
+
+import lombok.Data;
+
+/**
+ * 멱등성 키 항목
+ * 처음 처리한 등록 요청의 응답을 보관하여 같은 키로 재시도된 요청에 그대로 돌려줍니다.
+ */
+@Data
+public class IdempotencyRecord {
+
+    private String scope;            // 요청 종류 (board, comment)
+    private String userId;           // 요청한 사용자 ID
+    private String idemKey;          // 클라이언트가 보낸 Idempotency-Key
+    private String requestHash;      // 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    private String responseBody;     // 처음 처리한 응답 (JSON)
+    private long expiresAt;          // 만료 시각 (epoch millis)
+}
@@ -0,0 +1,16 @@
+package com.example.board.domain;
+
+import lombok.Data;
+
+/**
+ * 배치 작업 진행 위치 (t_job_checkpoint)
+ * 가져오기 작업은 커밋한 행 수와 그 행들의 내용 지문을 함께 보관해 같은 파일인지 확인합니다.
+ */
+@Data
+public class JobCheckpoint {
+
+    private String jobName;         // 작업 이름
+    private long lastIdx;           // 마지막으로 처리한 ID
+    private long lastRow;           // 처음부터 커밋한 행 수 (가져오기)
+    private String fingerprint;     // 커밋한 행들까지의 SHA-256 (hex, 가져오기)
+}
@@ -0,0 +1,21 @@
+package com.example.board.domain;
+
+import lombok.Data;
+
+/**
+ * 토큰 폐기 항목
+ * 로그아웃한 토큰(TOKEN) 또는 비활성화된 사용자의 기존 토큰 전체(USER)를 나타냅니다.
+ */
+@Data
+public class TokenRevocation {
+
+    public static final String TYPE_TOKEN = "TOKEN";
+    public static final String TYPE_USER = "USER";
+
+    private Long id;
+    private String revokeType;       // TOKEN, USER
+    private String jti;              // 폐기한 토큰 ID (TOKEN일 때)
+    private String userId;           // 사용자 ID
+    private long revokedAt;          // 폐기 시각 (epoch millis, USER일 때 이 시각 이전 발급 토큰 폐기)
+    private long expiresAt;          // 항목 만료 시각 (이후에는 토큰 자체가 만료되어 보관 불필요)
+}
@@ -0,0 +1,27 @@
+package com.example.board.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 활동 집계 (t_user_activity)
+ * 삭제되지 않은 게시글/댓글 수와 마지막 작성 시각을 보관합니다.
+ */
+@Data
+public class UserActivity {
+
+    private String userId;                  // 사용자 ID
+    private long boardCount;                // 게시글 수
+    private long commentCount;              // 댓글 수
+    private LocalDateTime lastActivityAt;   // 마지막 게시글/댓글 작성 시각 (활동이 없으면 null)
+
+    /**
+     * 아직 활동 기록이 없는 사용자의 집계 (모두 0)
+     */
+    public static UserActivity empty(String userId) {
+        UserActivity activity = new UserActivity();
+        activity.setUserId(userId);
+        return activity;
+    }
+}
@@ -2,14 +2,17 @@ package com.example.board.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * SOLID 원칙 적용: SRP (Single Responsibility Principle)
  * 이 클래스는 API 응답 구조 관리라는 단일 책임만을 가집니다.
  * 모든 API 응답의 일관성을 보장하며, 응답 형식 변경시 이 클래스만 수정하면 됩니다.
+ * 내부 서비스가 같은 타입으로 응답을 읽을 수 있도록 빌더 기반 역직렬화(@Jacksonized)를 지원합니다.
  */
 @Getter
 @Builder
+@Jacksonized
 public class ApiResponse<T> {
     
     private final boolean success;      // 성공 여부
@@ -0,0 +1,25 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 삭제 데이터 보관 작업의 진행 상황 응답 데이터 구조만을 담당합니다.
+ */
+@Getter
+@Builder
+public class ArchiveStatus {
+
+    private final boolean running;                 // 실행 중 여부
+    private final String phase;                    // 현재 단계 (IDLE, STARTING, COMMENTS, BOARDS)
+    private final LocalDateTime lastStartedAt;     // 마지막 실행 시작 시각
+    private final LocalDateTime lastFinishedAt;    // 마지막 실행 종료 시각
+    private final String lastError;                // 마지막 실행 오류 메시지 (성공 시 null)
+    private final long archivedComments;           // 현재(또는 마지막) 실행에서 옮긴 댓글 수
+    private final long archivedBoards;             // 현재(또는 마지막) 실행에서 옮긴 게시글 수
+    private final long commentCheckpoint;          // 댓글 작업의 마지막 처리 위치
+    private final long boardCheckpoint;            // 게시글 작업의 마지막 처리 위치
+}
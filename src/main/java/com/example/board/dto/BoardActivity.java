@@ -0,0 +1,17 @@
+package com.example.board.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 인기 게시글 순위 재구성에 사용하는 게시글별 활동 집계 데이터만을 담당합니다.
+ */
+@Data
+public class BoardActivity {
+
+    private Long boardIdx;                // 게시글 번호
+    private LocalDateTime activityAt;     // 활동 시각 (시간 단위로 묶은 경우 구간 내 마지막 시각)
+    private Integer activityCount;        // 활동 횟수
+}
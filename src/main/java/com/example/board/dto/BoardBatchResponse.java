@@ -0,0 +1,19 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 게시글 여러 건 조회(GET /board?ids=...) 응답 데이터 구조만을 담당합니다.
+ * 찾을 수 없는 게시글은 오류 대신 missingIds로 알려줍니다.
+ */
+@Getter
+@Builder
+public class BoardBatchResponse {
+
+    private final List<BoardDetailResponse> boards;    // 조회된 게시글 (요청한 ID 순서)
+    private final List<Long> missingIds;               // 없거나 삭제된 게시글 ID
+}
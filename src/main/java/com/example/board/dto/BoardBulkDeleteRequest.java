@@ -0,0 +1,22 @@
+package com.example.board.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 관리자 게시글 일괄 삭제 요청 데이터만을 담당하는 클래스입니다.
+ */
+@Data
+public class BoardBulkDeleteRequest {
+    
+    /**
+     * 삭제할 게시글 ID 목록
+     */
+    @NotEmpty(message = "삭제할 게시글 ID는 필수 입력값입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000개의 게시글까지 삭제할 수 있습니다.")
+    private List<Long> boardIds;
+}
@@ -0,0 +1,16 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 게시글 일괄 삭제 결과 응답 데이터 구조만을 담당합니다.
+ */
+@Getter
+@Builder
+public class BoardDeleteResult {
+
+    private final int deletedBoards;       // 삭제 처리된 게시글 수 (이미 삭제된 게시글 제외)
+    private final long deletedComments;    // 함께 삭제 처리된 댓글 수
+}
@@ -11,20 +11,23 @@ import java.util.List;
  * SOLID 원칙 적용: SRP (Single Responsibility Principle)
  * 게시글 상세 조회 응답 데이터 구조 관리만을 담당합니다.
  * 게시글과 댓글 정보를 하나의 응답으로 묶어서 전달하는 역할을 합니다.
+ * 댓글은 첫 페이지(최상위 댓글)만 포함하며, 이후는 commentNextCursor로 댓글 API에서 조회합니다.
  */
 @Getter
 @Builder
 public class BoardDetailResponse {
     
     private final BoardV0 board;               // 게시글 정보
-    private final List<CommentV0> comments;    // 댓글 목록
-    private final Integer commentCount;        // 댓글 개수
+    private final List<CommentV0> comments;    // 댓글 첫 페이지 (최상위 댓글)
+    private final Integer commentCount;        // 전체 댓글 개수 (답글 포함)
+    private final String commentNextCursor;    // 댓글 다음 페이지 커서 (없으면 null)
     
-    public static BoardDetailResponse of(BoardV0 board, List<CommentV0> comments) {
+    public static BoardDetailResponse of(BoardV0 board, CursorPage<CommentV0> commentPage, int commentCount) {
         return BoardDetailResponse.builder()
                 .board(board)
-                .comments(comments)
-                .commentCount(comments != null ? comments.size() : 0)
+                .comments(commentPage.getItems())
+                .commentCount(commentCount)
+                .commentNextCursor(commentPage.getNextCursor())
                 .build();
     }
 }
\ No newline at end of file
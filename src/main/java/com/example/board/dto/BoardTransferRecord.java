@@ -0,0 +1,22 @@
+package com.example.board.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기/가져오기 한 줄 (NDJSON)
+ * t_board의 저장 컬럼을 그대로 담으며, 계산 필드(댓글 수, 작성자명 등)는 포함하지 않습니다.
+ */
+@Data
+public class BoardTransferRecord {
+
+    private Long idx;
+    private String title;
+    private String content;
+    private String writerId;
+    private LocalDateTime regDate;
+    private String delYn;
+    private LocalDateTime delDate;
+    private Long views;
+}
@@ -0,0 +1,39 @@
+package com.example.board.dto;
+
+import com.example.board.domain.CommentV0;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 실시간 댓글 피드(SSE)로 전달되는 이벤트 데이터 구조만을 담당합니다.
+ */
+@Getter
+@Builder
+public class CommentFeedEvent {
+
+    public static final String CREATED = "comment-created";
+    public static final String DELETED = "comment-deleted";
+
+    private final String type;            // 이벤트 종류 (CREATED, DELETED)
+    private final Long boardIdx;          // 게시글 번호
+    private final Long commentIdx;        // 댓글 번호
+    private final CommentV0 comment;      // 등록된 댓글 (삭제 이벤트에서는 null)
+
+    public static CommentFeedEvent created(CommentV0 comment) {
+        return CommentFeedEvent.builder()
+                .type(CREATED)
+                .boardIdx(comment.getBoardIdx())
+                .commentIdx(comment.getIdx())
+                .comment(comment)
+                .build();
+    }
+
+    public static CommentFeedEvent deleted(CommentV0 comment) {
+        return CommentFeedEvent.builder()
+                .type(DELETED)
+                .boardIdx(comment.getBoardIdx())
+                .commentIdx(comment.getIdx())
+                .build();
+    }
+}
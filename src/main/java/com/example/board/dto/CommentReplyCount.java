@@ -0,0 +1,13 @@
+package com.example.board.dto;
+
+import lombok.Data;
+
+/**
+ * 댓글별 바로 아래 답글 수 (댓글 목록 페이지의 답글 수 표시용)
+ */
+@Data
+public class CommentReplyCount {
+
+    private Long parentIdx;       // 상위 댓글 번호
+    private Integer replyCount;   // 삭제되지 않은 답글 수
+}
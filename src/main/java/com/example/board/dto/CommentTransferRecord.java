@@ -0,0 +1,24 @@
+package com.example.board.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 내보내기/가져오기 한 줄 (NDJSON)
+ * 답글 구조를 그대로 복원할 수 있도록 path, depth도 포함합니다.
+ */
+@Data
+public class CommentTransferRecord {
+
+    private Long idx;
+    private Long boardIdx;
+    private Long parentIdx;
+    private String comment;
+    private String writerId;
+    private LocalDateTime regDate;
+    private String delYn;
+    private LocalDateTime delDate;
+    private String path;
+    private Integer depth;
+}
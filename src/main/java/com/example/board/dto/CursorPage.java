@@ -0,0 +1,30 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 키셋(커서) 기반 페이지 조회 결과 구조만을 담당합니다.
+ *
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달하여 조회합니다.
+ * OFFSET 방식과 달리 몇 번째 페이지든 조회 비용이 같습니다.
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+
+    private final List<T> items;          // 현재 페이지 항목
+    private final String nextCursor;      // 다음 페이지 커서 (마지막 페이지면 null)
+    private final boolean hasNext;        // 다음 페이지 존재 여부
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
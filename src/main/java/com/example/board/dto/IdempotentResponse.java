@@ -0,0 +1,18 @@
+package com.example.board.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 멱등성 키로 처리한 요청의 응답과 재사용 여부만을 담습니다.
+ *
+ * replayed가 true이면 이번 요청은 실행되지 않았고, 처음 처리한 응답을 그대로 돌려준 것입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdempotentResponse {
+
+    private final ApiResponse<Void> response;   // 응답 (처음 처리한 응답 또는 이번 처리 결과)
+    private final boolean replayed;             // 저장된 응답 재사용 여부
+}
@@ -0,0 +1,19 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 가져오기 작업 결과 구조만을 담당합니다.
+ */
+@Getter
+@Builder
+public class ImportResult {
+
+    private final String table;          // 대상 테이블
+    private final long imported;         // 이번 실행에서 반영한 행 수
+    private final long skipped;          // 이전 실행에서 이미 반영되어 건너뛴 행 수 (체크포인트 행까지)
+    private final long lastIdx;          // 마지막으로 커밋한 idx
+    private final long elapsedMillis;    // 소요 시간
+}
@@ -0,0 +1,17 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 인기 게시글 순위 응답 데이터 구조만을 담당합니다.
+ */
+@Getter
+@Builder
+public class TrendingBoard {
+
+    private final int rank;           // 순위 (1부터 시작)
+    private final Long boardIdx;      // 게시글 번호
+    private final double score;       // 현재 시점 기준으로 감쇠된 인기 점수
+}
@@ -3,6 +3,7 @@ package com.example.board.exception;
 import com.example.board.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -64,6 +65,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * 같은 Idempotency-Key의 요청이 처리 중이거나 실패한 경우 (409)
+     * 클라이언트는 같은 키로 잠시 후 다시 시도할 수 있습니다.
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+        ApiResponse<Void> response = ApiResponse.failure(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * 외래키 제약조건 위반 등 데이터베이스 무결성 오류 처리
      */
@@ -0,0 +1,17 @@
+package com.example.board.exception;
+
+/**
+ * SOLID 원칙 적용: OCP (Open-Closed Principle)
+ * 새로운 예외 타입 추가시 기존 코드를 수정하지 않고 확장할 수 있습니다.
+ * 같은 Idempotency-Key의 요청이 아직 처리 중이거나 처리에 실패한 경우 발생하는 예외입니다.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+    
+    public IdempotencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
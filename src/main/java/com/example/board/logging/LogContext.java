@@ -0,0 +1,17 @@
+package com.example.board.logging;
+
+/**
+ * 로그 문맥(MDC) 키 정의
+ * 구조화 로그의 필드 이름으로도 그대로 출력됩니다.
+ */
+public final class LogContext {
+
+    /** 요청 ID (X-Request-Id) */
+    public static final String REQUEST_ID = "requestId";
+
+    /** 현재 요청의 DEBUG 로그 샘플링 여부 ("true" / "false", 요청 밖에서는 없음) */
+    public static final String DEBUG_SAMPLED = "debugSampled";
+
+    private LogContext() {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.board.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 요청 단위 로그 문맥(요청 ID, DEBUG 로그 샘플링 여부)을 MDC에 설정하는 역할만을 담당합니다.
+ *
+ * 실무 원칙: 운영에서도 진단 정보를 남기되 모든 요청의 DEBUG 로그를 쓰지 않음
+ * - 요청마다 debug-rate 확률로 샘플링 여부를 정하고, 샘플링된 요청은 DEBUG 로그 전체를 기록
+ * - X-Debug-Sample: true 헤더는 debug-trusted-networks(내부망/운영자 대역)에서 온 요청만 인정 (문제 재현용)
+ *   외부 클라이언트가 DEBUG 로그(SQL 바인딩 값 포함)를 켜거나 로그 큐를 채우지 못하도록 함
+ * - 헤더로 강제한 샘플링도 초당 debug-forced-per-second 건까지만 허용
+ * - 요청 ID는 X-Request-Id 헤더를 이어받거나 새로 만들어 응답 헤더와 모든 로그에 포함
+ * - 실제 걸러내기는 SampledDebugTurboFilter가 메시지 생성 전에 수행
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String DEBUG_SAMPLE_HEADER = "X-Debug-Sample";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private static final long FORCED_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double debugSampleRate;
+    private final List<IpAddressMatcher> trustedNetworks;
+    private final int forcedPerSecond;
+
+    /** 헤더로 강제한 샘플링 수 (1초 구간) */
+    private final AtomicLong forcedWindowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger forcedInWindow = new AtomicInteger();
+
+    public RequestLogContextFilter(
+            @Value("${logging.sampling.debug-rate:0.01}") double debugSampleRate,
+            @Value("${logging.sampling.debug-trusted-networks:127.0.0.1/32,::1/128}") String trustedNetworks,
+            @Value("${logging.sampling.debug-forced-per-second:5}") int forcedPerSecond) {
+
+        this.debugSampleRate = debugSampleRate;
+        this.trustedNetworks = Arrays.stream(StringUtils.commaDelimitedListToStringArray(trustedNetworks))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.forcedPerSecond = forcedPerSecond;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = resolveRequestId(request);
+        boolean sampled = isForcedSample(request)
+                || ThreadLocalRandom.current().nextDouble() < debugSampleRate;
+
+        MDC.put(LogContext.REQUEST_ID, requestId);
+        MDC.put(LogContext.DEBUG_SAMPLED, Boolean.toString(sampled));
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(LogContext.REQUEST_ID);
+            MDC.remove(LogContext.DEBUG_SAMPLED);
+        }
+    }
+
+    /**
+     * 샘플링 강제 헤더 확인 (신뢰하는 대역에서 온 요청만, 초당 상한 이내)
+     * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr()가 실제 IP를 반환하도록 합니다.
+     */
+    private boolean isForcedSample(HttpServletRequest request) {
+        if (!"true".equalsIgnoreCase(request.getHeader(DEBUG_SAMPLE_HEADER))) {
+            return false;
+        }
+
+        String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr == null || trustedNetworks.stream().noneMatch(network -> network.matches(remoteAddr))) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        long windowStart = forcedWindowStart.get();
+        if (now - windowStart >= FORCED_WINDOW_NANOS && forcedWindowStart.compareAndSet(windowStart, now)) {
+            forcedInWindow.set(0);
+        }
+        return forcedInWindow.incrementAndGet() <= forcedPerSecond;
+    }
+
+    private String resolveRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (StringUtils.hasText(requestId) && requestId.length() <= MAX_REQUEST_ID_LENGTH) {
+            return requestId;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
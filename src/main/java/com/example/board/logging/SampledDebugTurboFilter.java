@@ -0,0 +1,63 @@
+package com.example.board.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 요청 단위 DEBUG 로그 샘플링 판단만을 담당합니다. (logback-spring.xml에서 등록)
+ *
+ * 실무 원칙: 버릴 로그는 최대한 일찍 버림
+ * - 로그 레벨은 INFO로 두고, 샘플링된 요청에서만 debugLoggers 아래 로거의 DEBUG 로그를 허용
+ * - 샘플링되지 않은 요청의 DEBUG/TRACE 로그는 거절
+ * - TurboFilter는 로그 이벤트와 메시지를 만들기 전에 호출되므로, 걸러진 로그는 포맷/큐 적재 비용이 없음
+ * - log.isDebugEnabled()도 같은 판단을 따르므로 디버그용 사전 계산도 생략됨
+ * - 요청 밖(주기 작업, 기동 과정)의 로그는 로그 레벨 설정만 따름
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    /** 샘플링된 요청에서 DEBUG 로그를 허용할 로거 이름 접두사 */
+    private List<String> debugLoggers = List.of();
+
+    /**
+     * 쉼표로 구분된 로거 이름 접두사 (logging.sampling.debug-loggers)
+     */
+    public void setDebugLoggers(String debugLoggers) {
+        this.debugLoggers = Arrays.stream(debugLoggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String sampled = MDC.get(LogContext.DEBUG_SAMPLED);
+        if ("false".equals(sampled)) {
+            return FilterReply.DENY;
+        }
+        if ("true".equals(sampled) && level == Level.DEBUG && isDebugLogger(logger.getName())) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean isDebugLogger(String loggerName) {
+        for (String prefix : debugLoggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
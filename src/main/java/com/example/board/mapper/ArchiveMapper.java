@@ -0,0 +1,33 @@
+package com.example.board.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ArchiveMapper {
+    
+    // 보관 대상 댓글 ID 조회 (삭제 시각 기준, idx 키셋 순서)
+    List<Long> selectArchivableCommentIds(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("afterIdx") long afterIdx,
+                                          @Param("limit") int limit);
+    
+    // 댓글을 보관 테이블로 복사
+    int insertCommentArchive(@Param("ids") List<Long> ids);
+    
+    // 보관된 댓글 원본 삭제 (물리 삭제)
+    int deleteComments(@Param("ids") List<Long> ids);
+    
+    // 보관 대상 게시글 ID 조회 (남아있는 댓글이 없는 게시글만, idx 키셋 순서)
+    List<Long> selectArchivableBoardIds(@Param("cutoff") LocalDateTime cutoff,
+                                        @Param("afterIdx") long afterIdx,
+                                        @Param("limit") int limit);
+    
+    // 게시글을 보관 테이블로 복사
+    int insertBoardArchive(@Param("ids") List<Long> ids);
+    
+    // 보관된 게시글 원본 삭제 (물리 삭제)
+    int deleteBoards(@Param("ids") List<Long> ids);
+}
@@ -1,8 +1,14 @@
 package com.example.board.mapper;
 
 import com.example.board.domain.BoardV0;
+import com.example.board.dto.BoardActivity;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Mapper
 public interface BoardMapper {
@@ -10,18 +16,45 @@ public interface BoardMapper {
     // 게시글 등록 (INSERT)
     void insertBoard(BoardV0 boardV0);
     
-    // 게시글 목록 조회 (SELECT) - 삭제되지 않은 게시글만
-    List<BoardV0> selectBoardList();
+    // 게시글 목록 조회 (SELECT) - 삭제되지 않은 게시글만, fields에 포함된 컬럼만 조회
+    List<BoardV0> selectBoardList(@Param("fields") Set<String> fields);
     
     // 게시글 단건 조회 (ID로 직접 조회)
     BoardV0 selectBoardById(Long idx);
     
+    // 작성자별 게시글 페이지 조회 (키셋: regDate, idx 역순) - 삭제되지 않은 게시글만
+    List<BoardV0> selectBoardsByWriter(@Param("writerId") String writerId,
+                                       @Param("beforeRegDate") LocalDateTime beforeRegDate,
+                                       @Param("beforeIdx") Long beforeIdx,
+                                       @Param("limit") int limit);
+    
+    // 게시글 여러 건 조회 (ID 목록, 댓글 수 포함) - 삭제되지 않은 게시글만
+    List<BoardV0> selectBoardsByIds(@Param("boardIds") Collection<Long> boardIds);
+    
     // 게시글 삭제 (논리 삭제) - delYn을 'Y'로 변경
     void deleteBoard(Long idx);
     
+    // 게시글 일괄 삭제 (논리 삭제) - 실제로 삭제 처리된 게시글 수 반환
+    int deleteBoards(@Param("boardIds") Collection<Long> boardIds);
+    
     // 게시글 수정 - 제목과 내용만 수정 가능
     void updateBoard(BoardV0 boardV0);
     
     // 게시글 존재 여부 확인 (효율적인 COUNT 쿼리)
     int existsBoardById(Long idx);
+    
+    // 조회수 일괄 증가 (게시글 ID -> 증가분, 단일 UPDATE 문)
+    void increaseViews(@Param("deltas") Map<Long, Long> deltas);
+    
+    // 최근 등록된 게시글 이력 조회 (인기 게시글 순위 재구성용)
+    List<BoardActivity> selectBoardActivitySince(LocalDateTime since);
+    
+    // 가장 큰 게시글 ID (삭제된 게시글 포함, 없으면 0)
+    long selectMaxBoardIdx();
+    
+    // afterIdx 이후의 삭제되지 않은 게시글 ID (idx 순, 게시글 존재 여부 적재용)
+    List<Long> selectLiveBoardIdsAfter(@Param("afterIdx") long afterIdx, @Param("limit") int limit);
+    
+    // 주어진 ID 중 삭제되지 않은 게시글 ID
+    List<Long> selectLiveBoardIds(@Param("boardIds") Collection<Long> boardIds);
 }
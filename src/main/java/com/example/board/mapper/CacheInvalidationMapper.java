@@ -0,0 +1,23 @@
+package com.example.board.mapper;
+
+import com.example.board.cache.CacheInvalidation;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface CacheInvalidationMapper {
+    
+    // 무효화 메시지 다건 등록
+    void insertInvalidations(@Param("invalidations") List<CacheInvalidation> invalidations);
+    
+    // 특정 id 이후의 무효화 메시지 조회 (id 순)
+    List<CacheInvalidation> selectInvalidationsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    // 가장 최근 메시지 id 조회 (없으면 0)
+    long selectMaxId();
+    
+    // 발행 시각이 기준보다 오래된 메시지 삭제
+    int deleteInvalidationsBefore(@Param("publishedBefore") long publishedBefore, @Param("limit") int limit);
+}
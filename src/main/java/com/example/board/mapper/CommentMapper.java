@@ -1,8 +1,14 @@
 package com.example.board.mapper;
 
 import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardActivity;
+import com.example.board.dto.CommentReplyCount;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Mapper
 public interface CommentMapper {
@@ -10,8 +16,37 @@ public interface CommentMapper {
     // 댓글 등록 (INSERT)
     void insertComment(CommentV0 comment);
     
-    // 특정 게시글의 댓글 목록 조회 (SELECT) - 삭제되지 않은 댓글만
-    List<CommentV0> selectCommentsByBoardIdx(Long boardIdx);
+    // 댓글 경로 설정 (등록 직후 같은 트랜잭션에서 호출)
+    void updateCommentPath(@Param("idx") Long idx, @Param("parentPath") String parentPath);
+    
+    // 특정 게시글의 최상위 댓글 페이지 조회 (키셋: regDate, idx) - 삭제되지 않은 댓글만, fields에 포함된 컬럼만 조회
+    List<CommentV0> selectTopLevelComments(@Param("boardIdx") Long boardIdx,
+                                           @Param("afterRegDate") LocalDateTime afterRegDate,
+                                           @Param("afterIdx") Long afterIdx,
+                                           @Param("limit") int limit,
+                                           @Param("fields") Set<String> fields);
+    
+    // 여러 게시글의 최상위 댓글 첫 페이지 조회 (게시글마다 limit 건, 단일 쿼리)
+    List<CommentV0> selectTopLevelCommentsByBoardIds(@Param("boardIds") Collection<Long> boardIds,
+                                                     @Param("limit") int limit);
+    
+    // 작성자별 댓글 페이지 조회 (키셋: regDate, idx 역순) - 삭제되지 않은 댓글만
+    List<CommentV0> selectCommentsByWriter(@Param("writerId") String writerId,
+                                           @Param("beforeRegDate") LocalDateTime beforeRegDate,
+                                           @Param("beforeIdx") Long beforeIdx,
+                                           @Param("limit") int limit);
+    
+    // 특정 댓글의 하위 스레드 페이지 조회 (path 순) - 삭제되지 않은 댓글만
+    List<CommentV0> selectReplies(@Param("boardIdx") Long boardIdx,
+                                  @Param("rootPath") String rootPath,
+                                  @Param("afterPath") String afterPath,
+                                  @Param("limit") int limit);
+    
+    // 댓글별 바로 아래 답글 수
+    List<CommentReplyCount> selectReplyCounts(@Param("parentIds") Collection<Long> parentIds);
+    
+    // 특정 게시글의 댓글 수 (답글 포함)
+    int countCommentsByBoardIdx(Long boardIdx);
     
     // 모든 댓글 목록 조회 (SELECT) - 삭제되지 않은 댓글만
     List<CommentV0> selectAllComments();
@@ -21,4 +56,10 @@ public interface CommentMapper {
     
     // 댓글 삭제 (논리 삭제: delYn = 'Y')
     void deleteComment(Long idx);
+    
+    // 게시글들의 댓글 일괄 삭제 (논리 삭제, 한 번에 limit 건까지) - 삭제 처리된 댓글 수 반환
+    int deleteCommentsByBoardIds(@Param("boardIds") Collection<Long> boardIds, @Param("limit") int limit);
+    
+    // 최근 댓글 이력 조회 (게시글별 1시간 단위 집계, 인기 게시글 순위 재구성용)
+    List<BoardActivity> selectCommentActivitySince(LocalDateTime since);
 }
\ No newline at end of file
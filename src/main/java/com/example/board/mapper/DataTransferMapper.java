@@ -0,0 +1,25 @@
+package com.example.board.mapper;
+
+import com.example.board.dto.BoardTransferRecord;
+import com.example.board.dto.CommentTransferRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
+
+@Mapper
+public interface DataTransferMapper {
+    
+    // 게시글 전체를 idx 순으로 스트리밍 조회 (afterIdx 다음부터)
+    Cursor<BoardTransferRecord> selectBoardsForExport(@Param("afterIdx") long afterIdx);
+    
+    // 댓글 전체를 idx 순으로 스트리밍 조회 (afterIdx 다음부터)
+    Cursor<CommentTransferRecord> selectCommentsForExport(@Param("afterIdx") long afterIdx);
+    
+    // 게시글 일괄 등록 (같은 idx가 있으면 갱신)
+    int upsertBoards(@Param("boards") List<BoardTransferRecord> boards);
+    
+    // 댓글 일괄 등록 (같은 idx가 있으면 갱신)
+    int upsertComments(@Param("comments") List<CommentTransferRecord> comments);
+}
@@ -0,0 +1,21 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.IdempotencyRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface IdempotencyMapper {
+    
+    // 멱등성 키 등록 (이미 있으면 무시) - 등록된 행 수 반환
+    int insertRecord(IdempotencyRecord record);
+    
+    // 만료되지 않은 멱등성 키 조회
+    IdempotencyRecord selectRecord(@Param("scope") String scope,
+                                   @Param("userId") String userId,
+                                   @Param("idemKey") String idemKey,
+                                   @Param("now") long now);
+    
+    // 만료된 멱등성 키 삭제 (한 번에 limit 건까지)
+    int deleteExpiredRecords(@Param("now") long now, @Param("limit") int limit);
+}
@@ -0,0 +1,21 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.JobCheckpoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface JobCheckpointMapper {
+    
+    // 작업의 마지막 처리 위치 조회 (없으면 null)
+    Long selectLastIdx(String jobName);
+    
+    // 작업의 마지막 처리 위치 저장 (없으면 등록, 있으면 갱신)
+    void upsertCheckpoint(@Param("jobName") String jobName, @Param("lastIdx") long lastIdx);
+    
+    // 작업의 진행 위치 전체 조회 (없으면 null)
+    JobCheckpoint selectCheckpoint(String jobName);
+    
+    // 작업의 진행 위치 전체 저장 (행 순번, 내용 지문 포함)
+    void upsertFullCheckpoint(JobCheckpoint checkpoint);
+}
@@ -0,0 +1,22 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.TokenRevocation;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface TokenRevocationMapper {
+    
+    // 폐기 항목 등록
+    void insertRevocation(TokenRevocation revocation);
+    
+    // 특정 id 이후의 만료되지 않은 폐기 항목 조회 (id 순)
+    List<TokenRevocation> selectRevocationsAfter(@Param("afterId") long afterId,
+                                                 @Param("now") long now,
+                                                 @Param("limit") int limit);
+    
+    // 만료된 폐기 항목 삭제
+    int deleteExpiredRevocations(@Param("now") long now);
+}
@@ -0,0 +1,37 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.UserActivity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface UserActivityMapper {
+    
+    // 사용자 활동 집계 조회 (기본키 조회)
+    UserActivity selectByUserId(@Param("userId") String userId);
+    
+    // 여러 사용자 활동 집계 조회 (기본키 IN 조회)
+    List<UserActivity> selectByUserIds(@Param("userIds") Collection<String> userIds);
+    
+    // 게시글 수(byComments=false) 또는 댓글 수 상위 사용자 조회
+    List<UserActivity> selectTop(@Param("byComments") boolean byComments, @Param("limit") int limit);
+    
+    // 게시글/댓글 수 증감 (행이 없으면 생성)
+    int upsertDelta(@Param("userId") String userId,
+                    @Param("boardDelta") int boardDelta,
+                    @Param("commentDelta") int commentDelta,
+                    @Param("activityAt") LocalDateTime activityAt);
+    
+    // 지정한 사용자들의 집계를 원본 테이블에서 다시 계산하여 저장
+    int recountUsers(@Param("userIds") Collection<String> userIds);
+    
+    // 재집계 대상 사용자 ID 키셋 조회
+    List<String> selectUserIdsAfter(@Param("afterUserId") String afterUserId, @Param("limit") int limit);
+    
+    // 게시글 작성자와 해당 게시글의 댓글 작성자 조회
+    List<String> selectWriterIdsByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+}
@@ -2,7 +2,10 @@ package com.example.board.mapper;
 
 import com.example.board.domain.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,9 +22,23 @@ public interface UserMapper {
      */
     User selectUserByUserId(String userId);
     
+    /**
+     * 여러 사용자의 표시 이름 조회 (탈퇴/비활성 사용자 제외)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID와 이름만 채워진 사용자 목록
+     */
+    List<User> selectDisplayNames(@Param("userIds") Collection<String> userIds);
+    
     /**
      * 사용자 등록 (향후 확장을 위해 정의, 현재는 사용하지 않음)
      * @param user 사용자 정보
      */
     void insertUser(User user);
+    
+    /**
+     * 사용자 계정 비활성화
+     * @param userId 사용자 ID
+     * @return 변경된 행 수 (없거나 이미 비활성화된 경우 0)
+     */
+    int deactivateUser(String userId);
 }
\ No newline at end of file
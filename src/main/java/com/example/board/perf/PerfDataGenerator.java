@@ -0,0 +1,477 @@
+package com.example.board.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * perf 프로필의 내장 DB에 운영 규모의 가상 데이터를 만드는 일만을 담당합니다.
+ *
+ * 실무 원칙: 노트북에서도 수백만 건을 몇 분 안에 생성
+ * - JDBC 배치 INSERT(batch-size 건씩 실행 후 커밋), ORM/Mapper를 거치지 않음
+ * - 같은 seed면 같은 데이터가 만들어져 측정 결과를 비교할 수 있음
+ * - 운영 데이터와 비슷한 쏠림
+ *   - 작성자: 소수 사용자가 대부분의 글을 쓰는 멱법칙 분포 (writer-skew)
+ *   - 게시글별 댓글 수: 대부분 0~몇 개, 일부 게시글에 수천 개가 몰리는 Lomax(Pareto II) 분포
+ *   - 댓글의 reply-ratio는 같은 게시글의 앞선 댓글에 대한 답글 (path/depth 포함)
+ *   - 게시글/댓글 일부는 논리 삭제, 사용자 일부는 비활성/탈퇴
+ * - 게시글 등록 시각은 idx 순으로 days일에 걸쳐 증가, 댓글은 게시글 등록 이후로 분포
+ * - t_user_activity도 생성한 데이터와 맞게 채움
+ *
+ * perf.data.generate=true 이고 t_board가 비어 있을 때만 실행됩니다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+public class PerfDataGenerator implements ApplicationRunner {
+
+    private static final String PASSWORD = "password1234";
+    private static final String ADMIN_USER_ID = "perf_admin";
+
+    /** 작성자 순위를 사용자 번호로 섞기 위한 소수 (인기 작성자가 앞 번호에 몰리지 않도록) */
+    private static final long RANK_SCRAMBLE_PRIME = 1_000_003L;
+
+    private static final int MAX_COMMENTS_PER_BOARD = 20_000;
+    private static final int MAX_REPLY_DEPTH = 3;
+    private static final double COMMENT_TAIL_ALPHA = 1.5;
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final String[] NAME_SYLLABLES = {
+            "민", "서", "지", "준", "현", "우", "예", "은", "하", "도", "윤", "수", "영", "진", "성", "호", "연", "유", "재", "원"};
+    private static final String[] NOUNS = {
+            "게시판", "서버", "데이터베이스", "캐시", "인덱스", "쿼리", "주말", "여행", "맛집", "커피", "운동", "영화",
+            "음악", "책", "프로젝트", "회의", "점심", "날씨", "고양이", "강아지", "자전거", "사진", "코드", "배포",
+            "장애", "성능", "모니터링", "휴가", "가족", "친구", "출근길", "야근", "이사", "중고거래", "캠핑", "등산"};
+    private static final String[] PREDICATES = {
+            "좋았습니다", "궁금합니다", "공유합니다", "추천합니다", "정리했습니다", "해결했습니다", "느려졌습니다",
+            "빨라졌습니다", "시작했습니다", "끝났습니다", "확인 부탁드립니다", "어떻게 생각하세요", "다시 해 봐야겠어요",
+            "생각보다 어렵네요", "정말 만족스러웠어요"};
+    private static final String[] TEMPLATES = {
+            "%s 관련해서 %s", "요즘 %s 때문에 %s", "오늘 %s 이야기인데 %s", "%s 후기입니다. %s", "%s 질문 있습니다. %s"};
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    private final boolean enabled;
+    private final int userCount;
+    private final int boardCount;
+    private final long commentCount;
+    private final int batchSize;
+    private final long seed;
+    private final int days;
+    private final double writerSkew;
+    private final double replyRatio;
+
+    public PerfDataGenerator(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            @Value("${perf.data.generate:false}") boolean enabled,
+            @Value("${perf.data.users:200000}") int userCount,
+            @Value("${perf.data.boards:1000000}") int boardCount,
+            @Value("${perf.data.comments:3000000}") long commentCount,
+            @Value("${perf.data.batch-size:5000}") int batchSize,
+            @Value("${perf.data.seed:20240101}") long seed,
+            @Value("${perf.data.days:365}") int days,
+            @Value("${perf.data.writer-skew:3.0}") double writerSkew,
+            @Value("${perf.data.reply-ratio:0.25}") double replyRatio) {
+
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.enabled = enabled;
+        this.userCount = userCount;
+        this.boardCount = boardCount;
+        this.commentCount = commentCount;
+        this.batchSize = batchSize;
+        this.seed = seed;
+        this.days = days;
+        this.writerSkew = writerSkew;
+        this.replyRatio = replyRatio;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        if (userCount <= 0 || boardCount <= 0 || commentCount < 0) {
+            throw new IllegalArgumentException("perf.data.users, perf.data.boards는 1 이상이어야 합니다.");
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (countRows(connection, "t_board") > 0) {
+                log.info("가상 데이터 생성 생략 - 이미 게시글이 있습니다. (새로 만들려면 build/perf 디렉터리 삭제)");
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            connection.setAutoCommit(false);
+
+            SplittableRandom random = new SplittableRandom(seed);
+            long now = System.currentTimeMillis() / 1000;
+            long from = now - days * 86_400L;
+            Activity activity = new Activity(userCount);
+
+            insertUsers(connection, random, from);
+            long[] boardTimes = insertBoards(connection, random, from, now, activity);
+            long comments = insertComments(connection, random, boardTimes, now, activity);
+            insertUserActivity(connection, activity, now);
+
+            // 생성기가 idx를 직접 지정했으므로 이후 애플리케이션 등록이 이어지도록 자동 증가 값을 맞춤
+            resetAutoIncrement(connection, "t_board", boardCount + 1L);
+            resetAutoIncrement(connection, "t_comment", comments + 1);
+            connection.commit();
+
+            log.info("가상 데이터 생성 완료 - 사용자: {}명, 게시글: {}건, 댓글: {}건, 소요: {}초 (로그인: {} / {})",
+                    userCount, boardCount, comments, (System.currentTimeMillis() - startedAt) / 1000,
+                    ADMIN_USER_ID, PASSWORD);
+        }
+    }
+
+    /**
+     * 사용자 생성 (2%는 비활성, 1%는 탈퇴, perf_admin은 관리자)
+     */
+    private void insertUsers(Connection connection, SplittableRandom random, long from) throws SQLException {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        String sql = "INSERT INTO users (user_id, password, username, email, role, active_yn, reg_date, del_yn) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Batch batch = new Batch(connection, statement, "users", userCount + 1L);
+
+            statement.setString(1, ADMIN_USER_ID);
+            statement.setString(2, encodedPassword);
+            statement.setString(3, "관리자");
+            statement.setString(4, ADMIN_USER_ID + "@example.com");
+            statement.setString(5, "ADMIN");
+            statement.setString(6, "Y");
+            statement.setTimestamp(7, toTimestamp(from));
+            statement.setString(8, "N");
+            batch.add();
+
+            for (int i = 0; i < userCount; i++) {
+                double state = random.nextDouble();
+                statement.setString(1, userId(i));
+                statement.setString(2, encodedPassword);
+                statement.setString(3, koreanName(random));
+                statement.setString(4, userId(i) + "@example.com");
+                statement.setString(5, "USER");
+                statement.setString(6, state < 0.02 ? "N" : "Y");
+                statement.setTimestamp(7, toTimestamp(from - random.nextLong(365L * 86_400)));
+                statement.setString(8, state >= 0.02 && state < 0.03 ? "Y" : "N");
+                batch.add();
+            }
+            batch.finish();
+        }
+    }
+
+    /**
+     * 게시글 생성 (idx 1부터, 등록 시각은 idx 순으로 증가, 3%는 논리 삭제)
+     * @return 게시글별 등록 시각 (epoch 초, 음수면 삭제된 게시글)
+     */
+    private long[] insertBoards(Connection connection, SplittableRandom random,
+                                long from, long now, Activity activity) throws SQLException {
+        long[] boardTimes = new long[boardCount + 1];
+        double step = (double) (now - from) / boardCount;
+        String sql = "INSERT INTO t_board (idx, title, content, writer_id, regDate, delYn, delDate, views) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Batch batch = new Batch(connection, statement, "t_board", boardCount);
+
+            for (int idx = 1; idx <= boardCount; idx++) {
+                long regDate = from + (long) ((idx - 1) * step + random.nextDouble() * step);
+                boolean deleted = random.nextDouble() < 0.03;
+                int writer = pickWriter(random);
+
+                statement.setLong(1, idx);
+                statement.setString(2, truncate(sentence(random), 100));
+                statement.setString(3, paragraph(random, 2 + random.nextInt(8), 2000));
+                statement.setString(4, userId(writer));
+                statement.setTimestamp(5, toTimestamp(regDate));
+                statement.setString(6, deleted ? "Y" : "N");
+                if (deleted) {
+                    statement.setTimestamp(7, toTimestamp(regDate + random.nextLong(Math.max(1, now - regDate))));
+                } else {
+                    statement.setNull(7, Types.TIMESTAMP);
+                }
+                statement.setLong(8, (long) (lomax(random, 20) + random.nextInt(10)));
+                batch.add();
+
+                boardTimes[idx] = deleted ? -regDate : regDate;
+                if (!deleted) {
+                    activity.record(writer, true, regDate);
+                }
+            }
+            batch.finish();
+        }
+        return boardTimes;
+    }
+
+    /**
+     * 댓글 생성 (게시글 순서대로, 게시글별 개수는 Lomax 분포, 총 개수가 comments에 이르면 중단)
+     * @return 생성한 댓글 수
+     */
+    private long insertComments(Connection connection, SplittableRandom random,
+                                long[] boardTimes, long now, Activity activity) throws SQLException {
+        String sql = "INSERT INTO t_comment (idx, boardIdx, parentIdx, comment, writer_id, regDate, delYn, delDate, path, depth) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Long> threadIds = new ArrayList<>();
+        List<String> threadPaths = new ArrayList<>();
+        List<Integer> threadDepths = new ArrayList<>();
+        long idx = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Batch batch = new Batch(connection, statement, "t_comment", commentCount);
+
+            for (int boardIdx = 1; boardIdx <= boardCount && idx < commentCount; boardIdx++) {
+                // 꼬리를 잘라 모자란 만큼 남은 게시글의 평균을 높여 목표 댓글 수에 맞춤
+                double meanPerBoard = (double) (commentCount - idx) / (boardCount - boardIdx + 1);
+                double scale = meanPerBoard * (COMMENT_TAIL_ALPHA - 1);
+                int comments = (int) Math.min(Math.min(lomax(random, scale), MAX_COMMENTS_PER_BOARD), commentCount - idx);
+                boolean boardDeleted = boardTimes[boardIdx] < 0;
+                long regDate = Math.abs(boardTimes[boardIdx]);
+                double meanGap = Math.max(60, (double) (now - regDate) / Math.max(1, comments) / 4);
+
+                threadIds.clear();
+                threadPaths.clear();
+                threadDepths.clear();
+
+                for (int i = 0; i < comments; i++) {
+                    idx++;
+                    regDate = Math.min(now, regDate + (long) (-Math.log(1 - random.nextDouble()) * meanGap));
+                    boolean deleted = boardDeleted || random.nextDouble() < 0.02;
+                    int writer = pickWriter(random);
+
+                    Long parentIdx = null;
+                    String path = pad(idx);
+                    int depth = 0;
+                    if (!threadIds.isEmpty() && random.nextDouble() < replyRatio) {
+                        int parent = random.nextInt(threadIds.size());
+                        if (threadDepths.get(parent) < MAX_REPLY_DEPTH) {
+                            parentIdx = threadIds.get(parent);
+                            path = threadPaths.get(parent) + "/" + pad(idx);
+                            depth = threadDepths.get(parent) + 1;
+                        }
+                    }
+                    threadIds.add(idx);
+                    threadPaths.add(path);
+                    threadDepths.add(depth);
+
+                    statement.setLong(1, idx);
+                    statement.setLong(2, boardIdx);
+                    if (parentIdx != null) {
+                        statement.setLong(3, parentIdx);
+                    } else {
+                        statement.setNull(3, Types.BIGINT);
+                    }
+                    statement.setString(4, paragraph(random, 1 + random.nextInt(2), 500));
+                    statement.setString(5, userId(writer));
+                    statement.setTimestamp(6, toTimestamp(regDate));
+                    statement.setString(7, deleted ? "Y" : "N");
+                    if (deleted) {
+                        statement.setTimestamp(8, toTimestamp(now));
+                    } else {
+                        statement.setNull(8, Types.TIMESTAMP);
+                    }
+                    statement.setString(9, path);
+                    statement.setInt(10, depth);
+                    batch.add();
+
+                    if (!deleted) {
+                        activity.record(writer, false, regDate);
+                    }
+                }
+            }
+            batch.finish();
+        }
+        return idx;
+    }
+
+    /**
+     * 사용자별 활동 집계 (생성한 데이터 기준)
+     */
+    private void insertUserActivity(Connection connection, Activity activity, long now) throws SQLException {
+        String sql = "INSERT INTO t_user_activity (user_id, board_count, comment_count, last_activity_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Batch batch = new Batch(connection, statement, "t_user_activity", userCount);
+
+            for (int user = 0; user < userCount; user++) {
+                if (activity.lastActivity[user] == 0) {
+                    continue;
+                }
+                statement.setString(1, userId(user));
+                statement.setLong(2, activity.boards[user]);
+                statement.setLong(3, activity.comments[user]);
+                statement.setTimestamp(4, toTimestamp(activity.lastActivity[user]));
+                statement.setTimestamp(5, toTimestamp(now));
+                batch.add();
+            }
+            batch.finish();
+        }
+    }
+
+    private static long countRows(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void resetAutoIncrement(Connection connection, String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+        }
+    }
+
+    /**
+     * 멱법칙 작성자 선택: 순위 = 사용자 수 * u^skew (skew가 클수록 상위 작성자에 집중)
+     */
+    private int pickWriter(SplittableRandom random) {
+        long rank = (long) (userCount * Math.pow(random.nextDouble(), writerSkew));
+        long prime = userCount % RANK_SCRAMBLE_PRIME == 0 ? RANK_SCRAMBLE_PRIME + 30 : RANK_SCRAMBLE_PRIME;
+        return (int) (rank * prime % userCount);
+    }
+
+    /**
+     * Lomax(Pareto II) 분포 표본 (0 이상, 평균 scale / (alpha - 1), 긴 꼬리)
+     */
+    private static double lomax(SplittableRandom random, double scale) {
+        return scale * (Math.pow(1 - random.nextDouble(), -1 / COMMENT_TAIL_ALPHA) - 1);
+    }
+
+    private static String userId(int user) {
+        return "user" + (1_000_000 + user);
+    }
+
+    private static String koreanName(SplittableRandom random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)]
+                + NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)];
+    }
+
+    private static String sentence(SplittableRandom random) {
+        String template = TEMPLATES[random.nextInt(TEMPLATES.length)];
+        return String.format(template, NOUNS[random.nextInt(NOUNS.length)], PREDICATES[random.nextInt(PREDICATES.length)]);
+    }
+
+    private static String paragraph(SplittableRandom random, int sentences, int maxLength) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(sentence(random)).append('.');
+        }
+        return truncate(text.toString(), maxLength);
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength);
+    }
+
+    /**
+     * 댓글 경로 한 단계 (CommentRepository와 같은 12자리 형식)
+     */
+    private static String pad(long idx) {
+        String digits = Long.toString(idx);
+        return "0".repeat(Math.max(0, 12 - digits.length())) + digits;
+    }
+
+    private static Timestamp toTimestamp(long epochSecond) {
+        return new Timestamp(epochSecond * 1000);
+    }
+
+    /**
+     * batch-size 건마다 실행 후 커밋, 10%마다 진행 상황 기록
+     */
+    private final class Batch {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final String table;
+        private final long logEvery;
+        private long pending;
+        private long written;
+
+        private Batch(Connection connection, PreparedStatement statement, String table, long expected) {
+            this.connection = connection;
+            this.statement = statement;
+            this.table = table;
+            this.logEvery = Math.max(batchSize, expected / 10);
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            if (++pending == batchSize) {
+                flush();
+            }
+        }
+
+        private void finish() throws SQLException {
+            flush();
+            log.info("가상 데이터 생성 - {}: {}건", table, written);
+        }
+
+        private void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            statement.executeBatch();
+            connection.commit();
+
+            long before = written;
+            written += pending;
+            pending = 0;
+            if (before / logEvery != written / logEvery) {
+                log.info("가상 데이터 생성 중 - {}: {}건", table, written);
+            }
+        }
+    }
+
+    /**
+     * 사용자별 활동 집계 (삭제되지 않은 게시글/댓글만)
+     */
+    private static final class Activity {
+
+        private final int[] boards;
+        private final int[] comments;
+        private final long[] lastActivity;
+
+        private Activity(int userCount) {
+            this.boards = new int[userCount];
+            this.comments = new int[userCount];
+            this.lastActivity = new long[userCount];
+        }
+
+        private void record(int user, boolean board, long at) {
+            if (board) {
+                boards[user]++;
+            } else {
+                comments[user]++;
+            }
+            lastActivity[user] = Math.max(lastActivity[user], at);
+        }
+    }
+}
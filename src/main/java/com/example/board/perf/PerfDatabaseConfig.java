@@ -0,0 +1,64 @@
+package com.example.board.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * perf 프로필의 내장 DB(H2, MySQL 호환 모드)에 테이블을 만드는 설정만을 담당합니다.
+ *
+ * - 기본 테이블(db/perf/000_base_schema.sql) 생성 후 db/migration의 스크립트를 파일 이름 순서로 적용
+ * - DB 파일이 이미 있으면(t_board 테이블이 있으면) 그대로 사용하여, 생성한 대량 데이터를 다음 실행에서도 재사용
+ * - Spring Boot의 DB 초기화 빈으로 등록되므로 Mapper와 Service는 테이블이 만들어진 뒤에 DB를 사용
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@Profile("perf")
+public class PerfDatabaseConfig {
+
+    private static final List<String> SCHEMA_LOCATIONS = List.of(
+            "classpath:db/perf/000_base_schema.sql",
+            "classpath:db/migration/*.sql");
+
+    @Bean
+    public DataSourceScriptDatabaseInitializer perfSchemaInitializer(DataSource dataSource) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(SCHEMA_LOCATIONS);
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        settings.setEncoding(StandardCharsets.UTF_8);
+
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings) {
+            @Override
+            public boolean initializeDatabase() {
+                if (hasTable(dataSource, "t_board")) {
+                    log.info("perf 프로필 - 기존 내장 DB 사용");
+                    return false;
+                }
+
+                log.info("perf 프로필 - 내장 DB 테이블 생성: {}", SCHEMA_LOCATIONS);
+                return super.initializeDatabase();
+            }
+        };
+    }
+
+    private static boolean hasTable(DataSource dataSource, String tableName) {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, null, tableName, new String[]{"TABLE"})) {
+            return tables.next();
+        } catch (SQLException e) {
+            throw new IllegalStateException("perf 프로필 DB 확인 실패", e);
+        }
+    }
+}
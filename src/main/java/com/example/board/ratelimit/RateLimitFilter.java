@@ -0,0 +1,70 @@
+package com.example.board.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 요청 빈도 제한 결과에 따라 요청을 통과시키거나 429로 거절하는 일만 담당합니다.
+ *
+ * 보안 필터 체인에서 JwtAuthenticationFilter 다음에 실행되어 인증된 사용자 ID를 키로 쓸 수 있습니다.
+ * 거절된 요청은 Controller, DB 조회, 비밀번호 검증(BCrypt)까지 가지 않습니다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.CompiledRule rule = rateLimiter.findRule(request.getMethod(), path);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(rule, resolveKey(rule, request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = rateLimiter.getRejectedBody();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rule.retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 제한 키: 사용자 기준 규칙은 인증된 사용자 ID, 그 외(또는 미인증)는 클라이언트 IP
+     * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr()가 실제 IP를 반환하도록 합니다.
+     */
+    private String resolveKey(RateLimiter.CompiledRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
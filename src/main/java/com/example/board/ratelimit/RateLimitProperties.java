@@ -0,0 +1,48 @@
+package com.example.board.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 빈도 제한 설정 (rate-limit.*)
+ * 경로별 규칙이 목록 형태라 @Value 대신 설정 클래스로 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;             // false면 모든 요청 통과
+    private int maxKeysPerRule = 100_000;       // 규칙별 추적하는 키(사용자/IP) 수 상한
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 경로별 제한 규칙
+     * period 동안 limit 건까지 허용하며, 한꺼번에는 burst 건까지 허용합니다.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;                    // 규칙 이름 (지표 태그)
+        private String method;                  // HTTP 메서드
+        private String path;                    // 경로 패턴 (예: /auth/login, /comment/**)
+        private KeyType key = KeyType.USER;     // 제한 단위
+        private int limit;                      // period 동안 허용 건수
+        private Duration period = Duration.ofMinutes(1);
+        private Integer burst;                  // 연속 허용 건수 (없으면 limit)
+    }
+
+    /**
+     * 제한 단위
+     * USER는 인증된 사용자 ID 기준이며, 인증되지 않은 요청은 IP 기준으로 제한합니다.
+     */
+    public enum KeyType {
+        USER, IP
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.board.ratelimit;
+
+import com.example.board.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 경로별 규칙에 따른 요청 빈도 판단과 키별 상태 관리만을 담당합니다.
+ * 요청/응답 처리는 RateLimitFilter가 담당합니다.
+ *
+ * 실무 원칙: 제한 판단이 거절 대상 작업보다 비싸지 않도록 함
+ * - 키별 상태는 ConcurrentHashMap + AtomicLong 하나 (CAS로 갱신, 락 없음)
+ * - 가득 찬(오래 쓰이지 않은) 버킷은 주기적으로 제거, 규칙별 키 수 상한으로 메모리 보호
+ * - 상한에 닿으면 그 자리에서 가득 찬 버킷을 정리하고, 그래도 자리가 없으면 규칙별 공용 버킷으로 제한
+   (처음 보는 키를 모두 거절하지 않음)
+ * - 거절 응답 본문은 시작 시 한 번만 직렬화해 두고 그대로 사용
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String REJECTED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final boolean enabled;
+    private final int maxKeysPerRule;
+    private final List<CompiledRule> rules;
+    private final byte[] rejectedBody;
+
+    public RateLimiter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry)
+            throws JsonProcessingException {
+
+        this.enabled = properties.isEnabled();
+        this.maxKeysPerRule = properties.getMaxKeysPerRule();
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, meterRegistry))
+                .toList();
+        this.rejectedBody = objectMapper.writeValueAsBytes(ApiResponse.failure(REJECTED_MESSAGE));
+
+        rules.forEach(rule -> log.info("요청 빈도 제한 규칙 - {} {} {}: {}건/{}ms, 연속 {}건, 기준: {}",
+                rule.name, rule.method, rule.pattern, rule.limit, rule.periodMillis, rule.burst, rule.keyType));
+    }
+
+    /**
+     * 요청에 적용할 규칙 조회 (없으면 null)
+     */
+    CompiledRule findRule(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        PathContainer pathContainer = null;
+        for (CompiledRule rule : rules) {
+            if (!rule.method.equalsIgnoreCase(method)) {
+                continue;
+            }
+            if (pathContainer == null) {
+                pathContainer = PathContainer.parsePath(path);
+            }
+            if (rule.pattern.matches(pathContainer)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 하나 소비 시도
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(나노초)
+     */
+    long tryAcquire(CompiledRule rule, String key) {
+        return tryAcquire(rule, key, System.nanoTime());
+    }
+
+    long tryAcquire(CompiledRule rule, String key, long now) {
+        TokenBucket bucket = rule.buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(rule, key, now);
+        }
+
+        long waitNanos = bucket.tryAcquire(now, rule.intervalNanos, rule.toleranceNanos);
+        if (waitNanos > 0) {
+            rule.rejectedCounter.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 새 키의 버킷 생성
+     * 키 수 상한에 닿으면 가득 찬 버킷을 바로 정리해 자리를 만들고,
+     * 그래도 자리가 없으면(모든 키가 제한 중) 새 키들은 규칙별 공용 버킷 하나를 나눠 씁니다.
+     */
+    private TokenBucket newBucket(CompiledRule rule, String key, long now) {
+        if (rule.buckets.size() >= maxKeysPerRule) {
+            evictIdleBucketsInline(rule, now);
+            if (rule.buckets.size() >= maxKeysPerRule) {
+                rule.overflowCounter.increment();
+                return rule.overflowBucket;
+            }
+        }
+        return rule.buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+    }
+
+    /**
+     * 상한에 닿았을 때의 즉시 정리
+     * 전체 키를 훑는 작업이라 한 번에 한 스레드만, 토큰 하나 충전 시간에 한 번까지만 수행합니다.
+     * (그 사이에는 새로 가득 찬 버킷이 생길 수 없음)
+     */
+    private void evictIdleBucketsInline(CompiledRule rule, long now) {
+        long last = rule.lastInlineEviction.get();
+        if (now - last < rule.intervalNanos || !rule.lastInlineEviction.compareAndSet(last, now)) {
+            return;
+        }
+        int evicted = evictIdleBuckets(rule, now);
+        log.debug("요청 빈도 제한 키 수 상한 도달 - 규칙: {}, 즉시 제거: {}건", rule.name, evicted);
+    }
+
+    byte[] getRejectedBody() {
+        return rejectedBody;
+    }
+
+    /**
+     * 가득 찬 버킷 제거
+     * 가득 찬 버킷은 새로 만든 버킷과 상태가 같으므로 제거해도 제한 결과가 달라지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (CompiledRule rule : rules) {
+            int evicted = evictIdleBuckets(rule, now);
+            if (evicted > 0) {
+                log.debug("요청 빈도 제한 상태 정리 - 규칙: {}, 제거: {}건, 남은 키: {}건",
+                        rule.name, evicted, rule.buckets.size());
+            }
+        }
+    }
+
+    private int evictIdleBuckets(CompiledRule rule, long now) {
+        int before = rule.buckets.size();
+        rule.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        return before - rule.buckets.size();
+    }
+
+    /**
+     * 설정 규칙을 요청마다 계산하지 않도록 미리 변환한 규칙
+     */
+    static final class CompiledRule {
+
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final RateLimitProperties.KeyType keyType;
+        private final int limit;
+        private final int burst;
+        private final long periodMillis;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflowBucket = new TokenBucket(System.nanoTime());
+        private final AtomicLong lastInlineEviction = new AtomicLong(System.nanoTime());
+        private final Counter rejectedCounter;
+        private final Counter overflowCounter;
+
+        private CompiledRule(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            if (rule.getLimit() <= 0 || rule.getPeriod().isZero() || rule.getPeriod().isNegative()) {
+                throw new IllegalArgumentException("rate-limit 규칙의 limit/period가 올바르지 않습니다: " + rule.getName());
+            }
+            this.name = rule.getName();
+            this.method = rule.getMethod();
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPath());
+            this.keyType = rule.getKey();
+            this.limit = rule.getLimit();
+            this.burst = rule.getBurst() != null ? rule.getBurst() : rule.getLimit();
+            this.periodMillis = rule.getPeriod().toMillis();
+            this.intervalNanos = rule.getPeriod().toNanos() / limit;
+            this.toleranceNanos = intervalNanos * burst;
+            this.rejectedCounter = meterRegistry.counter("rate.limit.rejected", "rule", name);
+            this.overflowCounter = meterRegistry.counter("rate.limit.overflow", "rule", name);
+            meterRegistry.gaugeMapSize("rate.limit.keys", Tags.of("rule", name), buckets);
+        }
+
+        RateLimitProperties.KeyType getKeyType() {
+            return keyType;
+        }
+
+        long retryAfterSeconds(long waitNanos) {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+    }
+}
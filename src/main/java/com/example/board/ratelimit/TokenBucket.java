@@ -0,0 +1,48 @@
+package com.example.board.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(사용자/IP) 하나의 토큰 버킷 상태
+ *
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않고 GCRA(Generic Cell Rate Algorithm) 방식으로
+ * "버킷이 다시 가득 차는 시각"(theoretical arrival time) 하나만 AtomicLong에 보관합니다.
+ * 허용 여부 판단과 갱신이 CAS 한 번으로 끝나므로 락이 필요 없습니다.
+ */
+final class TokenBucket {
+
+    /** 다음 요청이 토큰 소비 없이 허용되는 시각 (System.nanoTime 기준) */
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 소비 시도
+     * @param nowNanos 현재 시각
+     * @param intervalNanos 토큰 하나가 충전되는 시간
+     * @param toleranceNanos 연속 허용 구간 (interval * burst)
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(나노초)
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - toleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (새로 만든 버킷과 같으므로 제거해도 제한 결과가 같음)
+     */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.board.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 보관 작업(ArchiveService)이 구체적인 MyBatis Mapper에 직접 의존하지 않고,
+ * 이 추상화된 Repository 인터페이스에 의존하도록 합니다.
+ */
+public interface ArchiveRepository {
+    
+    /**
+     * 보관 대상 댓글 ID 조회
+     * @param cutoff 이 시각 이전에 삭제된 댓글만 대상
+     * @param afterIdx 이 ID 이후부터 조회 (키셋)
+     * @param limit 최대 조회 개수
+     * @return idx 오름차순 댓글 ID 목록
+     */
+    List<Long> findArchivableCommentIds(LocalDateTime cutoff, long afterIdx, int limit);
+    
+    /**
+     * 댓글을 보관 테이블로 옮김 (복사 후 원본 삭제)
+     * @param ids 댓글 ID 목록
+     * @return 옮긴 댓글 수
+     */
+    int archiveComments(List<Long> ids);
+    
+    /**
+     * 보관 대상 게시글 ID 조회 (남아있는 댓글이 없는 게시글만)
+     * @param cutoff 이 시각 이전에 삭제된 게시글만 대상
+     * @param afterIdx 이 ID 이후부터 조회 (키셋)
+     * @param limit 최대 조회 개수
+     * @return idx 오름차순 게시글 ID 목록
+     */
+    List<Long> findArchivableBoardIds(LocalDateTime cutoff, long afterIdx, int limit);
+    
+    /**
+     * 게시글을 보관 테이블로 옮김 (복사 후 원본 삭제)
+     * @param ids 게시글 ID 목록
+     * @return 옮긴 게시글 수
+     */
+    int archiveBoards(List<Long> ids);
+}
@@ -1,9 +1,14 @@
 package com.example.board.repository;
 
 import com.example.board.domain.BoardV0;
+import com.example.board.dto.BoardActivity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
@@ -27,6 +32,13 @@ public interface BoardRepository {
      */
     List<BoardV0> findAll();
     
+    /**
+     * 게시글 목록 조회 (삭제되지 않은 것만, 지정한 필드의 컬럼만 조회)
+     * @param fields 조회할 필드 이름 (BoardV0.SELECTABLE_FIELDS 중 일부)
+     * @return 게시글 목록 (선택하지 않은 필드는 null)
+     */
+    List<BoardV0> findAll(Set<String> fields);
+    
     /**
      * 게시글 ID로 조회
      * @param idx 게시글 ID
@@ -34,6 +46,23 @@ public interface BoardRepository {
      */
     Optional<BoardV0> findById(Long idx);
     
+    /**
+     * 작성자별 게시글 페이지 조회 (최신 글부터, regDate, idx 역순)
+     * @param writerId 작성자 ID
+     * @param beforeRegDate 이전 페이지 마지막 게시글의 등록일시 (첫 페이지는 null)
+     * @param beforeIdx 이전 페이지 마지막 게시글 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @return 게시글 목록 (본문 제외, 댓글 수 포함)
+     */
+    List<BoardV0> findPageByWriter(String writerId, LocalDateTime beforeRegDate, Long beforeIdx, int limit);
+    
+    /**
+     * 게시글 여러 건 조회 (IN 쿼리 한 번)
+     * @param boardIds 게시글 ID 목록
+     * @return 삭제되지 않은 게시글 목록 (댓글 수 포함, 순서 보장 없음)
+     */
+    List<BoardV0> findAllByIds(Collection<Long> boardIds);
+    
     /**
      * 게시글 수정
      * @param board 수정할 게시글
@@ -46,10 +75,51 @@ public interface BoardRepository {
      */
     void deleteById(Long idx);
     
+    /**
+     * 게시글 일괄 삭제 (논리 삭제)
+     * @param boardIds 게시글 ID 목록
+     * @return 실제로 삭제 처리된 게시글 수 (이미 삭제된 게시글 제외)
+     */
+    int deleteByIds(Collection<Long> boardIds);
+    
     /**
      * 게시글 존재 여부 확인 (효율적인 COUNT 쿼리)
      * @param idx 게시글 ID
      * @return 존재하면 true, 아니면 false
      */
     boolean existsById(Long idx);
+    
+    /**
+     * 조회수 일괄 증가
+     * @param deltas 게시글 ID별 조회수 증가분
+     */
+    void increaseViews(Map<Long, Long> deltas);
+    
+    /**
+     * 특정 시각 이후 등록된 게시글 이력 조회
+     * @param since 조회 시작 시각
+     * @return 게시글별 등록 이력
+     */
+    List<BoardActivity> findActivitySince(LocalDateTime since);
+    
+    /**
+     * 가장 큰 게시글 ID 조회 (삭제된 게시글 포함)
+     * @return 게시글 ID (게시글이 없으면 0)
+     */
+    long findMaxIdx();
+    
+    /**
+     * 삭제되지 않은 게시글 ID 키셋 조회 (idx 순)
+     * @param afterIdx 이 ID 이후부터 조회
+     * @param limit 최대 건수
+     * @return 게시글 ID 목록
+     */
+    List<Long> findLiveIdsAfter(long afterIdx, int limit);
+    
+    /**
+     * 주어진 ID 중 삭제되지 않은 게시글 ID 조회
+     * @param boardIds 게시글 ID 목록
+     * @return 삭제되지 않은 게시글 ID 목록
+     */
+    List<Long> findLiveIds(Collection<Long> boardIds);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.board.repository;
+
+import com.example.board.cache.CacheInvalidation;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 인스턴스 간 캐시 무효화 메시지 저장소를 추상화합니다.
+ */
+public interface CacheInvalidationRepository {
+    
+    /**
+     * 무효화 메시지 다건 저장
+     * @param invalidations 저장할 메시지 목록
+     */
+    void saveAll(List<CacheInvalidation> invalidations);
+    
+    /**
+     * 특정 id 이후의 메시지 조회
+     * @param afterId 이 id보다 큰 메시지만 조회
+     * @param limit 최대 조회 건수
+     * @return id 순으로 정렬된 메시지 목록
+     */
+    List<CacheInvalidation> findAfter(long afterId, int limit);
+    
+    /**
+     * 가장 최근 메시지 id 조회
+     * @return 최대 id (메시지가 없으면 0)
+     */
+    long findMaxId();
+    
+    /**
+     * 발행 시각이 기준보다 오래된 메시지 삭제
+     * @param publishedBefore 기준 시각 (epoch millis)
+     * @return 삭제된 메시지 수
+     */
+    int deletePublishedBefore(long publishedBefore);
+}
@@ -1,9 +1,14 @@
 package com.example.board.repository;
 
 import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardActivity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
@@ -17,16 +22,64 @@ public interface CommentRepository {
     
     /**
      * 댓글 등록
-     * @param comment 등록할 댓글
+     * 등록 후 부여된 번호로 경로(path)를 설정하므로 트랜잭션 안에서 호출해야 합니다.
+     * @param comment 등록할 댓글 (답글이면 depth가 설정되어 있어야 함)
+     * @param parentPath 상위 댓글 경로 (최상위 댓글은 null)
      */
-    void save(CommentV0 comment);
+    void save(CommentV0 comment, String parentPath);
     
     /**
-     * 특정 게시글의 댓글 목록 조회
+     * 특정 게시글의 최상위 댓글 페이지 조회 (regDate, idx 순)
      * @param boardIdx 게시글 ID
+     * @param afterRegDate 이전 페이지 마지막 댓글의 등록일시 (첫 페이지는 null)
+     * @param afterIdx 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @param fields 조회할 필드 이름 (CommentV0.SELECTABLE_FIELDS 중 일부, idx와 regDate는 항상 조회)
+     * @return 댓글 목록 (선택하지 않은 필드는 null)
+     */
+    List<CommentV0> findTopLevelPage(Long boardIdx, LocalDateTime afterRegDate, Long afterIdx, int limit,
+                                     Set<String> fields);
+    
+    /**
+     * 작성자별 댓글 페이지 조회 (최신 댓글부터, regDate, idx 역순)
+     * @param writerId 작성자 ID
+     * @param beforeRegDate 이전 페이지 마지막 댓글의 등록일시 (첫 페이지는 null)
+     * @param beforeIdx 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
      * @return 댓글 목록
      */
-    List<CommentV0> findByBoardIdx(Long boardIdx);
+    List<CommentV0> findPageByWriter(String writerId, LocalDateTime beforeRegDate, Long beforeIdx, int limit);
+    
+    /**
+     * 여러 게시글의 최상위 댓글 첫 페이지 조회 (쿼리 한 번)
+     * @param boardIds 게시글 ID 목록
+     * @param limitPerBoard 게시글마다 조회할 최대 댓글 수
+     * @return 댓글 목록 (게시글별 regDate, idx 순)
+     */
+    List<CommentV0> findTopLevelByBoardIds(Collection<Long> boardIds, int limitPerBoard);
+    
+    /**
+     * 특정 댓글의 하위 스레드 페이지 조회 (스레드 순서)
+     * @param root 하위 스레드의 루트 댓글
+     * @param afterPath 이전 페이지 마지막 댓글의 경로 (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @return 답글 목록
+     */
+    List<CommentV0> findReplyPage(CommentV0 root, String afterPath, int limit);
+    
+    /**
+     * 댓글별 바로 아래 답글 수 조회
+     * @param parentIds 댓글 ID 목록
+     * @return 댓글 ID별 답글 수 (답글이 없는 댓글은 포함되지 않음)
+     */
+    Map<Long, Integer> countReplies(Collection<Long> parentIds);
+    
+    /**
+     * 특정 게시글의 댓글 수 (답글 포함)
+     * @param boardIdx 게시글 ID
+     * @return 댓글 수
+     */
+    int countByBoardIdx(Long boardIdx);
     
     /**
      * 모든 댓글 목록 조회 (삭제되지 않은 것만)
@@ -52,4 +105,20 @@ public interface CommentRepository {
      * @param idx 댓글 ID
      */
     void deleteById(Long idx);
+    
+    /**
+     * 게시글들의 댓글 일괄 삭제 (논리 삭제)
+     * 긴 잠금을 피하기 위해 한 번에 limit 건까지만 처리하므로, 반환값이 limit이면 다시 호출해야 합니다.
+     * @param boardIds 게시글 ID 목록
+     * @param limit 한 번에 삭제할 최대 댓글 수
+     * @return 삭제 처리된 댓글 수
+     */
+    int deleteByBoardIds(Collection<Long> boardIds, int limit);
+    
+    /**
+     * 특정 시각 이후 등록된 댓글 이력 조회 (게시글별 1시간 단위 집계)
+     * @param since 조회 시작 시각
+     * @return 게시글별 댓글 이력
+     */
+    List<BoardActivity> findActivitySince(LocalDateTime since);
 }
\ No newline at end of file
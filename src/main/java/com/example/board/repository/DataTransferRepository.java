@@ -0,0 +1,41 @@
+package com.example.board.repository;
+
+import com.example.board.dto.BoardTransferRecord;
+import com.example.board.dto.CommentTransferRecord;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 게시글/댓글 대량 내보내기·가져오기 저장소를 추상화합니다.
+ * 스트리밍 조회는 트랜잭션 안에서 호출해야 합니다 (커서가 트랜잭션 동안만 열려 있음).
+ */
+public interface DataTransferRepository {
+    
+    /**
+     * 게시글을 idx 순으로 한 건씩 전달
+     * @param afterIdx 이 idx 다음부터 조회
+     * @param consumer 행 처리
+     * @return 전달한 행 수
+     */
+    long streamBoards(long afterIdx, Consumer<BoardTransferRecord> consumer);
+    
+    /**
+     * 댓글을 idx 순으로 한 건씩 전달
+     * @param afterIdx 이 idx 다음부터 조회
+     * @param consumer 행 처리
+     * @return 전달한 행 수
+     */
+    long streamComments(long afterIdx, Consumer<CommentTransferRecord> consumer);
+    
+    /**
+     * 게시글 일괄 등록 (같은 idx가 있으면 갱신)
+     */
+    void upsertBoards(List<BoardTransferRecord> boards);
+    
+    /**
+     * 댓글 일괄 등록 (같은 idx가 있으면 갱신)
+     */
+    void upsertComments(List<CommentTransferRecord> comments);
+}
@@ -0,0 +1,37 @@
+package com.example.board.repository;
+
+import com.example.board.domain.IdempotencyRecord;
+
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 멱등성 키 저장소를 추상화합니다.
+ */
+public interface IdempotencyRepository {
+    
+    /**
+     * 멱등성 키 저장 (같은 키가 이미 있으면 저장하지 않음)
+     * @param record 멱등성 키 항목
+     * @return 저장되었으면 true
+     */
+    boolean saveIfAbsent(IdempotencyRecord record);
+    
+    /**
+     * 만료되지 않은 멱등성 키 조회
+     * @param scope 요청 종류
+     * @param userId 사용자 ID
+     * @param idemKey 멱등성 키
+     * @param now 현재 시각 (epoch millis)
+     * @return 멱등성 키 항목 (Optional)
+     */
+    Optional<IdempotencyRecord> findActive(String scope, String userId, String idemKey, long now);
+    
+    /**
+     * 만료된 멱등성 키 삭제 (chunkSize 건씩 반복)
+     * @param now 현재 시각 (epoch millis)
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제된 항목 수
+     */
+    int deleteExpired(long now, int chunkSize);
+}
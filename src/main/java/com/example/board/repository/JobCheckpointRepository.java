@@ -0,0 +1,40 @@
+package com.example.board.repository;
+
+import com.example.board.domain.JobCheckpoint;
+
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 배치 작업의 진행 위치 저장소를 추상화합니다.
+ * 작업이 중단되더라도 마지막으로 커밋된 위치부터 이어서 처리할 수 있습니다.
+ */
+public interface JobCheckpointRepository {
+    
+    /**
+     * 작업의 마지막 처리 위치 조회
+     * @param jobName 작업 이름
+     * @return 마지막으로 처리한 ID (Optional)
+     */
+    Optional<Long> findLastIdx(String jobName);
+    
+    /**
+     * 작업의 마지막 처리 위치 저장
+     * @param jobName 작업 이름
+     * @param lastIdx 마지막으로 처리한 ID
+     */
+    void save(String jobName, long lastIdx);
+
+    /**
+     * 작업의 진행 위치 전체 조회 (행 순번, 내용 지문 포함)
+     * @param jobName 작업 이름
+     * @return 진행 위치 (Optional)
+     */
+    Optional<JobCheckpoint> find(String jobName);
+
+    /**
+     * 작업의 진행 위치 전체 저장
+     * @param checkpoint 진행 위치
+     */
+    void save(JobCheckpoint checkpoint);
+}
@@ -0,0 +1,32 @@
+package com.example.board.repository;
+
+import com.example.board.domain.BoardV0;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 논블로킹 조회 경로(/reactive/**)에 필요한 게시글 조회 메서드만 정의합니다.
+ *
+ * BoardRepository의 같은 이름 메서드와 같은 결과를 반환하되,
+ * DB 응답을 기다리는 동안 스레드를 점유하지 않도록 Mono/Flux로 반환합니다.
+ * MyBatis 기반 BoardRepository와 함께 동작하며 쓰기 메서드는 두지 않습니다.
+ */
+public interface ReactiveBoardRepository {
+
+    /**
+     * 게시글 목록 조회 (삭제되지 않은 것만, 지정한 필드의 컬럼만 조회)
+     * @param fields 조회할 필드 이름 (BoardV0.SELECTABLE_FIELDS 중 일부)
+     * @return 게시글 목록 (등록일 역순, 선택하지 않은 필드는 null)
+     */
+    Flux<BoardV0> findAll(Set<String> fields);
+
+    /**
+     * 게시글 ID로 조회
+     * @param idx 게시글 ID
+     * @return 게시글 (없거나 삭제되었으면 비어 있음)
+     */
+    Mono<BoardV0> findById(Long idx);
+}
@@ -0,0 +1,45 @@
+package com.example.board.repository;
+
+import com.example.board.domain.CommentV0;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 논블로킹 조회 경로(/reactive/**)에 필요한 댓글 조회 메서드만 정의합니다.
+ *
+ * CommentRepository의 같은 이름 메서드와 같은 결과를 Mono/Flux로 반환합니다.
+ */
+public interface ReactiveCommentRepository {
+
+    /**
+     * 특정 게시글의 최상위 댓글 페이지 조회 (regDate, idx 순)
+     * @param boardIdx 게시글 ID
+     * @param afterRegDate 이전 페이지 마지막 댓글의 등록일시 (첫 페이지는 null)
+     * @param afterIdx 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @param fields 조회할 필드 이름 (CommentV0.SELECTABLE_FIELDS 중 일부, idx와 regDate는 항상 조회)
+     * @return 댓글 목록 (선택하지 않은 필드는 null)
+     */
+    Flux<CommentV0> findTopLevelPage(Long boardIdx, LocalDateTime afterRegDate, Long afterIdx, int limit,
+                                     Set<String> fields);
+
+    /**
+     * 댓글별 바로 아래 답글 수 조회
+     * @param parentIds 댓글 ID 목록
+     * @return 댓글 ID별 답글 수 (답글이 없는 댓글은 포함되지 않음)
+     */
+    Mono<Map<Long, Integer>> countReplies(Collection<Long> parentIds);
+
+    /**
+     * 특정 게시글의 댓글 수 (답글 포함)
+     * @param boardIdx 게시글 ID
+     * @return 댓글 수
+     */
+    Mono<Integer> countByBoardIdx(Long boardIdx);
+}
@@ -0,0 +1,34 @@
+package com.example.board.repository;
+
+import com.example.board.domain.TokenRevocation;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 토큰 폐기 목록 저장소를 추상화합니다.
+ */
+public interface TokenRevocationRepository {
+    
+    /**
+     * 폐기 항목 저장
+     * @param revocation 폐기 항목
+     */
+    void save(TokenRevocation revocation);
+    
+    /**
+     * 특정 id 이후의 만료되지 않은 폐기 항목 조회
+     * @param afterId 이 id보다 큰 항목만 조회
+     * @param now 현재 시각 (epoch millis)
+     * @param limit 최대 조회 건수
+     * @return id 순으로 정렬된 폐기 항목 목록
+     */
+    List<TokenRevocation> findActiveAfter(long afterId, long now, int limit);
+    
+    /**
+     * 만료된 폐기 항목 삭제
+     * @param now 현재 시각 (epoch millis)
+     * @return 삭제된 항목 수
+     */
+    int deleteExpired(long now);
+}
@@ -0,0 +1,60 @@
+package com.example.board.repository;
+
+import com.example.board.domain.UserActivity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 사용자별 활동 집계 저장소를 추상화합니다.
+ */
+public interface UserActivityRepository {
+    
+    /**
+     * 사용자 활동 집계 조회
+     * @param userId 사용자 ID
+     * @return 활동 집계 (활동 기록이 없으면 empty)
+     */
+    Optional<UserActivity> findByUserId(String userId);
+    
+    /**
+     * 여러 사용자 활동 집계 조회 (활동 기록이 없는 사용자는 결과에 없음)
+     */
+    List<UserActivity> findByUserIds(Collection<String> userIds);
+    
+    /**
+     * 게시글 수 또는 댓글 수 상위 사용자 조회 (수 내림차순, 같으면 사용자 ID 순)
+     * @param byComments true면 댓글 수, false면 게시글 수 기준
+     * @param limit 최대 건수
+     */
+    List<UserActivity> findTop(boolean byComments, int limit);
+    
+    /**
+     * 게시글/댓글 수 증감
+     * @param userId 사용자 ID
+     * @param boardDelta 게시글 수 증감
+     * @param commentDelta 댓글 수 증감
+     * @param activityAt 활동 시각 (삭제처럼 활동 시각을 바꾸지 않는 경우 null)
+     */
+    void addDelta(String userId, int boardDelta, int commentDelta, LocalDateTime activityAt);
+    
+    /**
+     * 지정한 사용자들의 집계를 원본 테이블에서 다시 계산
+     */
+    void recount(Collection<String> userIds);
+    
+    /**
+     * 재집계 대상 사용자 ID 키셋 조회
+     * @param afterUserId 이 ID 다음부터 (처음은 빈 문자열)
+     * @param limit 최대 건수
+     */
+    List<String> findUserIdsAfter(String afterUserId, int limit);
+    
+    /**
+     * 게시글 작성자와 해당 게시글의 댓글 작성자 조회
+     */
+    List<String> findWriterIdsByBoardIds(Collection<Long> boardIds);
+}
@@ -2,6 +2,8 @@ package com.example.board.repository;
 
 import com.example.board.domain.User;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,9 +20,23 @@ public interface UserRepository {
      */
     Optional<User> findByUserId(String userId);
     
+    /**
+     * 여러 사용자의 표시 이름 조회 (탈퇴/비활성 사용자 제외)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 표시 이름
+     */
+    Map<String, String> findDisplayNames(Collection<String> userIds);
+    
     /**
      * 사용자 저장 (향후 확장용)
      * @param user 사용자 정보
      */
     void save(User user);
+    
+    /**
+     * 사용자 계정 비활성화
+     * @param userId 사용자 ID
+     * @return 변경된 행 수 (없거나 이미 비활성화된 경우 0)
+     */
+    int deactivate(String userId);
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.board.repository.impl;
+
+import com.example.board.mapper.ArchiveMapper;
+import com.example.board.repository.ArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepositoryImpl implements ArchiveRepository {
+    
+    private final ArchiveMapper archiveMapper;
+    
+    @Override
+    public List<Long> findArchivableCommentIds(LocalDateTime cutoff, long afterIdx, int limit) {
+        return archiveMapper.selectArchivableCommentIds(cutoff, afterIdx, limit);
+    }
+    
+    /**
+     * 댓글을 보관 테이블로 옮김
+     * 호출하는 쪽의 트랜잭션 안에서 복사와 삭제가 함께 커밋되어야 합니다.
+     */
+    @Override
+    public int archiveComments(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveMapper.insertCommentArchive(ids);
+        return archiveMapper.deleteComments(ids);
+    }
+    
+    @Override
+    public List<Long> findArchivableBoardIds(LocalDateTime cutoff, long afterIdx, int limit) {
+        return archiveMapper.selectArchivableBoardIds(cutoff, afterIdx, limit);
+    }
+    
+    /**
+     * 게시글을 보관 테이블로 옮김
+     * 호출하는 쪽의 트랜잭션 안에서 복사와 삭제가 함께 커밋되어야 합니다.
+     */
+    @Override
+    public int archiveBoards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveMapper.insertBoardArchive(ids);
+        return archiveMapper.deleteBoards(ids);
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.board.repository.impl;
 
+import com.example.board.cache.impl.MyBatisCacheSupport;
 import com.example.board.domain.BoardV0;
+import com.example.board.dto.BoardActivity;
 import com.example.board.mapper.BoardMapper;
 import com.example.board.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
@@ -23,7 +29,11 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BoardRepositoryImpl implements BoardRepository {
     
+    /** 조회수 반영 후 캐시 항목을 제거할 조회 문장 */
+    private static final String SELECT_BOARD_BY_ID = BoardMapper.class.getName() + ".selectBoardById";
+    
     private final BoardMapper boardMapper;
+    private final MyBatisCacheSupport myBatisCacheSupport;
     
     /**
      * 게시글 등록
@@ -38,7 +48,15 @@ public class BoardRepositoryImpl implements BoardRepository {
      */
     @Override
     public List<BoardV0> findAll() {
-        return boardMapper.selectBoardList();
+        return findAll(BoardV0.SELECTABLE_FIELDS);
+    }
+    
+    /**
+     * 게시글 목록 조회 (삭제되지 않은 것만, 지정한 필드의 컬럼만 조회)
+     */
+    @Override
+    public List<BoardV0> findAll(Set<String> fields) {
+        return boardMapper.selectBoardList(fields);
     }
     
     /**
@@ -71,6 +89,33 @@ public class BoardRepositoryImpl implements BoardRepository {
         boardMapper.deleteBoard(idx);
     }
     
+    /**
+     * 작성자별 게시글 페이지 조회
+     */
+    @Override
+    public List<BoardV0> findPageByWriter(String writerId, LocalDateTime beforeRegDate, Long beforeIdx, int limit) {
+        return boardMapper.selectBoardsByWriter(writerId, beforeRegDate, beforeIdx, limit);
+    }
+    
+    /**
+     * 게시글 여러 건 조회
+     */
+    @Override
+    public List<BoardV0> findAllByIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return boardMapper.selectBoardsByIds(boardIds);
+    }
+    
+    /**
+     * 게시글 일괄 삭제 (논리 삭제)
+     */
+    @Override
+    public int deleteByIds(Collection<Long> boardIds) {
+        return boardMapper.deleteBoards(boardIds);
+    }
+    
     /**
      * 게시글 존재 여부 확인
      * 실무 원칙: 효율적인 COUNT 쿼리 사용, 전체 데이터 조회 금지
@@ -79,4 +124,53 @@ public class BoardRepositoryImpl implements BoardRepository {
     public boolean existsById(Long idx) {
         return boardMapper.existsBoardById(idx) > 0;
     }
+    
+    /**
+     * 조회수 일괄 증가
+     * 실무 원칙: 게시글마다 UPDATE를 실행하지 않고 한 번의 UPDATE 문으로 반영
+     * 2차 캐시는 반영한 게시글의 상세 항목만 제거 (다른 게시글의 캐시는 유지)
+     */
+    @Override
+    public void increaseViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        boardMapper.increaseViews(deltas);
+        myBatisCacheSupport.evict(SELECT_BOARD_BY_ID, deltas.keySet());
+    }
+    
+    /**
+     * 특정 시각 이후 등록된 게시글 이력 조회
+     */
+    @Override
+    public List<BoardActivity> findActivitySince(LocalDateTime since) {
+        return boardMapper.selectBoardActivitySince(since);
+    }
+    
+    /**
+     * 가장 큰 게시글 ID 조회
+     */
+    @Override
+    public long findMaxIdx() {
+        return boardMapper.selectMaxBoardIdx();
+    }
+    
+    /**
+     * 삭제되지 않은 게시글 ID 키셋 조회
+     */
+    @Override
+    public List<Long> findLiveIdsAfter(long afterIdx, int limit) {
+        return boardMapper.selectLiveBoardIdsAfter(afterIdx, limit);
+    }
+    
+    /**
+     * 주어진 ID 중 삭제되지 않은 게시글 ID 조회
+     */
+    @Override
+    public List<Long> findLiveIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return boardMapper.selectLiveBoardIds(boardIds);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.example.board.repository.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.mapper.CacheInvalidationMapper;
+import com.example.board.repository.CacheInvalidationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRepositoryImpl implements CacheInvalidationRepository {
+    
+    /** 오래된 메시지 삭제 시 한 번에 지우는 최대 행 수 (긴 잠금 방지) */
+    private static final int DELETE_CHUNK_SIZE = 5000;
+    
+    private final CacheInvalidationMapper cacheInvalidationMapper;
+    
+    @Override
+    public void saveAll(List<CacheInvalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        cacheInvalidationMapper.insertInvalidations(invalidations);
+    }
+    
+    @Override
+    public List<CacheInvalidation> findAfter(long afterId, int limit) {
+        return cacheInvalidationMapper.selectInvalidationsAfter(afterId, limit);
+    }
+    
+    @Override
+    public long findMaxId() {
+        return cacheInvalidationMapper.selectMaxId();
+    }
+    
+    @Override
+    public int deletePublishedBefore(long publishedBefore) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = cacheInvalidationMapper.deleteInvalidationsBefore(publishedBefore, DELETE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        return total;
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.board.repository.impl;
 
 import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardActivity;
+import com.example.board.dto.CommentReplyCount;
 import com.example.board.mapper.CommentMapper;
 import com.example.board.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
@@ -27,18 +34,68 @@ public class CommentRepositoryImpl implements CommentRepository {
     
     /**
      * 댓글 등록
+     * 등록으로 부여된 번호를 이용해 경로를 설정합니다. (상위 경로 + '/' + 12자리 번호)
      */
     @Override
-    public void save(CommentV0 comment) {
+    public void save(CommentV0 comment, String parentPath) {
         commentMapper.insertComment(comment);
+        commentMapper.updateCommentPath(comment.getIdx(), parentPath != null ? parentPath + "/" : "");
     }
     
     /**
-     * 특정 게시글의 댓글 목록 조회
+     * 특정 게시글의 최상위 댓글 페이지 조회
      */
     @Override
-    public List<CommentV0> findByBoardIdx(Long boardIdx) {
-        return commentMapper.selectCommentsByBoardIdx(boardIdx);
+    public List<CommentV0> findTopLevelPage(Long boardIdx, LocalDateTime afterRegDate, Long afterIdx, int limit,
+                                            Set<String> fields) {
+        return commentMapper.selectTopLevelComments(boardIdx, afterRegDate, afterIdx, limit, fields);
+    }
+    
+    /**
+     * 작성자별 댓글 페이지 조회
+     */
+    @Override
+    public List<CommentV0> findPageByWriter(String writerId, LocalDateTime beforeRegDate, Long beforeIdx, int limit) {
+        return commentMapper.selectCommentsByWriter(writerId, beforeRegDate, beforeIdx, limit);
+    }
+    
+    /**
+     * 여러 게시글의 최상위 댓글 첫 페이지 조회
+     */
+    @Override
+    public List<CommentV0> findTopLevelByBoardIds(Collection<Long> boardIds, int limitPerBoard) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return commentMapper.selectTopLevelCommentsByBoardIds(boardIds, limitPerBoard);
+    }
+    
+    /**
+     * 특정 댓글의 하위 스레드 페이지 조회
+     */
+    @Override
+    public List<CommentV0> findReplyPage(CommentV0 root, String afterPath, int limit) {
+        return commentMapper.selectReplies(root.getBoardIdx(), root.getPath(), afterPath, limit);
+    }
+    
+    /**
+     * 댓글별 바로 아래 답글 수 조회
+     */
+    @Override
+    public Map<Long, Integer> countReplies(Collection<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentMapper.selectReplyCounts(parentIds).stream()
+                .collect(Collectors.toMap(CommentReplyCount::getParentIdx, CommentReplyCount::getReplyCount));
+    }
+    
+    /**
+     * 특정 게시글의 댓글 수 (답글 포함)
+     */
+    @Override
+    public int countByBoardIdx(Long boardIdx) {
+        return commentMapper.countCommentsByBoardIdx(boardIdx);
     }
     
     /**
@@ -75,4 +132,20 @@ public class CommentRepositoryImpl implements CommentRepository {
     public void deleteById(Long idx) {
         commentMapper.deleteComment(idx);
     }
+    
+    /**
+     * 게시글들의 댓글 일괄 삭제 (한 번에 limit 건까지)
+     */
+    @Override
+    public int deleteByBoardIds(Collection<Long> boardIds, int limit) {
+        return commentMapper.deleteCommentsByBoardIds(boardIds, limit);
+    }
+    
+    /**
+     * 특정 시각 이후 등록된 댓글 이력 조회 (게시글별 1시간 단위 집계)
+     */
+    @Override
+    public List<BoardActivity> findActivitySince(LocalDateTime since) {
+        return commentMapper.selectCommentActivitySince(since);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.example.board.repository.impl;
+
+import com.example.board.dto.BoardTransferRecord;
+import com.example.board.dto.CommentTransferRecord;
+import com.example.board.mapper.DataTransferMapper;
+import com.example.board.repository.DataTransferRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper(Cursor)를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataTransferRepositoryImpl implements DataTransferRepository {
+    
+    private final DataTransferMapper dataTransferMapper;
+    
+    @Override
+    public long streamBoards(long afterIdx, Consumer<BoardTransferRecord> consumer) {
+        return drain(dataTransferMapper.selectBoardsForExport(afterIdx), consumer);
+    }
+    
+    @Override
+    public long streamComments(long afterIdx, Consumer<CommentTransferRecord> consumer) {
+        return drain(dataTransferMapper.selectCommentsForExport(afterIdx), consumer);
+    }
+    
+    @Override
+    public void upsertBoards(List<BoardTransferRecord> boards) {
+        if (!boards.isEmpty()) {
+            dataTransferMapper.upsertBoards(boards);
+        }
+    }
+    
+    @Override
+    public void upsertComments(List<CommentTransferRecord> comments) {
+        if (!comments.isEmpty()) {
+            dataTransferMapper.upsertComments(comments);
+        }
+    }
+    
+    /**
+     * 커서를 끝까지 읽고 닫음 (한 번에 한 행만 메모리에 유지)
+     */
+    private <T> long drain(Cursor<T> cursor, Consumer<T> consumer) {
+        long count = 0;
+        try (cursor) {
+            for (T row : cursor) {
+                consumer.accept(row);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+}
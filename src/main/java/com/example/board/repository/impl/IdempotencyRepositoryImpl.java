@@ -0,0 +1,48 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.IdempotencyRecord;
+import com.example.board.mapper.IdempotencyMapper;
+import com.example.board.repository.IdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+    
+    private final IdempotencyMapper idempotencyMapper;
+    
+    @Override
+    public boolean saveIfAbsent(IdempotencyRecord record) {
+        return idempotencyMapper.insertRecord(record) > 0;
+    }
+    
+    @Override
+    public Optional<IdempotencyRecord> findActive(String scope, String userId, String idemKey, long now) {
+        return Optional.ofNullable(idempotencyMapper.selectRecord(scope, userId, idemKey, now));
+    }
+    
+    /**
+     * 만료된 멱등성 키 삭제
+     * 한 번에 큰 DELETE를 실행하지 않고 chunkSize 건씩 나누어 삭제합니다.
+     */
+    @Override
+    public int deleteExpired(long now, int chunkSize) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyMapper.deleteExpiredRecords(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.JobCheckpoint;
+import com.example.board.mapper.JobCheckpointMapper;
+import com.example.board.repository.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobCheckpointRepositoryImpl implements JobCheckpointRepository {
+    
+    private final JobCheckpointMapper jobCheckpointMapper;
+    
+    @Override
+    public Optional<Long> findLastIdx(String jobName) {
+        return Optional.ofNullable(jobCheckpointMapper.selectLastIdx(jobName));
+    }
+    
+    @Override
+    public void save(String jobName, long lastIdx) {
+        jobCheckpointMapper.upsertCheckpoint(jobName, lastIdx);
+    }
+    
+    @Override
+    public Optional<JobCheckpoint> find(String jobName) {
+        return Optional.ofNullable(jobCheckpointMapper.selectCheckpoint(jobName));
+    }
+    
+    @Override
+    public void save(JobCheckpoint checkpoint) {
+        jobCheckpointMapper.upsertFullCheckpoint(checkpoint);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.repository.ReactiveBoardRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ *
+ * ReactiveBoardRepository의 R2DBC 구현체입니다.
+ * 쿼리는 BoardMapper.xml의 selectBoardList, selectBoardById와 같으며,
+ * 상위 계층(ReactiveBoardService)은 이 구현 세부사항을 알 필요가 없습니다.
+ *
+ * 실무 원칙: MyBatis 조회 경로와 결과를 맞춤
+ * - 부분 필드 선택 시 선택된 필드의 컬럼만 조회 (댓글 수를 선택하지 않으면 댓글 집계 생략)
+ * - 작성자 이름은 writer_id로 조회 후 Service에서 사용자 이름 캐시로 채움 (users 조인 없음)
+ * - MyBatis 2차 캐시(selectBoardById)는 거치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcBoardRepositoryImpl implements ReactiveBoardRepository {
+
+    /** 단건 조회 컬럼에 해당하는 필드 (댓글 수, 신규 여부 제외) */
+    private static final Set<String> DETAIL_FIELDS = Set.of(
+            "idx", "title", "content", "writerId", "regDate", "delYn", "views");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 게시글 목록 조회 (부분 필드 선택)
+     */
+    @Override
+    public Flux<BoardV0> findAll(Set<String> fields) {
+        StringBuilder sql = new StringBuilder("SELECT b.idx");
+        if (fields.contains("title")) {
+            sql.append(", b.title");
+        }
+        if (fields.contains("content")) {
+            sql.append(", b.content");
+        }
+        if (fields.contains("writerNm") || fields.contains("writerId")) {
+            sql.append(", b.writer_id");
+        }
+        if (fields.contains("regDate")) {
+            sql.append(", b.regDate");
+        }
+        if (fields.contains("delYn")) {
+            sql.append(", b.delYn");
+        }
+        if (fields.contains("views")) {
+            sql.append(", b.views");
+        }
+        if (fields.contains("commentCount")) {
+            sql.append(", (SELECT COUNT(*) FROM t_comment c WHERE c.boardIdx = b.idx AND c.delYn = 'N') AS commentCount");
+        }
+        if (fields.contains("isNew")) {
+            sql.append(", CASE WHEN CAST(b.regDate AS DATE) = CURRENT_DATE THEN 1 ELSE 0 END AS isNew");
+        }
+        sql.append(" FROM t_board b WHERE b.delYn = 'N' ORDER BY b.regDate DESC");
+
+        return databaseClient.sql(sql.toString())
+                .map(row -> toBoard(row, fields))
+                .all();
+    }
+
+    /**
+     * 게시글 ID로 조회
+     */
+    @Override
+    public Mono<BoardV0> findById(Long idx) {
+        return databaseClient.sql("""
+                        SELECT b.idx, b.title, b.content, b.writer_id, b.regDate, b.delYn, b.views
+                        FROM t_board b
+                        WHERE b.idx = :idx AND b.delYn = 'N'
+                        """)
+                .bind("idx", idx)
+                .map(row -> toBoard(row, DETAIL_FIELDS))
+                .one();
+    }
+
+    private static BoardV0 toBoard(Readable row, Set<String> fields) {
+        BoardV0 board = new BoardV0();
+        board.setIdx(R2dbcRows.toLong(row.get("idx")));
+        if (fields.contains("title")) {
+            board.setTitle(row.get("title", String.class));
+        }
+        if (fields.contains("content")) {
+            board.setContent(row.get("content", String.class));
+        }
+        if (fields.contains("writerNm") || fields.contains("writerId")) {
+            board.setWriterId(row.get("writer_id", String.class));
+        }
+        if (fields.contains("regDate")) {
+            board.setRegDate(row.get("regDate", LocalDateTime.class));
+        }
+        if (fields.contains("delYn")) {
+            board.setDelYn(row.get("delYn", String.class));
+        }
+        if (fields.contains("views")) {
+            board.setViews(R2dbcRows.toLong(row.get("views")));
+        }
+        if (fields.contains("commentCount")) {
+            board.setCommentCount(R2dbcRows.toInteger(row.get("commentCount")));
+        }
+        if (fields.contains("isNew")) {
+            board.setIsNew(R2dbcRows.toInteger(row.get("isNew")));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.CommentV0;
+import com.example.board.repository.ReactiveCommentRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ *
+ * ReactiveCommentRepository의 R2DBC 구현체입니다.
+ * 쿼리는 CommentMapper.xml의 selectTopLevelComments, selectReplyCounts, countCommentsByBoardIdx와 같습니다.
+ *
+ * 실무 원칙: 키셋 페이지 조회 (idx_comment_board_page 인덱스 범위를 limit 건만 읽음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcCommentRepositoryImpl implements ReactiveCommentRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 특정 게시글의 최상위 댓글 페이지 조회 (부분 필드 선택)
+     */
+    @Override
+    public Flux<CommentV0> findTopLevelPage(Long boardIdx, LocalDateTime afterRegDate, Long afterIdx, int limit,
+                                            Set<String> fields) {
+        StringBuilder sql = new StringBuilder("SELECT c.idx, c.regDate");
+        if (fields.contains("boardIdx")) {
+            sql.append(", c.boardIdx");
+        }
+        if (fields.contains("parentIdx")) {
+            sql.append(", c.parentIdx");
+        }
+        if (fields.contains("comment")) {
+            sql.append(", c.comment");
+        }
+        if (fields.contains("writerName") || fields.contains("writerId")) {
+            sql.append(", c.writer_id");
+        }
+        if (fields.contains("delYn")) {
+            sql.append(", c.delYn");
+        }
+        if (fields.contains("depth")) {
+            sql.append(", c.depth");
+        }
+        sql.append(" FROM t_comment c WHERE c.boardIdx = :boardIdx AND c.delYn = 'N' AND c.depth = 0");
+        if (afterRegDate != null) {
+            sql.append(" AND (c.regDate > :afterRegDate OR (c.regDate = :afterRegDate AND c.idx > :afterIdx))");
+        }
+        sql.append(" ORDER BY c.regDate ASC, c.idx ASC LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("boardIdx", boardIdx)
+                .bind("limit", limit);
+        if (afterRegDate != null) {
+            spec = spec.bind("afterRegDate", afterRegDate).bind("afterIdx", afterIdx);
+        }
+        return spec.map(row -> toComment(row, fields)).all();
+    }
+
+    /**
+     * 댓글별 답글 수 조회 (IN 쿼리 한 번)
+     */
+    @Override
+    public Mono<Map<Long, Integer>> countReplies(Collection<Long> parentIds) {
+        if (parentIds == null || parentIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return databaseClient.sql("""
+                        SELECT c.parentIdx AS parentIdx, COUNT(*) AS replyCount
+                        FROM t_comment c
+                        WHERE c.parentIdx IN (:parentIds)
+                          AND c.delYn = 'N'
+                        GROUP BY c.parentIdx
+                        """)
+                .bind("parentIds", List.copyOf(parentIds))
+                .map(row -> Map.entry(R2dbcRows.toLong(row.get("parentIdx")), R2dbcRows.toInteger(row.get("replyCount"))))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * 특정 게시글의 댓글 수 (답글 포함)
+     */
+    @Override
+    public Mono<Integer> countByBoardIdx(Long boardIdx) {
+        return databaseClient.sql("""
+                        SELECT COUNT(*) AS commentCount
+                        FROM t_comment c
+                        WHERE c.boardIdx = :boardIdx
+                          AND c.delYn = 'N'
+                        """)
+                .bind("boardIdx", boardIdx)
+                .map(row -> R2dbcRows.toInteger(row.get("commentCount")))
+                .one();
+    }
+
+    private static CommentV0 toComment(Readable row, Set<String> fields) {
+        CommentV0 comment = new CommentV0();
+        comment.setIdx(R2dbcRows.toLong(row.get("idx")));
+        comment.setRegDate(row.get("regDate", LocalDateTime.class));
+        if (fields.contains("boardIdx")) {
+            comment.setBoardIdx(R2dbcRows.toLong(row.get("boardIdx")));
+        }
+        if (fields.contains("parentIdx")) {
+            comment.setParentIdx(R2dbcRows.toLong(row.get("parentIdx")));
+        }
+        if (fields.contains("comment")) {
+            comment.setComment(row.get("comment", String.class));
+        }
+        if (fields.contains("writerName") || fields.contains("writerId")) {
+            comment.setWriterId(row.get("writer_id", String.class));
+        }
+        if (fields.contains("delYn")) {
+            comment.setDelYn(row.get("delYn", String.class));
+        }
+        if (fields.contains("depth")) {
+            comment.setDepth(R2dbcRows.toInteger(row.get("depth")));
+        }
+        return comment;
+    }
+}
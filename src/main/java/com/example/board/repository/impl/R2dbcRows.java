@@ -0,0 +1,19 @@
+package com.example.board.repository.impl;
+
+/**
+ * R2DBC 조회 결과의 숫자 컬럼 변환
+ * 같은 COUNT(*), CASE 결과라도 드라이버(MySQL, H2)마다 반환 타입이 달라 Number로 받아 변환합니다.
+ */
+final class R2dbcRows {
+
+    private R2dbcRows() {
+    }
+
+    static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+}
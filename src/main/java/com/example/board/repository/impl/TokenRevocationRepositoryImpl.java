@@ -0,0 +1,38 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.TokenRevocation;
+import com.example.board.mapper.TokenRevocationMapper;
+import com.example.board.repository.TokenRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationRepositoryImpl implements TokenRevocationRepository {
+    
+    private final TokenRevocationMapper tokenRevocationMapper;
+    
+    @Override
+    public void save(TokenRevocation revocation) {
+        tokenRevocationMapper.insertRevocation(revocation);
+    }
+    
+    @Override
+    public List<TokenRevocation> findActiveAfter(long afterId, long now, int limit) {
+        return tokenRevocationMapper.selectRevocationsAfter(afterId, now, limit);
+    }
+    
+    @Override
+    public int deleteExpired(long now) {
+        return tokenRevocationMapper.deleteExpiredRevocations(now);
+    }
+}
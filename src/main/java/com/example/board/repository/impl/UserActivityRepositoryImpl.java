@@ -0,0 +1,69 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.UserActivity;
+import com.example.board.mapper.UserActivityMapper;
+import com.example.board.repository.UserActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
+ * 
+ * 이 클래스는 Repository 인터페이스의 구현체로서,
+ * 실제로는 MyBatis Mapper를 사용하지만 상위 계층(Service)은
+ * 이 구현 세부사항을 알 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityRepositoryImpl implements UserActivityRepository {
+    
+    private final UserActivityMapper userActivityMapper;
+    
+    @Override
+    public Optional<UserActivity> findByUserId(String userId) {
+        return Optional.ofNullable(userActivityMapper.selectByUserId(userId));
+    }
+    
+    @Override
+    public List<UserActivity> findByUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userActivityMapper.selectByUserIds(userIds);
+    }
+    
+    @Override
+    public List<UserActivity> findTop(boolean byComments, int limit) {
+        return userActivityMapper.selectTop(byComments, limit);
+    }
+    
+    @Override
+    public void addDelta(String userId, int boardDelta, int commentDelta, LocalDateTime activityAt) {
+        userActivityMapper.upsertDelta(userId, boardDelta, commentDelta, activityAt);
+    }
+    
+    @Override
+    public void recount(Collection<String> userIds) {
+        if (!userIds.isEmpty()) {
+            userActivityMapper.recountUsers(userIds);
+        }
+    }
+    
+    @Override
+    public List<String> findUserIdsAfter(String afterUserId, int limit) {
+        return userActivityMapper.selectUserIdsAfter(afterUserId, limit);
+    }
+    
+    @Override
+    public List<String> findWriterIdsByBoardIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return userActivityMapper.selectWriterIdsByBoardIds(boardIds);
+    }
+}
@@ -6,7 +6,10 @@ import com.example.board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * SOLID 원칙 적용: DIP (Dependency Inversion Principle)
@@ -30,6 +33,19 @@ public class UserRepositoryImpl implements UserRepository {
         return Optional.ofNullable(user);
     }
     
+    /**
+     * 여러 사용자의 표시 이름 조회
+     */
+    @Override
+    public Map<String, String> findDisplayNames(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userMapper.selectDisplayNames(userIds).stream()
+                .filter(user -> user.getUsername() != null)
+                .collect(Collectors.toMap(User::getUserId, User::getUsername, (first, second) -> first));
+    }
+    
     /**
      * 사용자 저장 (향후 확장용)
      */
@@ -37,4 +53,12 @@ public class UserRepositoryImpl implements UserRepository {
     public void save(User user) {
         userMapper.insertUser(user);
     }
+    
+    /**
+     * 사용자 계정 비활성화
+     */
+    @Override
+    public int deactivate(String userId) {
+        return userMapper.deactivateUser(userId);
+    }
 }
\ No newline at end of file
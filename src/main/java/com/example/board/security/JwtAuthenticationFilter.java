@@ -1,6 +1,9 @@
 package com.example.board.security;
 
+import com.example.board.service.TokenRevocationService;
+import com.example.board.timing.RequestTimings;
 import com.example.board.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +27,9 @@ import java.util.Collections;
  * 
  * Spring Security 필터 체인에서 JWT 토큰을 검증하고
  * 인증된 사용자 정보를 SecurityContext에 설정합니다.
+ * 
+ * 실무 원칙: 토큰은 요청당 한 번만 파싱하고, 폐기 여부는 메모리에서 확인 (DB 조회 없음)
+ * 요청마다 실행되는 경로이므로 로그는 키-값 형식의 DEBUG 로그만 남김 (샘플링된 요청에서만 기록)
  */
 @Slf4j
 @Component
@@ -31,6 +37,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 모든 HTTP 요청에 대해 JWT 토큰 검증 수행
@@ -40,14 +47,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
-        try {
+        try (RequestTimings.Scope ignored = RequestTimings.start("auth")) {
             // Authorization 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
             
-            // 토큰이 존재하고 유효한 경우 인증 정보 설정
-            if (StringUtils.hasText(jwt) && jwtTokenUtil.validateToken(jwt)) {
-                String userId = jwtTokenUtil.getUserIdFromToken(jwt);
-                String role = jwtTokenUtil.getRoleFromToken(jwt);
+            // 토큰이 존재하고 유효하며 폐기되지 않은 경우 인증 정보 설정
+            Claims claims = StringUtils.hasText(jwt) ? jwtTokenUtil.parseValidClaims(jwt) : null;
+            if (claims != null && !isRevoked(claims)) {
+                String userId = claims.getSubject();
+                String role = claims.get("role", String.class);
                 
                 // Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication = 
@@ -62,7 +70,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 
-                log.debug("JWT 토큰으로 인증된 사용자: {}, 역할: {}", userId, role);
+                log.atDebug()
+                        .addKeyValue("userId", userId)
+                        .addKeyValue("role", role)
+                        .log("JWT 토큰으로 인증된 사용자");
             }
         } catch (Exception ex) {
             log.error("JWT 토큰 인증 처리 중 오류 발생: {}", ex.getMessage());
@@ -74,6 +85,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 로그아웃했거나 비활성화된 사용자의 토큰인지 확인
+     */
+    private boolean isRevoked(Claims claims) {
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        boolean revoked = tokenRevocationService.isRevoked(claims.getId(), claims.getSubject(), issuedAt);
+        if (revoked) {
+            log.atDebug()
+                    .addKeyValue("userId", claims.getSubject())
+                    .log("폐기된 토큰으로 요청");
+        }
+        return revoked;
+    }
+    
     /**
      * HTTP 요청에서 JWT 토큰 추출
      * Authorization 헤더에서 "Bearer " 접두사를 제거하고 토큰 반환
@@ -0,0 +1,22 @@
+package com.example.board.service;
+
+import com.example.board.dto.ArchiveStatus;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 논리 삭제된 게시글/댓글의 보관(archive) 및 원본 정리 기능만을 정의합니다.
+ */
+public interface ArchiveService {
+
+    /**
+     * 보관 작업을 백그라운드에서 시작 (진행 상황은 getStatus로 확인)
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    boolean startArchive();
+
+    /**
+     * 보관 작업 진행 상황 조회
+     * @return 현재 상태
+     */
+    ArchiveStatus getStatus();
+}
@@ -42,4 +42,16 @@ public interface AuthService {
      * @return 사용자 ID
      */
     String getUserIdFromToken(String token);
+    
+    /**
+     * 로그아웃 처리 (토큰 폐기)
+     * @param token JWT 토큰
+     */
+    void logout(String token);
+    
+    /**
+     * 사용자 계정 비활성화 (기존 토큰 전체 폐기)
+     * @param userId 사용자 ID
+     */
+    void deactivateUser(String userId);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.board.service;
+
+import java.util.Collection;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 게시글 존재 여부 판정과 그 상태 갱신만을 정의합니다.
+ *
+ * 삭제되지 않은 게시글 ID를 메모리에 보관하여,
+ * 없는 게시글에 대한 요청(댓글 등록, 상세 조회)을 DB 조회 없이 거절합니다.
+ */
+public interface BoardExistenceService {
+
+    /**
+     * 게시글 존재 여부 (메모리로 판단할 수 없는 최근 ID만 DB에서 확인)
+     * @param boardIdx 게시글 ID
+     * @return 삭제되지 않은 게시글이면 true
+     */
+    boolean exists(Long boardIdx);
+
+    /**
+     * 게시글이 있을 수도 있는지 확인 (DB 조회 없음)
+     * @param boardIdx 게시글 ID
+     * @return false이면 확실히 없음, true이면 실제 조회로 확인 필요
+     */
+    boolean mightExist(Long boardIdx);
+
+    /**
+     * 게시글 등록 반영
+     * @param boardIdx 등록된 게시글 ID
+     */
+    void onBoardCreated(Long boardIdx);
+
+    /**
+     * 게시글 삭제 반영
+     * @param boardIds 삭제된 게시글 ID 목록
+     */
+    void onBoardsDeleted(Collection<Long> boardIds);
+}
@@ -2,7 +2,11 @@ package com.example.board.service;
 
 import com.example.board.domain.BoardV0;
 import com.example.board.dto.ApiResponse;
+import com.example.board.dto.BoardBatchResponse;
+import com.example.board.dto.BoardDeleteResult;
 import com.example.board.dto.BoardDetailResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.util.FieldSelection;
 
 import java.util.List;
 
@@ -15,10 +19,16 @@ public interface BoardService {
     
     // 조회 기능
     List<BoardV0> getBoardList();
+    List<BoardV0> getBoardList(FieldSelection fields);
     BoardDetailResponse getBoardWithComments(Long idx);
+    BoardBatchResponse getBoardsWithComments(List<Long> boardIds, int commentsPerBoard);
+    CursorPage<BoardV0> getMyBoards(String userId, String cursor, int size);
     
     // 등록/수정/삭제 기능
     ApiResponse<Void> createBoard(BoardV0 board, String userId);
     ApiResponse<Void> updateBoard(Long boardIdx, BoardV0 board, String userId);
     ApiResponse<Void> deleteBoard(Long boardIdx, String userId);
+    
+    // 관리자 기능
+    ApiResponse<BoardDeleteResult> deleteBoards(List<Long> boardIds);
 }
\ No newline at end of file
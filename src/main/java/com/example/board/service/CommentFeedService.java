@@ -0,0 +1,33 @@
+package com.example.board.service;
+
+import com.example.board.domain.CommentV0;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 게시글별 실시간 댓글 피드(Server-Sent Events) 기능만을 정의합니다.
+ *
+ * 댓글 등록/삭제 시 CommentService가 이벤트를 발행하고,
+ * 구독 중인 모든 클라이언트에게 한 번 직렬화된 이벤트가 전달됩니다.
+ */
+public interface CommentFeedService {
+
+    /**
+     * 특정 게시글의 댓글 피드 구독
+     * @param boardIdx 게시글 ID
+     * @return SSE 연결 (구독자 수 초과 시 즉시 종료된 연결)
+     */
+    SseEmitter subscribe(Long boardIdx);
+
+    /**
+     * 댓글 등록 이벤트 발행
+     * @param comment 등록된 댓글
+     */
+    void publishCreated(CommentV0 comment);
+
+    /**
+     * 댓글 삭제 이벤트 발행
+     * @param comment 삭제된 댓글
+     */
+    void publishDeleted(CommentV0 comment);
+}
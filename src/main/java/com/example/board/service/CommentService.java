@@ -2,8 +2,12 @@ package com.example.board.service;
 
 import com.example.board.domain.CommentV0;
 import com.example.board.dto.ApiResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.util.FieldSelection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 실무 원칙: 단순하고 실용적인 인터페이스 설계
@@ -12,8 +16,12 @@ import java.util.List;
  */
 public interface CommentService {
     
-    // 조회 기능
-    List<CommentV0> getCommentsByBoardIdx(Long boardIdx);
+    // 조회 기능 (게시글별 댓글은 키셋 커서 페이지 단위로 조회)
+    CursorPage<CommentV0> getCommentPage(Long boardIdx, String cursor, int size);
+    CursorPage<CommentV0> getCommentPage(Long boardIdx, String cursor, int size, FieldSelection fields);
+    CursorPage<CommentV0> getReplyPage(Long commentIdx, String cursor, int size);
+    CursorPage<CommentV0> getMyComments(String userId, String cursor, int size);
+    Map<Long, CursorPage<CommentV0>> getFirstCommentPages(Collection<Long> boardIds, int size);
     List<CommentV0> getAllComments();
     
     // 등록/수정/삭제 기능
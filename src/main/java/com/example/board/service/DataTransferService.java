@@ -0,0 +1,47 @@
+package com.example.board.service;
+
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 게시글/댓글의 대량 내보내기(NDJSON)와 가져오기 기능만을 정의합니다.
+ */
+public interface DataTransferService {
+
+    /**
+     * 게시글 내보내기 (한 줄에 게시글 하나, idx 순)
+     * @param afterIdx 이 idx 다음부터 내보냄 (중단된 내보내기 재개용, 처음부터는 0)
+     * @param gzip gzip 압축 여부
+     * @param out 출력 스트림
+     */
+    void exportBoards(long afterIdx, boolean gzip, OutputStream out) throws IOException;
+
+    /**
+     * 댓글 내보내기 (한 줄에 댓글 하나, idx 순)
+     * @param afterIdx 이 idx 다음부터 내보냄 (중단된 내보내기 재개용, 처음부터는 0)
+     * @param gzip gzip 압축 여부
+     * @param out 출력 스트림
+     */
+    void exportComments(long afterIdx, boolean gzip, OutputStream out) throws IOException;
+
+    /**
+     * 게시글 가져오기 (NDJSON, gzip이면 자동 해제)
+     * @param in 입력 스트림
+     * @param resume true면 이전 실행의 체크포인트 행까지 건너뜀 (내용이 다르면 IllegalArgumentException)
+     * @return 가져오기 결과
+     */
+    ApiResponse<ImportResult> importBoards(InputStream in, boolean resume);
+
+    /**
+     * 댓글 가져오기 (NDJSON, gzip이면 자동 해제, 게시글을 먼저 가져와야 함)
+     * @param in 입력 스트림
+     * @param resume true면 이전 실행의 체크포인트 행까지 건너뜀 (내용이 다르면 IllegalArgumentException)
+     * @return 가져오기 결과
+     */
+    ApiResponse<ImportResult> importComments(InputStream in, boolean resume);
+}
@@ -0,0 +1,33 @@
+package com.example.board.service;
+
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.IdempotentResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * SOLID 원칙 적용:
+ * 
+ * ISP (Interface Segregation Principle):
+ * 등록 요청의 중복 실행 방지 기능만을 정의합니다.
+ * 
+ * DIP (Dependency Inversion Principle):
+ * Controller는 저장소 구현(메모리/DB)이 아닌 이 인터페이스에 의존합니다.
+ */
+public interface IdempotencyService {
+    
+    /**
+     * 멱등성 키로 요청 실행
+     * 같은 (scope, 사용자, 키)로 이미 성공한 요청이 있으면 action을 실행하지 않고 저장된 응답을 돌려줍니다.
+     * @param scope 요청 종류 (board, comment)
+     * @param userId 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 확인하는 데 사용)
+     * @param action 실제 등록 처리
+     * @return 응답과 재사용 여부
+     * @throws IllegalArgumentException 같은 키로 다른 요청 본문을 보낸 경우
+     * @throws com.example.board.exception.IdempotencyConflictException 같은 키의 요청이 아직 처리 중인 경우
+     */
+    IdempotentResponse execute(String scope, String userId, String idempotencyKey,
+                               Object request, Supplier<ApiResponse<Void>> action);
+}
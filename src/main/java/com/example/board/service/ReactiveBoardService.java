@@ -0,0 +1,18 @@
+package com.example.board.service;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.dto.BoardDetailResponse;
+import com.example.board.util.FieldSelection;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 논블로킹 게시글 조회 (/reactive/board)
+ * BoardService의 조회 기능과 같은 결과를 반환하되, DB 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ */
+public interface ReactiveBoardService {
+    
+    Mono<List<BoardV0>> getBoardList(FieldSelection fields);
+    Mono<BoardDetailResponse> getBoardWithComments(Long idx);
+}
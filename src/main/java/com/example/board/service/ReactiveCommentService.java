@@ -0,0 +1,15 @@
+package com.example.board.service;
+
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.CursorPage;
+import com.example.board.util.FieldSelection;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 댓글 조회 (/reactive/comment)
+ * CommentService의 게시글별 댓글 페이지 조회와 같은 결과를 반환합니다.
+ */
+public interface ReactiveCommentService {
+    
+    Mono<CursorPage<CommentV0>> getCommentPage(Long boardIdx, String cursor, int size, FieldSelection fields);
+}
@@ -0,0 +1,34 @@
+package com.example.board.service;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 토큰 폐기 등록과 폐기 여부 확인 기능만을 정의합니다.
+ *
+ * JWT는 서명만으로 검증되므로 만료 전에는 무효화할 수 없습니다.
+ * 로그아웃한 토큰과 비활성화된 사용자의 토큰을 이 저장소에서 걸러냅니다.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * 폐기 여부 확인 (모든 인증 요청마다 호출됨)
+     * @param jti 토큰 ID (없는 토큰은 null)
+     * @param userId 토큰의 사용자 ID
+     * @param issuedAtMillis 토큰 발급 시각 (epoch millis, 사용자 단위 폐기 시각과는 초 단위로 비교)
+     * @return 폐기된 토큰이면 true
+     */
+    boolean isRevoked(String jti, String userId, long issuedAtMillis);
+
+    /**
+     * 토큰 한 개 폐기 (로그아웃)
+     * @param jti 토큰 ID
+     * @param userId 토큰의 사용자 ID
+     * @param expiresAtMillis 토큰 만료 시각 (이후에는 폐기 항목도 삭제)
+     */
+    void revokeToken(String jti, String userId, long expiresAtMillis);
+
+    /**
+     * 사용자가 지금까지 발급받은 모든 토큰 폐기 (계정 비활성화)
+     * @param userId 사용자 ID
+     */
+    void revokeUser(String userId);
+}
@@ -0,0 +1,52 @@
+package com.example.board.service;
+
+import com.example.board.dto.TrendingBoard;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 인기 게시글 순위 기능만을 정의합니다.
+ *
+ * 게시글/댓글 쓰기 이벤트와 조회수 집계를 입력으로 받아
+ * 시간 감쇠가 적용된 점수를 메모리에서 증분 유지합니다.
+ */
+public interface TrendingService {
+
+    /**
+     * 게시글 등록 이벤트 반영
+     * @param boardIdx 게시글 ID
+     */
+    void onBoardCreated(Long boardIdx);
+
+    /**
+     * 게시글 삭제 이벤트 반영 (순위에서 제외)
+     * @param boardIdx 게시글 ID
+     */
+    void onBoardDeleted(Long boardIdx);
+
+    /**
+     * 댓글 등록 이벤트 반영
+     * @param boardIdx 댓글이 등록된 게시글 ID
+     */
+    void onCommentCreated(Long boardIdx);
+
+    /**
+     * 집계된 조회수 반영
+     * @param viewDeltas 게시글 ID별 조회수 증가분
+     */
+    void onBoardViews(Map<Long, Long> viewDeltas);
+
+    /**
+     * 인기 게시글 상위 N개 조회
+     * @param size 조회할 개수
+     * @return 점수 내림차순 인기 게시글 목록
+     */
+    List<TrendingBoard> getTopBoards(int size);
+
+    /**
+     * DB의 최근 게시글/댓글 이력으로 순위 재구성 (애플리케이션 시작 시)
+     */
+    void rebuildFromDatabase();
+}
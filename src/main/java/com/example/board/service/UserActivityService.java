@@ -0,0 +1,57 @@
+package com.example.board.service;
+
+import com.example.board.domain.UserActivity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 사용자별 활동 집계(게시글 수, 댓글 수, 마지막 활동 시각)의 갱신과 조회만을 정의합니다.
+ */
+public interface UserActivityService {
+
+    /**
+     * 게시글 등록 반영 (게시글 등록과 같은 트랜잭션에서 호출)
+     */
+    void onBoardCreated(String userId);
+
+    /**
+     * 댓글 등록 반영 (댓글 등록과 같은 트랜잭션에서 호출)
+     */
+    void onCommentCreated(String userId);
+
+    /**
+     * 댓글 삭제 반영 (댓글 삭제와 같은 트랜잭션에서 호출)
+     */
+    void onCommentDeleted(String userId);
+
+    /**
+     * 게시글 삭제 반영
+     * 게시글과 함께 삭제된 댓글 작성자까지 포함하여 다시 계산합니다.
+     */
+    void onBoardsDeleted(Collection<Long> boardIds);
+
+    /**
+     * 사용자 활동 집계 조회 (활동 기록이 없으면 모두 0)
+     */
+    UserActivity getStats(String userId);
+
+    /**
+     * 여러 사용자 활동 집계 조회 (요청 순서 유지, 활동 기록이 없으면 모두 0)
+     */
+    List<UserActivity> getStats(List<String> userIds);
+
+    /**
+     * 활동 순위 조회
+     * @param by 기준 (boards: 게시글 수, comments: 댓글 수)
+     * @param limit 최대 사용자 수 (1 ~ 100)
+     */
+    List<UserActivity> getTopUsers(String by, int limit);
+
+    /**
+     * 전체 사용자 집계를 원본 테이블과 맞춤
+     * @return 다시 계산한 사용자 수
+     */
+    long reconcile();
+}
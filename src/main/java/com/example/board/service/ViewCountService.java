@@ -0,0 +1,38 @@
+package com.example.board.service;
+
+import com.example.board.domain.BoardV0;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: ISP (Interface Segregation Principle)
+ * 게시글 조회수 집계 기능만을 정의합니다.
+ *
+ * 조회 요청마다 DB를 갱신하지 않고 메모리에서 집계한 뒤,
+ * 주기적으로 한 번의 UPDATE 문으로 DB에 반영합니다.
+ */
+public interface ViewCountService {
+
+    /**
+     * 게시글 조회수 1 증가 (메모리 집계)
+     * @param boardIdx 게시글 ID
+     */
+    void increment(Long boardIdx);
+
+    /**
+     * DB에 아직 반영되지 않은 조회수를 게시글에 합산
+     * @param board DB에서 조회한 게시글
+     */
+    void applyPendingViews(BoardV0 board);
+
+    /**
+     * DB에 아직 반영되지 않은 조회수를 게시글 목록에 합산
+     * @param boards DB에서 조회한 게시글 목록
+     */
+    void applyPendingViews(List<BoardV0> boards);
+
+    /**
+     * 집계된 조회수를 DB에 일괄 반영
+     */
+    void flush();
+}
@@ -0,0 +1,266 @@
+package com.example.board.service.impl;
+
+import com.example.board.dto.ArchiveStatus;
+import com.example.board.repository.ArchiveRepository;
+import com.example.board.repository.JobCheckpointRepository;
+import com.example.board.service.ArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 논리 삭제 후 보관 기간이 지난 데이터를 보관 테이블로 옮기는 작업만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 Repository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 운영 트래픽과 복제에 영향을 주지 않는 배치 처리
+ * - idx 키셋 순서로 작은 배치(batch-size)씩 처리, 배치마다 짧은 트랜잭션으로 커밋
+ * - 배치 처리 시간에 비례해 쉬어 가며(pause-ratio) DB 부하와 복제 지연을 억제
+ * - 배치와 함께 진행 위치(checkpoint)를 커밋하므로 중단 후 재시작 시 이어서 처리
+ * - 외래키 때문에 댓글을 먼저 옮기고, 댓글이 남지 않은 게시글만 옮김
+ * - 진행 상황은 Micrometer 지표(board.archive.*)와 관리자 API로 확인
+ * - 관리자 API 실행은 전용 스레드에서 처리하므로 요청 스레드가 작업 종료까지 묶이지 않음
+ */
+@Slf4j
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final String COMMENT_JOB = "archive.comment";
+    private static final String BOARD_JOB = "archive.board";
+
+    private final ArchiveRepository archiveRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean scheduleEnabled;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long minPauseMillis;
+    private final double pauseRatio;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "archive-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean shuttingDown;
+    private volatile String phase = "IDLE";
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile String lastError;
+    private final AtomicLong archivedComments = new AtomicLong();
+    private final AtomicLong archivedBoards = new AtomicLong();
+    private final AtomicLong commentCheckpoint = new AtomicLong();
+    private final AtomicLong boardCheckpoint = new AtomicLong();
+
+    private final Counter archivedCommentCounter;
+    private final Counter archivedBoardCounter;
+    private final Timer batchTimer;
+
+    public ArchiveServiceImpl(
+            ArchiveRepository archiveRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${archive.enabled:false}") boolean scheduleEnabled,
+            @Value("${archive.retention-days:30}") int retentionDays,
+            @Value("${archive.batch-size:500}") int batchSize,
+            @Value("${archive.min-pause-ms:200}") long minPauseMillis,
+            @Value("${archive.pause-ratio:1.0}") double pauseRatio) {
+
+        this.archiveRepository = archiveRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduleEnabled = scheduleEnabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.minPauseMillis = minPauseMillis;
+        this.pauseRatio = pauseRatio;
+
+        this.archivedCommentCounter = meterRegistry.counter("board.archive.rows", "table", "t_comment");
+        this.archivedBoardCounter = meterRegistry.counter("board.archive.rows", "table", "t_board");
+        this.batchTimer = meterRegistry.timer("board.archive.batch");
+        meterRegistry.gauge("board.archive.running", running, flag -> flag.get() ? 1 : 0);
+        meterRegistry.gauge("board.archive.checkpoint", Tags.of("table", "t_comment"),
+                commentCheckpoint, AtomicLong::get);
+        meterRegistry.gauge("board.archive.checkpoint", Tags.of("table", "t_board"),
+                boardCheckpoint, AtomicLong::get);
+    }
+
+    /**
+     * 정기 보관 작업 (archive.enabled=true 인 인스턴스에서만 실행)
+     */
+    @Scheduled(cron = "${archive.cron:0 30 4 * * *}")
+    public void runScheduledArchive() {
+        if (scheduleEnabled && tryBegin()) {
+            archive();
+        }
+    }
+
+    /**
+     * 보관 작업을 전용 스레드에서 시작
+     * 동시에 한 번만 실행되며, 이미 실행 중이면 시작하지 않습니다.
+     */
+    @Override
+    public boolean startArchive() {
+        if (!tryBegin()) {
+            return false;
+        }
+
+        try {
+            archiveExecutor.execute(this::archive);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 새 작업을 받지 않음
+            phase = "IDLE";
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 실행 상태 선점 및 이번 실행의 진행 상황 초기화
+     */
+    private boolean tryBegin() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        lastStartedAt = LocalDateTime.now();
+        lastError = null;
+        archivedComments.set(0);
+        archivedBoards.set(0);
+        phase = "STARTING";
+        return true;
+    }
+
+    /**
+     * 보관 작업 본문 (tryBegin으로 실행 상태를 선점한 스레드만 호출)
+     */
+    private void archive() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+            phase = "COMMENTS";
+            runJob(COMMENT_JOB, commentCheckpoint, archivedComments, archivedCommentCounter,
+                    afterIdx -> archiveRepository.findArchivableCommentIds(cutoff, afterIdx, batchSize),
+                    archiveRepository::archiveComments);
+
+            phase = "BOARDS";
+            runJob(BOARD_JOB, boardCheckpoint, archivedBoards, archivedBoardCounter,
+                    afterIdx -> archiveRepository.findArchivableBoardIds(cutoff, afterIdx, batchSize),
+                    archiveRepository::archiveBoards);
+
+            log.info("삭제 데이터 보관 완료 - 댓글: {}건, 게시글: {}건", archivedComments.get(), archivedBoards.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "중단됨";
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("삭제 데이터 보관 실패 - 단계: {}, 오류: {}", phase, e.getMessage(), e);
+        } finally {
+            phase = "IDLE";
+            lastFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보관 작업 진행 상황 조회
+     */
+    @Override
+    public ArchiveStatus getStatus() {
+        return ArchiveStatus.builder()
+                .running(running.get())
+                .phase(phase)
+                .lastStartedAt(lastStartedAt)
+                .lastFinishedAt(lastFinishedAt)
+                .lastError(lastError)
+                .archivedComments(archivedComments.get())
+                .archivedBoards(archivedBoards.get())
+                .commentCheckpoint(commentCheckpoint.get())
+                .boardCheckpoint(boardCheckpoint.get())
+                .build();
+    }
+
+    /**
+     * 종료 요청 시 현재 배치까지만 처리하고 멈춤 (다음 실행 시 체크포인트부터 재개)
+     */
+    @PreDestroy
+    public void stop() {
+        shuttingDown = true;
+        archiveExecutor.shutdown();
+    }
+
+    /**
+     * 키셋 배치 반복
+     * 배치마다 "원본 → 보관 테이블 이동 + 체크포인트 저장"을 한 트랜잭션으로 커밋합니다.
+     * 끝까지 처리하면 체크포인트를 0으로 되돌려 다음 실행은 처음부터 다시 확인합니다.
+     */
+    private void runJob(String jobName,
+                        AtomicLong checkpoint,
+                        AtomicLong archivedInRun,
+                        Counter archivedCounter,
+                        Function<Long, List<Long>> findBatch,
+                        Function<List<Long>, Integer> archiveBatch) throws InterruptedException {
+
+        long afterIdx = jobCheckpointRepository.findLastIdx(jobName).orElse(0L);
+        checkpoint.set(afterIdx);
+
+        while (!shuttingDown) {
+            long startedAt = System.nanoTime();
+
+            List<Long> ids = findBatch.apply(afterIdx);
+            if (ids.isEmpty()) {
+                jobCheckpointRepository.save(jobName, 0L);
+                checkpoint.set(0L);
+                return;
+            }
+
+            long lastIdx = ids.get(ids.size() - 1);
+            Integer archived = transactionTemplate.execute(status -> {
+                int moved = archiveBatch.apply(ids);
+                jobCheckpointRepository.save(jobName, lastIdx);
+                return moved;
+            });
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            int moved = archived != null ? archived : 0;
+            archivedInRun.addAndGet(moved);
+            archivedCounter.increment(moved);
+            checkpoint.set(lastIdx);
+            afterIdx = lastIdx;
+
+            log.debug("삭제 데이터 보관 배치 - 작업: {}, 처리: {}건, 위치: {}", jobName, moved, lastIdx);
+
+            // 배치 처리 시간에 비례해 쉬어 가며 DB와 복제에 여유를 줌
+            long pauseMillis = Math.max(minPauseMillis, (long) (elapsedNanos / 1_000_000d * pauseRatio));
+            Thread.sleep(pauseMillis);
+        }
+    }
+}
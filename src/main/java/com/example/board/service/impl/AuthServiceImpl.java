@@ -1,12 +1,16 @@
 package com.example.board.service.impl;
 
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
 import com.example.board.domain.User;
 import com.example.board.dto.LoginRequest;
 import com.example.board.dto.LoginResponse;
 import com.example.board.dto.SignupRequest;
 import com.example.board.repository.UserRepository;
 import com.example.board.service.AuthService;
+import com.example.board.service.TokenRevocationService;
 import com.example.board.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +36,8 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final JwtTokenUtil jwtTokenUtil;
     private final PasswordEncoder passwordEncoder;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TokenRevocationService tokenRevocationService;
     
     /**
      * 사용자 회원가입 처리
@@ -54,6 +60,7 @@ public class AuthServiceImpl implements AuthService {
         user.setActiveYn("Y");
         
         userRepository.save(user);
+        cacheInvalidationBus.publish(CacheNames.USER, user.getUserId());
         
         log.info("새 사용자 회원가입 완료: {}", user.getUserId());
     }
@@ -117,4 +124,41 @@ public class AuthServiceImpl implements AuthService {
     public String getUserIdFromToken(String token) {
         return jwtTokenUtil.getUserIdFromToken(token);
     }
+    
+    /**
+     * 로그아웃 처리
+     * 비즈니스 로직: 토큰의 jti를 만료 시각까지 폐기 목록에 등록
+     */
+    @Override
+    public void logout(String token) {
+        Claims claims = jwtTokenUtil.parseValidClaims(token);
+        if (claims == null) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        
+        if (claims.getId() == null) {
+            // jti 도입 이전에 발급된 토큰은 개별 폐기가 불가능하므로 사용자 단위로 폐기
+            tokenRevocationService.revokeUser(claims.getSubject());
+        } else {
+            tokenRevocationService.revokeToken(claims.getId(), claims.getSubject(), claims.getExpiration().getTime());
+        }
+        
+        log.info("사용자 로그아웃: {}", claims.getSubject());
+    }
+    
+    /**
+     * 사용자 계정 비활성화
+     * 비즈니스 로직: active_yn = 'N' 처리 후 이미 발급된 토큰 전체 폐기
+     */
+    @Override
+    public void deactivateUser(String userId) {
+        if (userRepository.deactivate(userId) == 0) {
+            throw new IllegalArgumentException("존재하지 않거나 이미 비활성화된 사용자입니다.");
+        }
+        
+        tokenRevocationService.revokeUser(userId);
+        cacheInvalidationBus.publish(CacheNames.USER, userId);
+        
+        log.info("사용자 계정 비활성화: {}", userId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.repository.BoardRepository;
+import com.example.board.service.BoardExistenceService;
+import com.example.board.util.PagedBitmap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 삭제되지 않은 게시글 ID 집합의 메모리 관리와 존재 여부 판정만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 BoardRepository, CacheInvalidationBus 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 없는 게시글에 대한 요청은 DB까지 가지 않음
+ * - 삭제되지 않은 게시글 ID를 비트맵(PagedBitmap)으로 보관, 시작 시 PK 범위 키셋으로 적재
+ * - 적재 시점의 최대 ID에서 overlap-ids를 뺀 값(watermark)까지만 "없음"을 메모리로 확정하고,
+ *   그보다 큰 ID(적재 이후 등록, 커밋 순서 역전)는 비트가 없을 때만 DB에서 확인
+ * - 이 인스턴스의 등록/삭제는 즉시 반영, 다른 인스턴스의 변경과 가져오기는
+ *   게시글 무효화(CacheNames.BOARD)를 모아 recheck-interval-ms마다 IN 조회 한 번으로 반영
+ * - 놓친 변경을 바로잡기 위해 resync-interval-ms마다 새 비트맵을 만들어 교체
+ *   (재적재 중의 등록/삭제는 새 비트맵에도 함께 반영, 삭제는 적재가 끝난 뒤 한 번 더 반영)
+ * - 적재 전이나 적재 실패 시에는 watermark가 0이므로 모든 판정을 DB로 처리
+ */
+@Slf4j
+@Service
+public class BoardExistenceServiceImpl implements BoardExistenceService {
+
+    private final BoardRepository boardRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int loadBatchSize;
+    private final long overlapIds;
+
+    private volatile PagedBitmap liveIds = new PagedBitmap();
+
+    /** 재적재 중인 비트맵 (재적재 중이 아니면 null) */
+    private volatile PagedBitmap rebuilding;
+
+    /** 재적재 중 삭제된 게시글 ID (DB에서 읽은 뒤 비트를 켜기 전에 삭제된 경우를 적재 후 다시 반영) */
+    private final Set<Long> deletedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    /** 이 ID 이하는 비트가 없으면 확실히 없음 */
+    private volatile long watermark;
+
+    /** 다른 인스턴스 변경 등으로 다시 확인할 게시글 ID */
+    private final Set<Long> pendingRechecks = ConcurrentHashMap.newKeySet();
+
+    private final Counter memoryCounter;
+    private final Counter databaseCounter;
+
+    public BoardExistenceServiceImpl(
+            BoardRepository boardRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${board.existence.load-batch-size:10000}") int loadBatchSize,
+            @Value("${board.existence.overlap-ids:200}") long overlapIds) {
+
+        this.boardRepository = boardRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.loadBatchSize = loadBatchSize;
+        this.overlapIds = overlapIds;
+
+        this.memoryCounter = meterRegistry.counter("board.existence.checks", "source", "memory");
+        this.databaseCounter = meterRegistry.counter("board.existence.checks", "source", "db");
+        meterRegistry.gauge("board.existence.watermark", this, service -> service.watermark);
+        meterRegistry.gauge("board.existence.memory", this, service -> service.liveIds.memoryBytes());
+    }
+
+    /**
+     * 게시글 무효화 구독
+     * 생성자에서 등록하면 모든 필드가 준비되기 전의 this가 버스의 전파 스레드에 넘어갈 수 있어 빈 초기화 후에 등록합니다.
+     */
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheNames.BOARD, cacheKey -> {
+            try {
+                pendingRechecks.add(Long.parseLong(cacheKey));
+            } catch (NumberFormatException e) {
+                log.warn("게시글 무효화 키 형식 오류 - 키: {}", cacheKey);
+            }
+        });
+    }
+
+    /**
+     * 게시글 존재 여부
+     * 메모리로 확정할 수 없는 경우에만 DB에서 확인하고 결과를 비트맵에 반영합니다.
+     */
+    @Override
+    public boolean exists(Long boardIdx) {
+        if (boardIdx == null || boardIdx <= 0) {
+            return false;
+        }
+
+        // watermark를 먼저 읽어야 그에 맞는 비트맵을 읽음 (rebuild의 교체 순서 참고)
+        long knownUpTo = watermark;
+        boolean inMemory = liveIds.contains(boardIdx);
+        if (inMemory || boardIdx <= knownUpTo) {
+            memoryCounter.increment();
+            return inMemory;
+        }
+
+        databaseCounter.increment();
+        boolean live = boardRepository.existsById(boardIdx);
+        if (live) {
+            markLive(boardIdx);
+        }
+        return live;
+    }
+
+    /**
+     * 게시글이 있을 수도 있는지 확인 (DB 조회 없음)
+     */
+    @Override
+    public boolean mightExist(Long boardIdx) {
+        if (boardIdx == null || boardIdx <= 0) {
+            return false;
+        }
+        long knownUpTo = watermark;
+        return boardIdx > knownUpTo || liveIds.contains(boardIdx);
+    }
+
+    @Override
+    public void onBoardCreated(Long boardIdx) {
+        if (boardIdx != null) {
+            markLive(boardIdx);
+        }
+    }
+
+    @Override
+    public void onBoardsDeleted(Collection<Long> boardIds) {
+        boardIds.forEach(this::markDeleted);
+    }
+
+    /**
+     * 시작 시 게시글 ID 적재
+     * DB에 연결할 수 없으면 다음 재적재 주기까지 모든 판정을 DB로 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("게시글 ID 적재 실패 - 다음 재적재 주기에 재시도합니다. 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재적재 (놓친 변경 보정)
+     */
+    @Scheduled(fixedDelayString = "${board.existence.resync-interval-ms:3600000}",
+               initialDelayString = "${board.existence.resync-interval-ms:3600000}")
+    public void resyncPeriodically() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("게시글 ID 재적재 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 무효화가 발행된 ID를 모아 다시 확인
+     */
+    @Scheduled(fixedDelayString = "${board.existence.recheck-interval-ms:1000}")
+    public void recheckPending() {
+        if (pendingRechecks.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = new ArrayList<>();
+        Iterator<Long> iterator = pendingRechecks.iterator();
+        while (iterator.hasNext() && boardIds.size() < loadBatchSize) {
+            boardIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            Set<Long> live = new HashSet<>(boardRepository.findLiveIds(boardIds));
+            for (Long boardIdx : boardIds) {
+                if (live.contains(boardIdx)) {
+                    markLive(boardIdx);
+                } else {
+                    markDeleted(boardIdx);
+                }
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 확인 (확인은 여러 번 해도 결과가 같음)
+            pendingRechecks.addAll(boardIds);
+            log.warn("게시글 존재 여부 재확인 실패 - 게시글 수: {}, 오류: {}", boardIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 새 비트맵에 전체 게시글 ID를 적재한 뒤 교체
+     * 비트맵을 먼저 교체한 다음 watermark를 올려, 새 watermark로 이전 비트맵을 판정하는 순간이 없도록 합니다.
+     */
+    private synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long maxIdx = boardRepository.findMaxIdx();
+
+        PagedBitmap next = new PagedBitmap();
+        deletedWhileRebuilding.clear();
+        rebuilding = next;
+        try {
+            long afterIdx = 0;
+            List<Long> boardIds;
+            do {
+                boardIds = boardRepository.findLiveIdsAfter(afterIdx, loadBatchSize);
+                boardIds.forEach(next::set);
+                if (!boardIds.isEmpty()) {
+                    afterIdx = boardIds.get(boardIds.size() - 1);
+                }
+            } while (boardIds.size() == loadBatchSize);
+            deletedWhileRebuilding.forEach(next::clear);
+
+            liveIds = next;
+            watermark = Math.max(0, maxIdx - overlapIds);
+        } finally {
+            rebuilding = null;
+            deletedWhileRebuilding.clear();
+        }
+
+        log.info("게시글 ID 적재 완료 - 게시글: {}건, 확정 범위: ~{}, 메모리: {}KB, 소요: {}ms",
+                next.cardinality(), watermark, next.memoryBytes() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    private void markLive(long boardIdx) {
+        PagedBitmap pending = rebuilding;
+        liveIds.set(boardIdx);
+        if (pending != null) {
+            pending.set(boardIdx);
+        }
+    }
+
+    private void markDeleted(long boardIdx) {
+        PagedBitmap pending = rebuilding;
+        liveIds.clear(boardIdx);
+        if (pending != null) {
+            deletedWhileRebuilding.add(boardIdx);
+            pending.clear(boardIdx);
+        }
+    }
+}
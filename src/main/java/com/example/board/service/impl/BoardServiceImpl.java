@@ -1,17 +1,37 @@
 package com.example.board.service.impl;
 
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.cache.UserDisplayNameCache;
 import com.example.board.domain.BoardV0;
 import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardBatchResponse;
+import com.example.board.dto.BoardDeleteResult;
 import com.example.board.dto.BoardDetailResponse;
+import com.example.board.dto.CursorPage;
 import com.example.board.repository.BoardRepository;
 import com.example.board.repository.CommentRepository;
+import com.example.board.service.BoardExistenceService;
 import com.example.board.service.BoardService;
+import com.example.board.service.CommentService;
+import com.example.board.service.TrendingService;
+import com.example.board.service.UserActivityService;
+import com.example.board.service.ViewCountService;
+import com.example.board.util.CursorCodec;
+import com.example.board.util.FieldSelection;
 import com.example.board.dto.ApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * SOLID 원칙 적용:
@@ -26,40 +46,188 @@ import java.util.List;
  * DIP (Dependency Inversion Principle):
  * 구체적인 Mapper가 아닌 추상화된 Repository 인터페이스에 의존합니다.
  * 이를 통해 데이터 접근 기술 변경시에도 Service 계층은 영향받지 않습니다.
+ * 
+ * 실무 원칙: 게시글 삭제 시 댓글도 함께 논리 삭제 (집합 단위 UPDATE)
+ * - 게시글 삭제와 첫 번째 댓글 묶음은 한 트랜잭션으로 커밋
+ * - 댓글이 많은 게시글은 남은 댓글을 묶음(comment-chunk-size)마다 짧은 트랜잭션으로 나누어 긴 잠금 방지
+ * 
+ * 실무 원칙: 조회 쿼리에서 users 조인 제거
+ * - 게시글은 writer_id만 조회하고, 작성자 이름은 조회 결과 전체를 사용자 이름 캐시로 한 번에 채움
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
     
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final CommentService commentService;
+    private final BoardExistenceService boardExistenceService;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
+    private final UserActivityService userActivityService;
+    private final UserDisplayNameCache userDisplayNameCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final int commentDeleteChunkSize;
+    
+    /** 여러 건 조회 시 한 번에 요청할 수 있는 최대 게시글 수 */
+    private static final int MAX_BATCH_SIZE = 100;
+    
+    /** 내 게시글 기본/최대 페이지 크기 */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    public BoardServiceImpl(
+            BoardRepository boardRepository,
+            CommentRepository commentRepository,
+            CommentService commentService,
+            BoardExistenceService boardExistenceService,
+            ViewCountService viewCountService,
+            TrendingService trendingService,
+            UserActivityService userActivityService,
+            UserDisplayNameCache userDisplayNameCache,
+            CacheInvalidationBus cacheInvalidationBus,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.delete.comment-chunk-size:1000}") int commentDeleteChunkSize) {
+        
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.commentService = commentService;
+        this.boardExistenceService = boardExistenceService;
+        this.viewCountService = viewCountService;
+        this.trendingService = trendingService;
+        this.userActivityService = userActivityService;
+        this.userDisplayNameCache = userDisplayNameCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = transactionTemplate;
+        this.commentDeleteChunkSize = commentDeleteChunkSize;
+    }
     
     /**
      * 게시글 목록 조회
-     * 비즈니스 로직: 삭제되지 않은 게시글만 조회
+     * 비즈니스 로직: 삭제되지 않은 게시글만 조회, 조회수는 미반영 집계분까지 합산
      */
     @Override
     public List<BoardV0> getBoardList() {
-        return boardRepository.findAll();
+        return getBoardList(FieldSelection.all(BoardV0.SELECTABLE_FIELDS));
+    }
+    
+    /**
+     * 게시글 목록 조회 (부분 필드 선택)
+     * 비즈니스 로직: 선택된 필드의 컬럼만 조회, 조회수를 선택한 경우에만 미반영 집계분 합산
+     * 작성자명을 선택한 경우에만 사용자 이름 캐시로 채움
+     */
+    @Override
+    public List<BoardV0> getBoardList(FieldSelection fields) {
+        List<BoardV0> boards = boardRepository.findAll(fields.getFields());
+        if (fields.includes("views")) {
+            viewCountService.applyPendingViews(boards);
+        }
+        if (fields.includes("writerNm")) {
+            fillWriterNames(boards);
+        }
+        return boards;
     }
     
     /**
      * 게시글 상세 조회 (댓글 포함)
-     * 비즈니스 로직: 게시글 존재 여부 확인 후 댓글과 함께 조회
+     * 비즈니스 로직: 게시글 존재 여부 확인 후 댓글 첫 페이지와 함께 조회, 조회수 1 증가
      * OCP 적용: 예외를 통해 오류 상황을 처리
      * DIP 적용: Repository 추상화를 통해 데이터 접근
      */
     @Override
     public BoardDetailResponse getBoardWithComments(Long idx) {
+        // 확실히 없는 게시글은 DB 조회 없이 거절
+        if (!boardExistenceService.mightExist(idx)) {
+            throw new com.example.board.exception.BoardNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        
         // 게시글 조회
         BoardV0 board = boardRepository.findById(idx)
                 .orElseThrow(() -> new com.example.board.exception.BoardNotFoundException("게시글을 찾을 수 없습니다."));
         
-        // 댓글 조회
-        List<CommentV0> comments = commentRepository.findByBoardIdx(idx);
+        // 조회수 증가 (메모리 집계 후 주기적으로 DB 반영)
+        viewCountService.increment(idx);
+        viewCountService.applyPendingViews(board);
+        fillWriterNames(List.of(board));
+        
+        // 댓글 첫 페이지와 전체 댓글 수 조회 (댓글이 많아도 응답 크기 일정)
+        CursorPage<CommentV0> commentPage = commentService.getCommentPage(idx, null, 0);
+        int commentCount = commentRepository.countByBoardIdx(idx);
+        
+        return BoardDetailResponse.of(board, commentPage, commentCount);
+    }
+    
+    /**
+     * 게시글 여러 건 조회 (댓글 첫 페이지 포함)
+     * 비즈니스 로직: 게시글 조회 쿼리 한 번 + 댓글 조회 쿼리 한 번으로 처리하고 메모리에서 묶음
+     * - 없거나 삭제된 게시글은 오류 대신 missingIds로 반환
+     * - 피드/알림 렌더링 용도이므로 조회수는 증가시키지 않음
+     */
+    @Override
+    public BoardBatchResponse getBoardsWithComments(List<Long> boardIds, int commentsPerBoard) {
+        List<Long> distinctIds = boardIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개의 게시글까지 조회할 수 있습니다.");
+        }
+        
+        Map<Long, BoardV0> boardsById = boardRepository.findAllByIds(distinctIds).stream()
+                .collect(Collectors.toMap(BoardV0::getIdx, Function.identity()));
+        Map<Long, CursorPage<CommentV0>> commentPages =
+                commentService.getFirstCommentPages(boardsById.keySet(), commentsPerBoard);
+        fillWriterNames(boardsById.values());
+        
+        List<BoardDetailResponse> boards = new ArrayList<>(boardsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long boardIdx : distinctIds) {
+            BoardV0 board = boardsById.get(boardIdx);
+            if (board == null) {
+                missingIds.add(boardIdx);
+                continue;
+            }
+            viewCountService.applyPendingViews(board);
+            boards.add(BoardDetailResponse.of(board, commentPages.get(boardIdx), board.getCommentCount()));
+        }
+        
+        return BoardBatchResponse.builder()
+                .boards(boards)
+                .missingIds(missingIds)
+                .build();
+    }
+    
+    /**
+     * 내 게시글 페이지 조회
+     * 비즈니스 로직: 로그인한 사용자가 작성한 삭제되지 않은 게시글을 최신순으로 조회, 조회수는 미반영 집계분까지 합산
+     * (작성자 인덱스 범위만 읽으므로 전체 게시글 수와 관계없이 본인 게시글 수에 비례)
+     */
+    @Override
+    public CursorPage<BoardV0> getMyBoards(String userId, String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        
+        LocalDateTime beforeRegDate = null;
+        Long beforeIdx = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            try {
+                beforeRegDate = LocalDateTime.parse(keys[0]);
+                beforeIdx = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+        
+        // 페이지 크기 + 1건을 조회하여 다음 페이지 존재 여부 판단
+        List<BoardV0> boards = boardRepository.findPageByWriter(userId, beforeRegDate, beforeIdx, pageSize + 1);
+        String nextCursor = null;
+        if (boards.size() > pageSize) {
+            boards = boards.subList(0, pageSize);
+            BoardV0 last = boards.get(boards.size() - 1);
+            nextCursor = CursorCodec.encode(last.getRegDate(), last.getIdx());
+        }
         
-        return BoardDetailResponse.of(board, comments);
+        viewCountService.applyPendingViews(boards);
+        fillWriterNames(boards);
+        return CursorPage.of(boards, nextCursor);
     }
     
     /**
@@ -75,7 +243,15 @@ public class BoardServiceImpl implements BoardService {
             // Spring Validation으로 입력값 검증 완료됨
             // Service는 비즈니스 로직만 처리
             board.setWriterId(userId);
-            boardRepository.save(board);
+            transactionTemplate.executeWithoutResult(status -> {
+                boardRepository.save(board);
+                userActivityService.onBoardCreated(userId);
+            });
+            
+            // 게시글 존재 여부, 인기 게시글 순위 반영, 다른 인스턴스 캐시 무효화
+            boardExistenceService.onBoardCreated(board.getIdx());
+            trendingService.onBoardCreated(board.getIdx());
+            cacheInvalidationBus.publish(CacheNames.BOARD, board.getIdx());
             
             return ApiResponse.success("게시글이 성공적으로 등록되었습니다.");
             
@@ -113,6 +289,7 @@ public class BoardServiceImpl implements BoardService {
             // Service는 비즈니스 로직만 처리
             board.setIdx(boardIdx);
             boardRepository.update(board);
+            cacheInvalidationBus.publish(CacheNames.BOARD, boardIdx);
             
             return ApiResponse.success("게시글이 성공적으로 수정되었습니다.");
             
@@ -127,7 +304,7 @@ public class BoardServiceImpl implements BoardService {
      * 실무 원칙: Service에서 권한 검증과 비즈니스 로직 처리
      * - 게시글 존재 확인
      * - 작성자 권한 확인
-     * - 논리 삭제 처리
+     * - 게시글과 댓글 논리 삭제 처리
      * - 성공/실패 결과 반환
      */
     @Override
@@ -145,8 +322,8 @@ public class BoardServiceImpl implements BoardService {
         }
         
         try {
-            // 3. 논리 삭제 처리
-            boardRepository.deleteById(boardIdx);
+            // 3. 게시글과 댓글 논리 삭제 처리
+            deleteWithComments(List.of(boardIdx));
             
             return ApiResponse.success("게시글이 성공적으로 삭제되었습니다.");
             
@@ -156,4 +333,80 @@ public class BoardServiceImpl implements BoardService {
         }
     }
     
+    /**
+     * 게시글 일괄 삭제 (관리자)
+     * 비즈니스 로직: 작성자 확인 없이 게시글과 댓글을 함께 논리 삭제
+     * 이미 삭제된 게시글에 남아 있는 댓글도 정리하므로, 중단된 삭제를 다시 실행하는 용도로도 사용
+     */
+    @Override
+    public ApiResponse<BoardDeleteResult> deleteBoards(List<Long> boardIds) {
+        List<Long> distinctIds = boardIds.stream().distinct().toList();
+        
+        try {
+            BoardDeleteResult result = deleteWithComments(distinctIds);
+            
+            log.info("게시글 일괄 삭제 - 요청: {}건, 게시글: {}건, 댓글: {}건",
+                    distinctIds.size(), result.getDeletedBoards(), result.getDeletedComments());
+            return ApiResponse.success("게시글 일괄 삭제가 완료되었습니다.", result);
+            
+        } catch (Exception e) {
+            log.error("게시글 일괄 삭제 실패 - 요청: {}건, 오류: {}", distinctIds.size(), e.getMessage(), e);
+            return ApiResponse.failure("게시글 일괄 삭제 중 오류가 발생했습니다.");
+        }
+    }
+    
+    /**
+     * 게시글과 댓글을 함께 논리 삭제
+     * 게시글 삭제와 첫 번째 댓글 묶음은 한 트랜잭션으로 커밋하고, 남은 댓글은 묶음마다 따로 커밋합니다.
+     */
+    private BoardDeleteResult deleteWithComments(Collection<Long> boardIds) {
+        BoardDeleteResult firstChunk = transactionTemplate.execute(status -> BoardDeleteResult.builder()
+                .deletedBoards(boardRepository.deleteByIds(boardIds))
+                .deletedComments(commentRepository.deleteByBoardIds(boardIds, commentDeleteChunkSize))
+                .build());
+        
+        // 게시글이 삭제되었으므로 이후 댓글 등록은 바로 거절
+        boardExistenceService.onBoardsDeleted(boardIds);
+        
+        long deletedComments = firstChunk.getDeletedComments();
+        long lastChunk = deletedComments;
+        try {
+            while (lastChunk == commentDeleteChunkSize) {
+                lastChunk = commentRepository.deleteByBoardIds(boardIds, commentDeleteChunkSize);
+                deletedComments += lastChunk;
+            }
+        } catch (Exception e) {
+            // 남은 댓글은 delYn='N'으로 남지만 댓글 조회는 모두 게시글 삭제 여부로 걸러 노출되지 않음
+            // (게시글별 조회는 게시글 존재 확인, 전체/작성자별/단건 조회는 t_board 조인)
+            // 남은 댓글 정리는 관리자 일괄 삭제(POST /admin/boards/bulk-delete)로 다시 실행
+            log.error("댓글 일괄 삭제 중단 - 게시글: {}, 처리된 댓글: {}건, 오류: {}",
+                    boardIds, deletedComments, e.getMessage(), e);
+        }
+        
+        // 게시글 작성자와 함께 삭제된 댓글 작성자의 활동 집계를 다시 계산 (실패해도 야간 재집계에서 맞춰짐)
+        try {
+            userActivityService.onBoardsDeleted(boardIds);
+        } catch (Exception e) {
+            log.warn("사용자 활동 재집계 실패 - 게시글: {}, 오류: {}", boardIds, e.getMessage());
+        }
+        
+        // 인기 게시글 순위에서 제외, 다른 인스턴스 캐시 무효화
+        for (Long boardIdx : boardIds) {
+            trendingService.onBoardDeleted(boardIdx);
+            cacheInvalidationBus.publish(CacheNames.BOARD, boardIdx);
+            cacheInvalidationBus.publish(CacheNames.BOARD_COMMENTS, boardIdx);
+        }
+        
+        return BoardDeleteResult.builder()
+                .deletedBoards(firstChunk.getDeletedBoards())
+                .deletedComments(deletedComments)
+                .build();
+    }
+    
+    /**
+     * 작성자 이름 채우기 (캐시에 없는 작성자만 IN 조회 한 번)
+     */
+    private void fillWriterNames(Collection<BoardV0> boards) {
+        userDisplayNameCache.fillDisplayNames(boards, BoardV0::getWriterId, BoardV0::setWriterNm);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.CommentFeedEvent;
+import com.example.board.service.CommentFeedService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 게시글별 SSE 구독자 관리와 이벤트 팬아웃(fan-out)만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * CommentService는 이 구현체가 아닌 CommentFeedService 인터페이스에만 의존합니다.
+ *
+ * 실무 원칙: 연결당 스레드를 점유하지 않는 팬아웃 구조
+ * - SSE 연결은 서블릿 비동기 요청으로 유지되므로 유휴 연결은 스레드를 점유하지 않음
+ * - 이벤트는 발행 시 한 번만 직렬화하고, 같은 프레임을 모든 구독자에게 전달
+ * - 구독자마다 크기가 제한된 큐를 두어 백프레셔를 적용하고,
+ *   큐가 가득 찬(느린) 구독자는 연결을 끊어 다른 구독자에게 영향을 주지 않음
+ * - 실제 전송은 소수의 공유 디스패처 스레드가 담당
+ */
+@Slf4j
+@Service
+public class CommentFeedServiceImpl implements CommentFeedService {
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long rejectRetryMillis;
+
+    private final Map<Long, Set<Subscriber>> subscribersByBoard = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+
+    public CommentFeedServiceImpl(
+            ObjectMapper objectMapper,
+            @Value("${comment.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${comment.feed.subscriber-queue-capacity:64}") int queueCapacity,
+            @Value("${comment.feed.max-subscribers:50000}") int maxSubscribers,
+            @Value("${comment.feed.reject-retry-ms:30000}") long rejectRetryMillis,
+            @Value("${comment.feed.dispatcher-threads:4}") int dispatcherThreads) {
+
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.rejectRetryMillis = rejectRetryMillis;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-feed-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 특정 게시글의 댓글 피드 구독
+     * 구독자 수가 상한을 넘으면 재연결 지연(retry)만 알려주고 즉시 연결을 종료합니다.
+     */
+    @Override
+    public SseEmitter subscribe(Long boardIdx) {
+        SseEmitter emitter = newEmitter();
+
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("댓글 피드 구독자 수 초과 - 게시글: {}", boardIdx);
+            rejectSubscription(emitter);
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(boardIdx, emitter, queueCapacity);
+        subscribersByBoard.compute(boardIdx, (key, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        // 응답 헤더를 즉시 내보내 클라이언트가 연결 성립을 알 수 있도록 첫 프레임 전송
+        enqueue(subscriber, SseEmitter.event().comment("connected").build());
+
+        return emitter;
+    }
+
+    /**
+     * 댓글 등록 이벤트 발행
+     */
+    @Override
+    public void publishCreated(CommentV0 comment) {
+        publish(CommentFeedEvent.created(comment));
+    }
+
+    /**
+     * 댓글 삭제 이벤트 발행
+     */
+    @Override
+    public void publishDeleted(CommentV0 comment) {
+        publish(CommentFeedEvent.deleted(comment));
+    }
+
+    /**
+     * 유휴 연결 유지용 하트비트
+     * 프록시/로드밸런서의 유휴 타임아웃을 방지하고, 끊어진 연결을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.feed.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("ping").build();
+        subscribersByBoard.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> enqueue(subscriber, frame)));
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 연결을 정상 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribersByBoard.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByBoard.clear();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 구독 연결 생성 (테스트에서는 전송이 느린 연결로 대체)
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeoutMillis);
+    }
+
+    /**
+     * 이벤트를 한 번만 직렬화한 뒤 같은 프레임을 모든 구독자 큐에 전달
+     */
+    private void publish(CommentFeedEvent event) {
+        Set<Subscriber> subscribers = subscribersByBoard.get(event.getBoardIdx());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(String.valueOf(event.getCommentIdx()))
+                    .name(event.getType())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("댓글 피드 이벤트 직렬화 실패 - 게시글: {}, 오류: {}", event.getBoardIdx(), e.getMessage(), e);
+            return;
+        }
+
+        subscribers.forEach(subscriber -> enqueue(subscriber, frame));
+    }
+
+    /**
+     * 구독자 큐에 프레임 적재
+     * 큐가 가득 찬 구독자는 느린 소비자로 판단하여 연결을 끊습니다.
+     */
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.closed) {
+            return;
+        }
+
+        if (!subscriber.queue.offer(frame)) {
+            log.debug("느린 댓글 피드 구독자 연결 종료 - 게시글: {}", subscriber.boardIdx);
+            subscriber.emitter.complete();
+            unsubscribe(subscriber);
+            return;
+        }
+
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * 구독자당 최대 한 개의 전송 작업만 디스패처에 등록
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            dispatcher.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.closed && (frame = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 종료된 연결
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // 전송 중에 새로 들어온 프레임이 있으면 다시 예약
+        if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        subscriber.queue.clear();
+
+        // 구독 등록(compute)과 원자적으로 처리하여 빈 집합 제거 시 경쟁 상태 방지
+        subscribersByBoard.computeIfPresent(subscriber.boardIdx, (key, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void rejectSubscription(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(rejectRetryMillis).comment("subscriber limit exceeded"));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 구독자 상태 (연결, 전송 대기 큐, 전송 작업 예약 여부)
+     */
+    private static final class Subscriber {
+
+        private final Long boardIdx;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long boardIdx, SseEmitter emitter, int queueCapacity) {
+            this.boardIdx = boardIdx;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -1,14 +1,31 @@
 package com.example.board.service.impl;
 
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.cache.UserDisplayNameCache;
 import com.example.board.domain.CommentV0;
 import com.example.board.repository.CommentRepository;
+import com.example.board.service.BoardExistenceService;
+import com.example.board.service.CommentFeedService;
 import com.example.board.service.CommentService;
+import com.example.board.service.TrendingService;
+import com.example.board.service.UserActivityService;
 import com.example.board.dto.ApiResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.exception.CommentNotFoundException;
+import com.example.board.util.CursorCodec;
+import com.example.board.util.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SOLID 원칙 적용:
@@ -23,6 +40,12 @@ import java.util.List;
  * DIP (Dependency Inversion Principle):
  * 구체적인 Mapper가 아닌 추상화된 Repository 인터페이스에 의존합니다.
  * 이를 통해 데이터 접근 기술 변경시에도 Service 계층은 영향받지 않습니다.
+ * 
+ * 실무 원칙: 댓글이 아무리 많아도 한 번에 한 페이지만 조회
+ * - 최상위 댓글은 (regDate, idx) 키셋 커서로 페이지 조회 (OFFSET 없음)
+ * - 답글은 경로(path) 접두사 범위 조회 한 번으로 하위 스레드를 스레드 순서대로 조회
+ * - 페이지 크기 + 1건을 조회하여 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+ * - 작성자 이름은 users 조인 없이 페이지 전체를 사용자 이름 캐시로 한 번에 채움
  */
 @Slf4j
 @Service
@@ -30,21 +53,66 @@ import java.util.List;
 public class CommentServiceImpl implements CommentService {
     
     private final CommentRepository commentRepository;
+    private final BoardExistenceService boardExistenceService;
+    private final CommentFeedService commentFeedService;
+    private final TrendingService trendingService;
+    private final UserActivityService userActivityService;
+    private final UserDisplayNameCache userDisplayNameCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    
+    /** 기본 페이지 크기 */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    
+    /** 최대 페이지 크기 */
+    private static final int MAX_PAGE_SIZE = 200;
+    
+    /** 최대 답글 깊이 (경로 길이 제한: 13자 * 11단계 < 255) */
+    private static final int MAX_DEPTH = 10;
     
     /**
      * 댓글 등록
      * 실무 원칙: Service에서 모든 비즈니스 로직과 검증 처리
      * - 입력값 검증
-     * - 게시글 존재 확인
+     * - 게시글 존재 확인 (메모리 판정, 최근 게시글만 DB 확인)
+     * - 답글이면 상위 댓글 확인 후 경로와 깊이 설정
      * - 성공/실패 결과 반환
      */
     @Override
     public ApiResponse<Void> createComment(CommentV0 comment, String userId) {
+        if (!boardExistenceService.exists(comment.getBoardIdx())) {
+            return ApiResponse.failure("존재하지 않는 게시글입니다.");
+        }
+        
+        // 답글이면 같은 게시글의 삭제되지 않은 상위 댓글이 있어야 함
+        String parentPath = null;
+        comment.setDepth(0);
+        if (comment.getParentIdx() != null) {
+            CommentV0 parent = commentRepository.findById(comment.getParentIdx()).orElse(null);
+            if (parent == null || !parent.belongsToBoard(comment.getBoardIdx())) {
+                return ApiResponse.failure("답글을 달 댓글이 존재하지 않습니다.");
+            }
+            if (parent.getDepth() >= MAX_DEPTH) {
+                return ApiResponse.failure("더 이상 답글을 달 수 없습니다.");
+            }
+            parentPath = parent.getPath();
+            comment.setDepth(parent.getDepth() + 1);
+        }
+        
         try {
             // Spring Validation으로 입력값 검증 완료됨
             // Service는 비즈니스 로직만 처리
             comment.setWriterId(userId);
-            commentRepository.save(comment);
+            String path = parentPath;
+            transactionTemplate.executeWithoutResult(status -> {
+                commentRepository.save(comment, path);
+                userActivityService.onCommentCreated(userId);
+            });
+            
+            // 실시간 댓글 피드 구독자에게 전달, 인기 게시글 순위 반영
+            commentFeedService.publishCreated(comment);
+            trendingService.onCommentCreated(comment.getBoardIdx());
+            cacheInvalidationBus.publish(CacheNames.BOARD_COMMENTS, comment.getBoardIdx());
             
             return ApiResponse.success("댓글이 성공적으로 등록되었습니다.");
             
@@ -55,13 +123,133 @@ public class CommentServiceImpl implements CommentService {
     }
     
     /**
-     * 특정 게시글의 댓글 목록 조회
-     * 비즈니스 로직: 특정 게시글에 속한 삭제되지 않은 댓글만 조회
+     * 특정 게시글의 최상위 댓글 페이지 조회
+     * 비즈니스 로직: 삭제되지 않은 최상위 댓글을 등록순으로 조회, 댓글마다 답글 수 포함
      * DIP 적용: Repository 추상화를 통해 데이터 조회
      */
     @Override
-    public List<CommentV0> getCommentsByBoardIdx(Long boardIdx) {
-        return commentRepository.findByBoardIdx(boardIdx);
+    public CursorPage<CommentV0> getCommentPage(Long boardIdx, String cursor, int size) {
+        return getCommentPage(boardIdx, cursor, size, FieldSelection.all(CommentV0.SELECTABLE_FIELDS));
+    }
+    
+    /**
+     * 특정 게시글의 최상위 댓글 페이지 조회 (부분 필드 선택)
+     * 비즈니스 로직: 선택된 필드의 컬럼만 조회, 답글 수를 선택한 경우에만 답글 수 집계
+     */
+    @Override
+    public CursorPage<CommentV0> getCommentPage(Long boardIdx, String cursor, int size, FieldSelection fields) {
+        int pageSize = normalizePageSize(size);
+        
+        LocalDateTime afterRegDate = null;
+        Long afterIdx = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            try {
+                afterRegDate = LocalDateTime.parse(keys[0]);
+                afterIdx = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+        
+        CursorPage<CommentV0> page = toKeysetPage(
+                commentRepository.findTopLevelPage(boardIdx, afterRegDate, afterIdx, pageSize + 1, fields.getFields()),
+                pageSize);
+        if (fields.includes("writerName")) {
+            fillWriterNames(page.getItems());
+        }
+        if (!fields.includes("replyCount")) {
+            return page;
+        }
+        
+        // 페이지에 포함된 댓글의 답글 수를 한 번에 조회
+        Map<Long, Integer> replyCounts = commentRepository.countReplies(
+                page.getItems().stream().map(CommentV0::getIdx).toList());
+        page.getItems().forEach(comment -> comment.setReplyCount(replyCounts.getOrDefault(comment.getIdx(), 0)));
+        
+        return page;
+    }
+    
+    /**
+     * 여러 게시글의 최상위 댓글 첫 페이지 조회
+     * 비즈니스 로직: 게시글마다 size 건씩 한 번의 쿼리로 조회한 뒤 메모리에서 게시글별로 묶음
+     * (답글 수는 포함하지 않음)
+     */
+    @Override
+    public Map<Long, CursorPage<CommentV0>> getFirstCommentPages(Collection<Long> boardIds, int size) {
+        int pageSize = normalizePageSize(size);
+        
+        List<CommentV0> comments = commentRepository.findTopLevelByBoardIds(boardIds, pageSize + 1);
+        fillWriterNames(comments);
+        
+        Map<Long, List<CommentV0>> commentsByBoard = new HashMap<>();
+        for (CommentV0 comment : comments) {
+            commentsByBoard.computeIfAbsent(comment.getBoardIdx(), key -> new ArrayList<>()).add(comment);
+        }
+        
+        Map<Long, CursorPage<CommentV0>> pages = new HashMap<>();
+        for (Long boardIdx : boardIds) {
+            pages.put(boardIdx, toKeysetPage(commentsByBoard.getOrDefault(boardIdx, List.of()), pageSize));
+        }
+        return pages;
+    }
+    
+    /**
+     * 내 댓글 페이지 조회
+     * 비즈니스 로직: 로그인한 사용자가 작성한 삭제되지 않은 댓글을 최신순으로 조회
+     * (작성자 인덱스 범위만 읽으므로 전체 댓글 수와 관계없이 본인 댓글 수에 비례)
+     */
+    @Override
+    public CursorPage<CommentV0> getMyComments(String userId, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        
+        LocalDateTime beforeRegDate = null;
+        Long beforeIdx = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            try {
+                beforeRegDate = LocalDateTime.parse(keys[0]);
+                beforeIdx = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+        
+        CursorPage<CommentV0> page = toKeysetPage(
+                commentRepository.findPageByWriter(userId, beforeRegDate, beforeIdx, pageSize + 1),
+                pageSize);
+        fillWriterNames(page.getItems());
+        return page;
+    }
+    
+    /**
+     * 특정 댓글의 답글(하위 스레드) 페이지 조회
+     * 비즈니스 로직: 삭제되지 않은 답글을 스레드 순서(상위 댓글 바로 아래에 답글)로 조회
+     */
+    @Override
+    public CursorPage<CommentV0> getReplyPage(Long commentIdx, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        
+        CommentV0 root = commentRepository.findById(commentIdx)
+                .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다."));
+        
+        String afterPath = null;
+        if (cursor != null && !cursor.isBlank()) {
+            afterPath = CursorCodec.decode(cursor, 1)[0];
+            if (!afterPath.startsWith(root.getPath() + "/")) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        
+        List<CommentV0> replies = commentRepository.findReplyPage(root, afterPath, pageSize + 1);
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) {
+            replies = replies.subList(0, pageSize);
+        }
+        fillWriterNames(replies);
+        
+        CommentV0 last = hasNext ? replies.get(replies.size() - 1) : null;
+        return CursorPage.of(replies, last != null ? CursorCodec.encode(last.getPath()) : null);
     }
     
     /**
@@ -71,7 +259,9 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public List<CommentV0> getAllComments() {
-        return commentRepository.findAll();
+        List<CommentV0> comments = commentRepository.findAll();
+        fillWriterNames(comments);
+        return comments;
     }
     
     /**
@@ -97,8 +287,16 @@ public class CommentServiceImpl implements CommentService {
         }
         
         try {
-            // 3. 논리 삭제 처리
-            commentRepository.deleteById(commentIdx);
+            // 3. 논리 삭제 처리 (작성자 활동 집계와 함께 커밋)
+            transactionTemplate.executeWithoutResult(status -> {
+                commentRepository.deleteById(commentIdx);
+                userActivityService.onCommentDeleted(userId);
+            });
+            
+            // 실시간 댓글 피드 구독자에게 전달
+            commentFeedService.publishDeleted(comment);
+            cacheInvalidationBus.publish(CacheNames.COMMENT, commentIdx);
+            cacheInvalidationBus.publish(CacheNames.BOARD_COMMENTS, comment.getBoardIdx());
             
             return ApiResponse.success("댓글이 성공적으로 삭제되었습니다.");
             
@@ -135,6 +333,8 @@ public class CommentServiceImpl implements CommentService {
             // Service는 비즈니스 로직만 처리
             comment.setIdx(commentIdx);
             commentRepository.update(comment);
+            cacheInvalidationBus.publish(CacheNames.COMMENT, commentIdx);
+            cacheInvalidationBus.publish(CacheNames.BOARD_COMMENTS, existingComment.getBoardIdx());
             
             return ApiResponse.success("댓글이 성공적으로 수정되었습니다.");
             
@@ -144,4 +344,30 @@ public class CommentServiceImpl implements CommentService {
         }
     }
     
+    /**
+     * 페이지 크기 + 1건으로 조회한 댓글을 페이지로 변환 (다음 페이지 커서: 마지막 댓글의 regDate, idx)
+     */
+    private CursorPage<CommentV0> toKeysetPage(List<CommentV0> comments, int pageSize) {
+        if (comments.size() <= pageSize) {
+            return CursorPage.of(comments, null);
+        }
+        
+        List<CommentV0> items = comments.subList(0, pageSize);
+        CommentV0 last = items.get(items.size() - 1);
+        return CursorPage.of(items, CursorCodec.encode(last.getRegDate(), last.getIdx()));
+    }
+    
+    /**
+     * 작성자 이름 채우기 (캐시에 없는 작성자만 IN 조회 한 번)
+     */
+    private void fillWriterNames(List<CommentV0> comments) {
+        userDisplayNameCache.fillDisplayNames(comments, CommentV0::getWriterId, CommentV0::setWriterName);
+    }
+    
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,339 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.domain.JobCheckpoint;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.BoardTransferRecord;
+import com.example.board.dto.CommentTransferRecord;
+import com.example.board.dto.ImportResult;
+import com.example.board.repository.DataTransferRepository;
+import com.example.board.repository.JobCheckpointRepository;
+import com.example.board.service.DataTransferService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 게시글/댓글의 NDJSON 내보내기와 가져오기만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 Repository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 데이터 크기와 관계없이 메모리 사용량을 일정하게 유지
+ * - 내보내기: 읽기 전용 트랜잭션 안에서 커서로 한 행씩 읽어 바로 응답 스트림에 기록 (목록을 만들지 않음)
+ * - 가져오기: 입력을 한 줄씩 해석하여 batch-size 건이 모이면 다중 VALUES INSERT 한 번으로 반영
+ * - 배치와 함께 체크포인트(t_job_checkpoint: 행 순번 + 내용 지문)를 커밋하므로, 중단 후 같은 파일을 다시 올리면 이어서 처리
+ *   (다른 파일이면 지문이 달라 이어서 처리하지 않음)
+ * - idx 기준 upsert라 같은 파일을 여러 번 가져와도 결과가 같음
+ * - 가져온 행은 캐시 무효화 버스로 알려 다른 인스턴스 캐시에도 반영
+ */
+@Slf4j
+@Service
+public class DataTransferServiceImpl implements DataTransferService {
+
+    private static final String BOARD_JOB = "import.board";
+    private static final String COMMENT_JOB = "import.comment";
+
+    private final DataTransferRepository dataTransferRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int batchSize;
+
+    /** 실행 중인 가져오기 작업 (같은 테이블 동시 실행 방지) */
+    private final ConcurrentHashMap.KeySetView<String, Boolean> runningImports = ConcurrentHashMap.newKeySet();
+
+    public DataTransferServiceImpl(
+            DataTransferRepository dataTransferRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${data-transfer.import-batch-size:500}") int batchSize) {
+
+        this.dataTransferRepository = dataTransferRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void exportBoards(long afterIdx, boolean gzip, OutputStream out) throws IOException {
+        export("t_board", BoardTransferRecord.class, gzip, out,
+                consumer -> dataTransferRepository.streamBoards(afterIdx, consumer));
+    }
+
+    @Override
+    public void exportComments(long afterIdx, boolean gzip, OutputStream out) throws IOException {
+        export("t_comment", CommentTransferRecord.class, gzip, out,
+                consumer -> dataTransferRepository.streamComments(afterIdx, consumer));
+    }
+
+    @Override
+    public ApiResponse<ImportResult> importBoards(InputStream in, boolean resume) {
+        return runImport(BOARD_JOB, "t_board", BoardTransferRecord.class, in, resume,
+                BoardTransferRecord::getIdx,
+                dataTransferRepository::upsertBoards,
+                (batch, bus) -> batch.forEach(board -> bus.publish(CacheNames.BOARD, board.getIdx())));
+    }
+
+    @Override
+    public ApiResponse<ImportResult> importComments(InputStream in, boolean resume) {
+        return runImport(COMMENT_JOB, "t_comment", CommentTransferRecord.class, in, resume,
+                CommentTransferRecord::getIdx,
+                dataTransferRepository::upsertComments,
+                (batch, bus) -> batch.forEach(comment -> {
+                    bus.publish(CacheNames.COMMENT, comment.getIdx());
+                    bus.publish(CacheNames.BOARD_COMMENTS, comment.getBoardIdx());
+                }));
+    }
+
+    /**
+     * 커서로 읽은 행을 한 줄씩 기록
+     * 행마다 flush하지 않고 JsonGenerator 버퍼가 찰 때만 내보냅니다.
+     */
+    private <T> void export(String table, Class<T> type, boolean gzip, OutputStream out,
+                            ToLongFunction<Consumer<T>> stream) throws IOException {
+
+        long startedAt = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            Long rows = readOnlyTransactionTemplate.execute(status -> stream.applyAsLong(row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            log.info("데이터 내보내기 완료 - 테이블: {}, 행: {}건, 소요: {}ms",
+                    table, rows, System.currentTimeMillis() - startedAt);
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등 (커서와 트랜잭션은 이미 정리됨)
+            log.warn("데이터 내보내기 중단 - 테이블: {}, 오류: {}", table, e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 한 줄씩 해석하여 배치 단위로 반영
+     * 배치 반영과 체크포인트(행 순번 + 내용 지문) 저장을 한 트랜잭션으로 커밋합니다.
+     * 이어서 처리할 때는 체크포인트 행까지의 지문을 다시 계산해 같은 파일인지 확인합니다.
+     */
+    private <T> ApiResponse<ImportResult> runImport(String jobName,
+                                                    String table,
+                                                    Class<T> type,
+                                                    InputStream in,
+                                                    boolean resume,
+                                                    ToLongFunction<T> idxOf,
+                                                    Consumer<List<T>> upsert,
+                                                    BiConsumer<List<T>, CacheInvalidationBus> invalidate) {
+
+        if (!runningImports.add(jobName)) {
+            return ApiResponse.failure(table + " 가져오기가 이미 실행 중입니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        JobCheckpoint checkpoint = resume
+                ? jobCheckpointRepository.find(jobName).orElseGet(() -> emptyCheckpoint(jobName))
+                : emptyCheckpoint(jobName);
+        long imported = 0;
+        long skipped = 0;
+        long row = 0;
+        long lastIdx = checkpoint.getLastIdx();
+
+        ObjectReader reader = objectMapper.readerFor(type);
+        RowFingerprint fingerprint = new RowFingerprint(objectMapper.writerFor(type));
+        List<T> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<T> rows = reader.readValues(decompressIfGzip(in))) {
+            while (rows.hasNextValue()) {
+                T value = rows.nextValue();
+                fingerprint.add(value);
+                row++;
+                if (row <= checkpoint.getLastRow()) {
+                    if (row == checkpoint.getLastRow()) {
+                        verifyResumable(checkpoint, fingerprint);
+                    }
+                    skipped++;
+                    continue;
+                }
+
+                batch.add(value);
+                if (batch.size() >= batchSize) {
+                    lastIdx = commitBatch(jobName, batch, row, fingerprint, idxOf, upsert, invalidate);
+                    imported += batch.size();
+                    batch.clear();
+                }
+            }
+            if (row < checkpoint.getLastRow()) {
+                throw new IllegalArgumentException(resumeMismatchMessage(checkpoint));
+            }
+
+            if (!batch.isEmpty()) {
+                lastIdx = commitBatch(jobName, batch, row, fingerprint, idxOf, upsert, invalidate);
+                imported += batch.size();
+            }
+
+            // 끝까지 반영했으면 체크포인트를 되돌려 다음 가져오기는 처음부터 처리
+            jobCheckpointRepository.save(emptyCheckpoint(jobName));
+
+            ImportResult result = buildResult(table, imported, skipped, lastIdx, startedAt);
+            log.info("데이터 가져오기 완료 - 테이블: {}, 반영: {}건, 건너뜀: {}건, 소요: {}ms",
+                    table, imported, skipped, result.getElapsedMillis());
+            return ApiResponse.success("데이터 가져오기가 완료되었습니다.", result);
+        } catch (IllegalArgumentException e) {
+            // 체크포인트와 다른 파일 (아무것도 반영하지 않았으므로 처음부터 다시 올리면 됨)
+            log.warn("데이터 가져오기 거절 - 테이블: {}, 오류: {}", table, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("데이터 가져오기 실패 - 테이블: {}, 마지막 커밋 idx: {}, 오류: {}", table, lastIdx, e.getMessage(), e);
+            return ApiResponse.<ImportResult>builder()
+                    .success(false)
+                    .message("데이터 가져오기 중 오류가 발생했습니다. 같은 파일을 다시 올리면 마지막 커밋 위치부터 이어서 처리합니다: "
+                            + e.getMessage())
+                    .data(buildResult(table, imported, skipped, lastIdx, startedAt))
+                    .build();
+        } finally {
+            runningImports.remove(jobName);
+        }
+    }
+
+    private <T> long commitBatch(String jobName,
+                                 List<T> batch,
+                                 long row,
+                                 RowFingerprint fingerprint,
+                                 ToLongFunction<T> idxOf,
+                                 Consumer<List<T>> upsert,
+                                 BiConsumer<List<T>, CacheInvalidationBus> invalidate) {
+
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.setJobName(jobName);
+        checkpoint.setLastIdx(idxOf.applyAsLong(batch.get(batch.size() - 1)));
+        checkpoint.setLastRow(row);
+        checkpoint.setFingerprint(fingerprint.current());
+        transactionTemplate.executeWithoutResult(status -> {
+            upsert.accept(batch);
+            jobCheckpointRepository.save(checkpoint);
+        });
+        invalidate.accept(batch, cacheInvalidationBus);
+
+        log.debug("데이터 가져오기 배치 - 작업: {}, 처리: {}건, 위치: {}행 (idx {})",
+                jobName, batch.size(), row, checkpoint.getLastIdx());
+        return checkpoint.getLastIdx();
+    }
+
+    private void verifyResumable(JobCheckpoint checkpoint, RowFingerprint fingerprint) {
+        if (!fingerprint.current().equals(checkpoint.getFingerprint())) {
+            throw new IllegalArgumentException(resumeMismatchMessage(checkpoint));
+        }
+    }
+
+    private String resumeMismatchMessage(JobCheckpoint checkpoint) {
+        return "이전에 중단된 가져오기와 다른 파일입니다. 처음 " + checkpoint.getLastRow()
+                + "행의 내용이 다릅니다. 새 파일이면 resume=false로 다시 요청해주세요.";
+    }
+
+    private JobCheckpoint emptyCheckpoint(String jobName) {
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.setJobName(jobName);
+        return checkpoint;
+    }
+
+    private ImportResult buildResult(String table, long imported, long skipped, long lastIdx, long startedAt) {
+        return ImportResult.builder()
+                .table(table)
+                .imported(imported)
+                .skipped(skipped)
+                .lastIdx(lastIdx)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    /**
+     * gzip 압축된 입력이면 압축 해제 (앞 2바이트의 gzip 매직 넘버로 판단)
+     */
+    private InputStream decompressIfGzip(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, 64 * 1024);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+
+        boolean gzip = first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzip ? new GZIPInputStream(buffered, 64 * 1024) : buffered;
+    }
+
+    /**
+     * 지금까지 읽은 행들의 내용 지문 (SHA-256)
+     * 파싱한 행을 다시 직렬화해 누적하므로 공백이나 필드 순서가 아닌 값이 같은지를 봅니다.
+     * 중간 값은 다이제스트를 복제해 계산하므로 누적은 끊기지 않습니다.
+     */
+    private static final class RowFingerprint {
+
+        private final ObjectWriter writer;
+        private final MessageDigest digest;
+        private final OutputStream sink;
+
+        private RowFingerprint(ObjectWriter writer) {
+            this.writer = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            this.sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+        }
+
+        void add(Object row) throws IOException {
+            writer.writeValue(sink, row);
+            digest.update((byte) '\n');
+        }
+
+        String current() {
+            try {
+                return HexFormat.of().formatHex(((MessageDigest) digest.clone()).digest());
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.IdempotencyRecord;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.IdempotentResponse;
+import com.example.board.exception.IdempotencyConflictException;
+import com.example.board.repository.IdempotencyRepository;
+import com.example.board.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 등록 요청의 중복 실행 방지(멱등성 키 저장/조회/만료)만을 담당합니다.
+ * 실제 등록은 호출자가 넘긴 action에 위임합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 IdempotencyRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 재시도된 등록 요청이 DB를 다시 거치지 않도록 함
+ * - (scope, 사용자, 키) 단위로 처음 성공한 응답을 메모리에 보관, 재시도에는 Mapper 호출 없이 그대로 반환
+ * - 저장소는 max-entries 상한의 LRU + ttl-seconds 만료로 메모리 사용량을 제한
+ *   (처리 중인 키는 별도로 보관하여 LRU 제거 대상이 되지 않음, 제거되면 재시도가 다시 실행되므로)
+ * - 같은 키의 요청이 동시에 들어오면 먼저 온 요청만 실행하고 나머지는 그 결과를 기다림 (wait-timeout-ms)
+ * - 실패한 요청은 저장하지 않으므로 같은 키로 다시 시도할 수 있음
+ * - 같은 키로 다른 요청 본문을 보내면 400으로 거절 (키 재사용 실수 방지)
+ * - idempotency.persistence.enabled=true이면 DB에도 저장하여 재시작/다른 인스턴스로의 재시도까지 보호,
+ *   DB 오류는 등록 처리 자체를 막지 않음
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final TypeReference<ApiResponse<Void>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+    private static final int CLEANUP_CHUNK_SIZE = 1000;
+    private static final long CLEANUP_PAUSE_MILLIS = 100;
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+    private final boolean persistenceEnabled;
+
+    /** 처리가 끝난 키 (LRU 상한, entries 객체로 두 저장소 모두 동기화) */
+    private final Map<String, Entry> entries;
+
+    /** 처리 중인 키 (제거하지 않음, 동시에 처리 중인 요청 수만큼만 존재) */
+    private final Map<String, Entry> inFlight = new HashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+
+    public IdempotencyServiceImpl(
+            IdempotencyRepository idempotencyRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${idempotency.max-entries:50000}") int maxEntries,
+            @Value("${idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis,
+            @Value("${idempotency.persistence.enabled:false}") boolean persistenceEnabled) {
+
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.persistenceEnabled = persistenceEnabled;
+
+        // 접근 순서 LinkedHashMap: 상한을 넘으면 가장 오래 사용되지 않은 키부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.executedCounter = meterRegistry.counter("board.idempotency.requests", "result", "executed");
+        this.replayedCounter = meterRegistry.counter("board.idempotency.requests", "result", "replayed");
+        meterRegistry.gauge("board.idempotency.entries", this, IdempotencyServiceImpl::size);
+    }
+
+    @Override
+    public IdempotentResponse execute(String scope, String userId, String idempotencyKey,
+                                      Object request, Supplier<ApiResponse<Void>> action) {
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String storeKey = scope + ":" + userId + ":" + idempotencyKey;
+        String requestHash = hash(request);
+        long now = System.currentTimeMillis();
+
+        Entry entry = new Entry(requestHash, new CompletableFuture<>());
+        Entry existing;
+        synchronized (entries) {
+            existing = inFlight.get(storeKey);
+            if (existing == null) {
+                existing = entries.get(storeKey);
+                if (existing != null && existing.isExpired(now)) {
+                    entries.remove(storeKey);
+                    existing = null;
+                }
+            }
+            if (existing == null) {
+                inFlight.put(storeKey, entry);
+            }
+        }
+
+        if (existing != null) {
+            return replay(existing, requestHash);
+        }
+
+        // 메모리에 없으면 다른 인스턴스/재시작 전에 처리된 요청인지 확인
+        Optional<IdempotencyRecord> persisted = findPersisted(scope, userId, idempotencyKey, now);
+        if (persisted.isPresent()) {
+            IdempotencyRecord record = persisted.get();
+            ApiResponse<Void> response = readResponse(record.getResponseBody());
+            if (response != null) {
+                entry.complete(record.getRequestHash(), response, record.getExpiresAt());
+                promote(storeKey, entry);
+                return replay(entry, requestHash);
+            }
+        }
+
+        ApiResponse<Void> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            abandon(storeKey, entry);
+            throw e;
+        }
+
+        if (response == null || !response.isSuccess()) {
+            // 실패한 요청은 저장하지 않음 (같은 키로 다시 시도 가능)
+            abandon(storeKey, entry);
+            return new IdempotentResponse(response, false);
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        entry.complete(requestHash, response, expiresAt);
+        promote(storeKey, entry);
+        executedCounter.increment();
+        persist(scope, userId, idempotencyKey, requestHash, response, expiresAt);
+
+        return new IdempotentResponse(response, false);
+    }
+
+    /**
+     * 만료된 멱등성 키 정리
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        long now = System.currentTimeMillis();
+
+        int removed;
+        synchronized (entries) {
+            int before = entries.size();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            removed = before - entries.size();
+        }
+
+        long deleted = persistenceEnabled ? deleteExpiredRows(now) : 0;
+
+        if (removed > 0 || deleted > 0) {
+            log.debug("만료된 멱등성 키 정리 - 메모리: {}건, DB: {}건", removed, deleted);
+        }
+    }
+
+    /**
+     * DB의 만료 키를 청크 단위로 모두 삭제
+     * 한 번에 지우면 잠금이 길어지므로 청크 사이에 잠시 쉬고, 청크보다 적게 지워지면 끝냅니다.
+     */
+    private long deleteExpiredRows(long now) {
+        long deleted = 0;
+        try {
+            int chunk;
+            do {
+                chunk = idempotencyRepository.deleteExpired(now, CLEANUP_CHUNK_SIZE);
+                deleted += chunk;
+                if (chunk == CLEANUP_CHUNK_SIZE) {
+                    Thread.sleep(CLEANUP_PAUSE_MILLIS);
+                }
+            } while (chunk == CLEANUP_CHUNK_SIZE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("만료된 멱등성 키 삭제 실패 - 삭제: {}건, 오류: {}", deleted, e.getMessage());
+        }
+        return deleted;
+    }
+
+    /**
+     * 먼저 들어온 같은 키 요청의 결과를 돌려줌 (처리 중이면 wait-timeout-ms 동안 대기)
+     */
+    private IdempotentResponse replay(Entry entry, String requestHash) {
+        ApiResponse<Void> response;
+        try {
+            response = entry.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (ExecutionException e) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 이전 요청이 실패했습니다. 다시 시도해주세요.", e.getCause());
+        }
+
+        if (!entry.requestHash.equals(requestHash)) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key입니다.");
+        }
+
+        replayedCounter.increment();
+        return new IdempotentResponse(response, true);
+    }
+
+    /**
+     * 처리가 끝난 항목을 LRU 저장소로 옮김
+     */
+    private void promote(String storeKey, Entry entry) {
+        synchronized (entries) {
+            if (inFlight.remove(storeKey, entry)) {
+                entries.put(storeKey, entry);
+            }
+        }
+    }
+
+    /**
+     * 실패한 요청의 항목 제거 후 기다리던 요청에 실패를 알림
+     */
+    private void abandon(String storeKey, Entry entry) {
+        synchronized (entries) {
+            inFlight.remove(storeKey, entry);
+        }
+        entry.result.completeExceptionally(new IllegalStateException("idempotent request failed"));
+    }
+
+    private Optional<IdempotencyRecord> findPersisted(String scope, String userId, String idempotencyKey, long now) {
+        if (!persistenceEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return idempotencyRepository.findActive(scope, userId, idempotencyKey, now);
+        } catch (Exception e) {
+            log.warn("멱등성 키 조회 실패 - scope: {}, 오류: {}", scope, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void persist(String scope, String userId, String idempotencyKey,
+                         String requestHash, ApiResponse<Void> response, long expiresAt) {
+        if (!persistenceEnabled) {
+            return;
+        }
+        try {
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setScope(scope);
+            record.setUserId(userId);
+            record.setIdemKey(idempotencyKey);
+            record.setRequestHash(requestHash);
+            record.setResponseBody(objectMapper.writeValueAsString(response));
+            record.setExpiresAt(expiresAt);
+            idempotencyRepository.saveIfAbsent(record);
+        } catch (Exception e) {
+            log.warn("멱등성 키 저장 실패 - scope: {}, 오류: {}", scope, e.getMessage());
+        }
+    }
+
+    private ApiResponse<Void> readResponse(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, RESPONSE_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 멱등성 응답 해석 실패 - 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 요청 본문의 SHA-256 해시 (JSON 직렬화 기준)
+     */
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(digest.digest(json));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private double size() {
+        synchronized (entries) {
+            return entries.size() + inFlight.size();
+        }
+    }
+
+    /**
+     * 멱등성 키 항목
+     * 처리 중에는 result가 완료되지 않은 상태이며, 같은 키의 다른 요청은 result를 기다립니다.
+     */
+    private static final class Entry {
+
+        private volatile String requestHash;
+        private volatile long expiresAt = Long.MAX_VALUE;
+        private final CompletableFuture<ApiResponse<Void>> result;
+
+        private Entry(String requestHash, CompletableFuture<ApiResponse<Void>> result) {
+            this.requestHash = requestHash;
+            this.result = result;
+        }
+
+        private void complete(String requestHash, ApiResponse<Void> response, long expiresAt) {
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+            result.complete(response);
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
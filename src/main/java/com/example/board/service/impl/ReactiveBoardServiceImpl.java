@@ -0,0 +1,107 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.UserDisplayNameCache;
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardDetailResponse;
+import com.example.board.exception.BoardNotFoundException;
+import com.example.board.repository.ReactiveBoardRepository;
+import com.example.board.repository.ReactiveCommentRepository;
+import com.example.board.service.BoardExistenceService;
+import com.example.board.service.ReactiveBoardService;
+import com.example.board.service.ReactiveCommentService;
+import com.example.board.service.ViewCountService;
+import com.example.board.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 게시글 목록/상세의 논블로킹 조회만을 담당합니다. 등록/수정/삭제는 BoardService에서 처리합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 R2DBC 구현이 아닌 ReactiveBoardRepository, ReactiveCommentRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: BoardServiceImpl의 조회와 같은 결과
+ * - 존재 여부 비트맵, 조회수 집계, 사용자 이름 캐시는 MyBatis 조회 경로와 공유 (모두 메모리 작업)
+ * - 상세 조회의 게시글 조회 후 댓글 첫 페이지와 댓글 수는 동시에 조회
+ * - 작성자 이름이 캐시에 없을 때만 별도 스레드(boundedElastic)에서 JDBC로 적재
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveBoardServiceImpl implements ReactiveBoardService {
+
+    private final ReactiveBoardRepository boardRepository;
+    private final ReactiveCommentRepository commentRepository;
+    private final ReactiveCommentService commentService;
+    private final BoardExistenceService boardExistenceService;
+    private final ViewCountService viewCountService;
+    private final UserDisplayNameCache userDisplayNameCache;
+
+    /**
+     * 게시글 목록 조회 (부분 필드 선택)
+     * 비즈니스 로직: 선택된 필드의 컬럼만 조회, 조회수를 선택한 경우에만 미반영 집계분 합산
+     * 작성자명을 선택한 경우에만 사용자 이름 캐시로 채움
+     */
+    @Override
+    public Mono<List<BoardV0>> getBoardList(FieldSelection fields) {
+        return boardRepository.findAll(fields.getFields())
+                .collectList()
+                .flatMap(boards -> {
+                    if (fields.includes("views")) {
+                        viewCountService.applyPendingViews(boards);
+                    }
+                    if (fields.includes("writerNm")) {
+                        return fillWriterNames(boards).thenReturn(boards);
+                    }
+                    return Mono.just(boards);
+                });
+    }
+
+    /**
+     * 게시글 상세 조회 (댓글 포함)
+     * 비즈니스 로직: 게시글 존재 여부 확인 후 댓글 첫 페이지와 함께 조회, 조회수 1 증가
+     */
+    @Override
+    public Mono<BoardDetailResponse> getBoardWithComments(Long idx) {
+        // 확실히 없는 게시글은 DB 조회 없이 거절
+        if (!boardExistenceService.mightExist(idx)) {
+            return Mono.error(new BoardNotFoundException("게시글을 찾을 수 없습니다."));
+        }
+
+        return boardRepository.findById(idx)
+                .switchIfEmpty(Mono.error(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다.")))
+                .flatMap(board -> {
+                    // 조회수 증가 (메모리 집계 후 주기적으로 DB 반영)
+                    viewCountService.increment(idx);
+                    viewCountService.applyPendingViews(board);
+
+                    // 작성자 이름, 댓글 첫 페이지, 전체 댓글 수를 동시에 조회
+                    return Mono.zip(
+                                    fillWriterNames(List.of(board)).thenReturn(board),
+                                    commentService.getCommentPage(idx, null, 0, FieldSelection.all(CommentV0.SELECTABLE_FIELDS)),
+                                    commentRepository.countByBoardIdx(idx))
+                            .map(result -> BoardDetailResponse.of(result.getT1(), result.getT2(), result.getT3()));
+                });
+    }
+
+    /**
+     * 작성자 이름 채우기 (캐시에 없는 작성자가 있으면 JDBC 조회이므로 별도 스레드에서 처리)
+     */
+    private Mono<Void> fillWriterNames(List<BoardV0> boards) {
+        if (userDisplayNameCache.isCached(boards.stream().map(BoardV0::getWriterId).toList())) {
+            userDisplayNameCache.fillDisplayNames(boards, BoardV0::getWriterId, BoardV0::setWriterNm);
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() ->
+                        userDisplayNameCache.fillDisplayNames(boards, BoardV0::getWriterId, BoardV0::setWriterNm))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.UserDisplayNameCache;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.CursorPage;
+import com.example.board.repository.ReactiveCommentRepository;
+import com.example.board.service.ReactiveCommentService;
+import com.example.board.util.CursorCodec;
+import com.example.board.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 게시글별 댓글 페이지의 논블로킹 조회만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 R2DBC 구현이 아닌 ReactiveCommentRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: CommentServiceImpl.getCommentPage와 같은 결과 (커서 형식, 페이지 크기 제한 동일)
+ * - 작성자 이름이 모두 캐시에 있으면 그대로 채우고,
+ *   캐시에 없는 작성자가 있을 때만 별도 스레드(boundedElastic)에서 JDBC로 적재
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveCommentServiceImpl implements ReactiveCommentService {
+
+    private final ReactiveCommentRepository commentRepository;
+    private final UserDisplayNameCache userDisplayNameCache;
+
+    /** 게시글별 댓글 기본/최대 페이지 크기 (CommentServiceImpl과 동일) */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * 특정 게시글의 최상위 댓글 페이지 조회 (부분 필드 선택)
+     * 비즈니스 로직: 선택된 필드의 컬럼만 조회, 답글 수를 선택한 경우에만 답글 수 집계
+     */
+    @Override
+    public Mono<CursorPage<CommentV0>> getCommentPage(Long boardIdx, String cursor, int size, FieldSelection fields) {
+        return Mono.defer(() -> {
+            int pageSize = normalizePageSize(size);
+
+            LocalDateTime afterRegDate = null;
+            Long afterIdx = null;
+            if (cursor != null && !cursor.isBlank()) {
+                String[] keys = CursorCodec.decode(cursor, 2);
+                try {
+                    afterRegDate = LocalDateTime.parse(keys[0]);
+                    afterIdx = Long.parseLong(keys[1]);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.", e);
+                }
+            }
+
+            Mono<CursorPage<CommentV0>> page = commentRepository
+                    .findTopLevelPage(boardIdx, afterRegDate, afterIdx, pageSize + 1, fields.getFields())
+                    .collectList()
+                    .map(comments -> toKeysetPage(comments, pageSize));
+
+            if (fields.includes("writerName")) {
+                page = page.flatMap(result -> fillWriterNames(result.getItems()).thenReturn(result));
+            }
+            if (!fields.includes("replyCount")) {
+                return page;
+            }
+
+            // 페이지에 포함된 댓글의 답글 수를 한 번에 조회
+            return page.flatMap(result -> commentRepository
+                    .countReplies(result.getItems().stream().map(CommentV0::getIdx).toList())
+                    .map(replyCounts -> {
+                        result.getItems().forEach(comment ->
+                                comment.setReplyCount(replyCounts.getOrDefault(comment.getIdx(), 0)));
+                        return result;
+                    }));
+        });
+    }
+
+    /**
+     * 페이지 크기 + 1건으로 조회한 댓글을 페이지로 변환 (다음 페이지 커서: 마지막 댓글의 regDate, idx)
+     */
+    private CursorPage<CommentV0> toKeysetPage(List<CommentV0> comments, int pageSize) {
+        if (comments.size() <= pageSize) {
+            return CursorPage.of(comments, null);
+        }
+
+        List<CommentV0> items = comments.subList(0, pageSize);
+        CommentV0 last = items.get(items.size() - 1);
+        return CursorPage.of(items, CursorCodec.encode(last.getRegDate(), last.getIdx()));
+    }
+
+    /**
+     * 작성자 이름 채우기 (캐시에 없는 작성자가 있으면 JDBC 조회이므로 별도 스레드에서 처리)
+     */
+    private Mono<Void> fillWriterNames(List<CommentV0> comments) {
+        if (userDisplayNameCache.isCached(comments.stream().map(CommentV0::getWriterId).toList())) {
+            userDisplayNameCache.fillDisplayNames(comments, CommentV0::getWriterId, CommentV0::setWriterName);
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() ->
+                        userDisplayNameCache.fillDisplayNames(comments, CommentV0::getWriterId, CommentV0::setWriterName))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
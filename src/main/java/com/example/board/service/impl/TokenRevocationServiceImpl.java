@@ -0,0 +1,241 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.TokenRevocation;
+import com.example.board.repository.TokenRevocationRepository;
+import com.example.board.service.TokenRevocationService;
+import com.example.board.util.BloomFilter;
+import com.example.board.util.JwtTokenUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 토큰 폐기 목록의 메모리 유지, DB 동기화, 폐기 여부 판정만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 TokenRevocationRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 인증 요청마다 DB를 조회하지 않음
+ * - 폐기 목록은 DB(t_token_revocation)에 저장하고, 각 인스턴스는 메모리에 복제
+ * - 확인 순서: Bloom 필터(비트 몇 개) → 폐기 맵(ConcurrentHashMap)
+ *   폐기되지 않은 대부분의 토큰은 Bloom 필터에서 바로 통과
+ * - 다른 인스턴스의 폐기는 id 순 폴링으로 동기화 (커밋 순서 역전 대비 구간을 겹쳐 읽음)
+ * - 사용자 단위 폐기는 초 단위로 비교 (JWT iat가 초 단위라 같은 초에 발급된 토큰은 폐기 전후를 구분할 수 없으므로
+ *   안전한 쪽으로 함께 폐기, 폐기 직후 같은 초에 다시 발급받은 토큰은 다음 로그인에서 새로 받아야 함)
+ * - 폐기 항목은 토큰 자체의 만료 시각이 지나면 메모리와 DB에서 모두 정리,
+ *   Bloom 필터는 삭제가 안 되므로 정리 시 남은 항목으로 다시 만들어 교체
+ */
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final String USER_KEY_PREFIX = "user:";
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final long tokenValidityMillis;
+    private final int bloomExpectedEntries;
+    private final double bloomFalsePositiveRate;
+    private final int syncBatchSize;
+    private final long syncOverlapIds;
+
+    /** 폐기된 토큰 ID → 토큰 만료 시각 */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /** 비활성화된 사용자 ID → 폐기 시각 (이 시각 이전에 발급된 토큰은 모두 폐기) */
+    private final Map<String, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private long lastSyncedId;
+
+    private final Counter bloomPassCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter rejectedCounter;
+
+    public TokenRevocationServiceImpl(
+            TokenRevocationRepository tokenRevocationRepository,
+            JwtTokenUtil jwtTokenUtil,
+            MeterRegistry meterRegistry,
+            @Value("${auth.revocation.bloom-expected-entries:100000}") int bloomExpectedEntries,
+            @Value("${auth.revocation.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate,
+            @Value("${auth.revocation.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${auth.revocation.sync-overlap-ids:100}") long syncOverlapIds) {
+
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenValidityMillis = jwtTokenUtil.getTokenValidityInMilliseconds();
+        this.bloomExpectedEntries = bloomExpectedEntries;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlapIds = syncOverlapIds;
+        this.bloomFilter = new BloomFilter(bloomExpectedEntries, bloomFalsePositiveRate);
+
+        this.bloomPassCounter = meterRegistry.counter("auth.revocation.check", "result", "bloom-pass");
+        this.falsePositiveCounter = meterRegistry.counter("auth.revocation.check", "result", "false-positive");
+        this.rejectedCounter = meterRegistry.counter("auth.revocation.check", "result", "revoked");
+        meterRegistry.gaugeMapSize("auth.revocation.entries", List.of(), revokedTokens);
+    }
+
+    /**
+     * 폐기 여부 확인
+     * 대부분의 요청은 Bloom 필터에서 "확실히 없음"으로 끝나며 락도 DB 조회도 없습니다.
+     */
+    @Override
+    public boolean isRevoked(String jti, String userId, long issuedAtMillis) {
+        BloomFilter filter = bloomFilter;
+        boolean tokenCandidate = jti != null && filter.mightContain(jti);
+        boolean userCandidate = userId != null && filter.mightContain(USER_KEY_PREFIX + userId);
+
+        if (!tokenCandidate && !userCandidate) {
+            bloomPassCounter.increment();
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        Long tokenExpiresAt = tokenCandidate ? revokedTokens.get(jti) : null;
+        Long userRevokedAt = userCandidate ? revokedUsers.get(userId) : null;
+
+        boolean revoked = (tokenExpiresAt != null && tokenExpiresAt > now)
+                || (userRevokedAt != null && issuedAtMillis / 1000 <= userRevokedAt / 1000);
+
+        (revoked ? rejectedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    /**
+     * 토큰 한 개 폐기 (로그아웃)
+     * DB에 먼저 저장한 뒤 이 인스턴스에 즉시 반영합니다.
+     */
+    @Override
+    public void revokeToken(String jti, String userId, long expiresAtMillis) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setRevokeType(TokenRevocation.TYPE_TOKEN);
+        revocation.setJti(jti);
+        revocation.setUserId(userId);
+        revocation.setRevokedAt(System.currentTimeMillis());
+        revocation.setExpiresAt(expiresAtMillis);
+
+        tokenRevocationRepository.save(revocation);
+        apply(revocation);
+
+        log.info("토큰 폐기 - 사용자: {}, jti: {}", userId, jti);
+    }
+
+    /**
+     * 사용자의 기존 토큰 전체 폐기 (계정 비활성화)
+     * 폐기 시점 이전에 발급된 토큰은 최대 유효시간이 지나면 모두 만료되므로 그때까지만 보관합니다.
+     */
+    @Override
+    public void revokeUser(String userId) {
+        long now = System.currentTimeMillis();
+
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setRevokeType(TokenRevocation.TYPE_USER);
+        revocation.setUserId(userId);
+        revocation.setRevokedAt(now);
+        revocation.setExpiresAt(now + tokenValidityMillis);
+
+        tokenRevocationRepository.save(revocation);
+        apply(revocation);
+
+        log.info("사용자 토큰 전체 폐기 - 사용자: {}", userId);
+    }
+
+    /**
+     * 시작 시 만료되지 않은 폐기 목록 적재
+     * DB에 연결할 수 없으면 이후 동기화 주기에서 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            sync();
+            log.info("토큰 폐기 목록 적재 완료 - 토큰: {}건, 사용자: {}건", revokedTokens.size(), revokedUsers.size());
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 적재 실패 - 다음 동기화 주기에 재시도합니다. 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 등록한 폐기 항목 동기화
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:1000}")
+    public void syncPeriodically() {
+        try {
+            sync();
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 동기화 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 id 이후의 폐기 항목 적용
+     * 항목 적용은 여러 번 해도 결과가 같으므로 겹쳐 읽은 구간은 그대로 다시 적용합니다.
+     */
+    private synchronized void sync() {
+        int limit = (int) (syncBatchSize + syncOverlapIds);
+        List<TokenRevocation> rows;
+        do {
+            rows = tokenRevocationRepository.findActiveAfter(
+                    Math.max(0, lastSyncedId - syncOverlapIds), System.currentTimeMillis(), limit);
+
+            for (TokenRevocation row : rows) {
+                apply(row);
+                lastSyncedId = Math.max(lastSyncedId, row.getId());
+            }
+        } while (rows.size() == limit);
+    }
+
+    /**
+     * 만료된 폐기 항목 정리 및 Bloom 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+            revokedUsers.values().removeIf(revokedAt -> revokedAt + tokenValidityMillis <= now);
+
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(bloomExpectedEntries, (revokedTokens.size() + revokedUsers.size()) * 2),
+                    bloomFalsePositiveRate);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            revokedUsers.keySet().forEach(userId -> rebuilt.put(USER_KEY_PREFIX + userId));
+            bloomFilter = rebuilt;
+        }
+
+        try {
+            int deleted = tokenRevocationRepository.deleteExpired(now);
+            if (deleted > 0) {
+                log.debug("만료된 토큰 폐기 항목 삭제 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 토큰 폐기 항목 삭제 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기 항목을 메모리에 반영
+     * 맵에 먼저 넣은 뒤 Bloom 필터에 추가하므로, 필터를 통과한 조회는 항상 맵에서 항목을 찾습니다.
+     * (필터 재구성과 겹치지 않도록 동기화)
+     */
+    private synchronized void apply(TokenRevocation revocation) {
+        if (TokenRevocation.TYPE_USER.equals(revocation.getRevokeType())) {
+            revokedUsers.merge(revocation.getUserId(), revocation.getRevokedAt(), Math::max);
+            bloomFilter.put(USER_KEY_PREFIX + revocation.getUserId());
+        } else if (revocation.getJti() != null) {
+            revokedTokens.put(revocation.getJti(), revocation.getExpiresAt());
+            bloomFilter.put(revocation.getJti());
+        }
+    }
+}
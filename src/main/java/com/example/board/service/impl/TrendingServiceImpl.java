@@ -0,0 +1,442 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheNames;
+import com.example.board.dto.BoardActivity;
+import com.example.board.dto.TrendingBoard;
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.service.TrendingService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 인기 게시글 점수의 증분 유지와 상위 N개 조회만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 재구성 시 구체적인 Mapper가 아닌 Repository, CacheInvalidationBus 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 요청마다 t_comment를 집계하지 않고 메모리에서 증분 유지
+ * - 전방 감쇠(forward decay): 이벤트 가중치에 exp(λ(t - 기준시각))을 곱해 누적하므로
+ *   시간이 흘러도 저장된 점수를 다시 계산할 필요가 없고 순위도 변하지 않음
+ * - 게시글별 점수(HashMap)와 점수 순 정렬 집합(TreeSet)으로 이벤트당 O(log n) 갱신
+ * - 상위 목록 스냅샷을 캐시하여 조회는 대부분 락 없이 반환
+ * - 지수가 커지면 기준시각을 옮기고 전체 점수를 같은 비율로 줄여 오버플로 방지
+ * - 삭제된 게시글은 deleted-retention-ms 동안 기록해 두고, 삭제 전에 집계된 조회수나
+ *   삭제와 경합한 댓글 등록이 늦게 반영되어도 순위에 다시 넣지 않음
+ * - 다른 인스턴스의 삭제는 게시글 무효화(CacheNames.BOARD)로 받아,
+ *   recheck-interval-ms마다 IN 조회 한 번으로 확인 후 제외
+ */
+@Slf4j
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    /** 기준시각 재설정 임계 지수 (exp(50) ≈ 5e21, double 범위 내에서 충분히 여유 있음) */
+    private static final double MAX_EXPONENT = 50.0;
+
+    /** 표시 점수를 다시 환산하기 전까지 스냅샷을 재사용하는 시간 */
+    private static final long SNAPSHOT_MAX_AGE_MILLIS = 60_000L;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final double decayPerMillis;
+    private final long rebuildWindowHours;
+    private final int maxTrackedBoards;
+    private final int snapshotSize;
+    private final double boardWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final long deletedRetentionMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, ScoreEntry> entriesByBoard = new HashMap<>();
+    private final TreeSet<ScoreEntry> ranking = new TreeSet<>(ScoreEntry.ORDER);
+    private long landmarkMillis = System.currentTimeMillis();
+
+    /** 최근 삭제된 게시글 ID → 삭제 시각 (삭제 순서 유지, 오래된 것부터 정리) */
+    private final LinkedHashMap<Long, Long> recentlyDeleted = new LinkedHashMap<>();
+
+    /** 게시글 무효화가 발행되어 삭제 여부를 확인할 게시글 ID */
+    private final Set<Long> pendingRechecks = ConcurrentHashMap.newKeySet();
+
+    /** 상위 목록 스냅샷 (쓰기 발생 시 무효화, 조회 시 지연 생성) */
+    private volatile Snapshot topSnapshot;
+
+    public TrendingServiceImpl(
+            BoardRepository boardRepository,
+            CommentRepository commentRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${board.trending.half-life-hours:6}") double halfLifeHours,
+            @Value("${board.trending.rebuild-window-hours:48}") long rebuildWindowHours,
+            @Value("${board.trending.max-tracked-boards:10000}") int maxTrackedBoards,
+            @Value("${board.trending.snapshot-size:100}") int snapshotSize,
+            @Value("${board.trending.weight.board:2.0}") double boardWeight,
+            @Value("${board.trending.weight.comment:5.0}") double commentWeight,
+            @Value("${board.trending.weight.view:1.0}") double viewWeight,
+            @Value("${board.trending.deleted-retention-ms:60000}") long deletedRetentionMillis) {
+
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.decayPerMillis = Math.log(2) / (halfLifeHours * 3_600_000d);
+        this.rebuildWindowHours = rebuildWindowHours;
+        this.maxTrackedBoards = maxTrackedBoards;
+        this.snapshotSize = snapshotSize;
+        this.boardWeight = boardWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.deletedRetentionMillis = deletedRetentionMillis;
+    }
+
+    /**
+     * 게시글 무효화 구독 (다른 인스턴스의 삭제 반영)
+     * 무효화는 수정에도 발행되므로 바로 제외하지 않고 모아서 DB로 확인합니다.
+     */
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheNames.BOARD, cacheKey -> {
+            try {
+                pendingRechecks.add(Long.parseLong(cacheKey));
+            } catch (NumberFormatException e) {
+                log.warn("게시글 무효화 키 형식 오류 - 키: {}", cacheKey);
+            }
+        });
+    }
+
+    @Override
+    public void onBoardCreated(Long boardIdx) {
+        addScore(boardIdx, boardWeight, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onBoardDeleted(Long boardIdx) {
+        if (boardIdx == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            removeLocked(boardIdx, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onCommentCreated(Long boardIdx) {
+        addScore(boardIdx, commentWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 집계된 조회수 반영
+     * 조회 요청 경로가 아닌 조회수 일괄 반영 주기에서 호출되므로 요청 경로에는 락이 없습니다.
+     */
+    @Override
+    public void onBoardViews(Map<Long, Long> viewDeltas) {
+        if (viewDeltas.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            viewDeltas.forEach((boardIdx, views) -> addScoreLocked(boardIdx, views * viewWeight, now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 인기 게시글 상위 N개 조회
+     * 캐시된 스냅샷이 있으면 락 없이 반환합니다.
+     */
+    @Override
+    public List<TrendingBoard> getTopBoards(int size) {
+        Snapshot snapshot = topSnapshot;
+        if (snapshot == null || snapshot.isExpired()) {
+            snapshot = buildSnapshot();
+        }
+
+        List<TrendingBoard> boards = snapshot.boards;
+        return boards.subList(0, Math.max(0, Math.min(size, boards.size())));
+    }
+
+    /**
+     * 게시글 무효화가 발행된 ID를 모아 삭제 여부 확인
+     * 아직 추적하지 않는 게시글도 삭제 기록을 남겨, 이 인스턴스에서 늦게 반영되는 조회수로 순위에 오르지 않게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.trending.recheck-interval-ms:1000}")
+    public void recheckPending() {
+        if (pendingRechecks.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = new ArrayList<>();
+        Iterator<Long> iterator = pendingRechecks.iterator();
+        while (iterator.hasNext()) {
+            boardIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        Set<Long> live;
+        try {
+            live = new HashSet<>(boardRepository.findLiveIds(boardIds));
+        } catch (Exception e) {
+            // 다음 주기에 다시 확인
+            pendingRechecks.addAll(boardIds);
+            log.warn("인기 게시글 삭제 여부 확인 실패 - 게시글 수: {}, 오류: {}", boardIds.size(), e.getMessage());
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            boardIds.stream()
+                    .filter(boardIdx -> !live.contains(boardIdx))
+                    .forEach(boardIdx -> removeLocked(boardIdx, now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB 이력으로 순위 재구성
+     * DB에 접근할 수 없어도 애플리케이션 기동은 계속되며, 이후 이벤트로 순위가 채워집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuildFromDatabase();
+        } catch (Exception e) {
+            log.warn("인기 게시글 순위 재구성 실패 - 이후 이벤트로 순위를 채웁니다. 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB의 최근 게시글/댓글 이력으로 순위 재구성
+     * 전방 감쇠 점수는 더하기만 하면 되므로 재구성 중 들어온 이벤트와 그대로 합산됩니다.
+     */
+    @Override
+    public void rebuildFromDatabase() {
+        LocalDateTime since = LocalDateTime.now().minusHours(rebuildWindowHours);
+
+        List<BoardActivity> boardActivities = boardRepository.findActivitySince(since);
+        List<BoardActivity> commentActivities = commentRepository.findActivitySince(since);
+
+        int trackedBoards;
+        lock.lock();
+        try {
+            boardActivities.forEach(activity -> addActivityLocked(activity, boardWeight));
+            commentActivities.forEach(activity -> addActivityLocked(activity, commentWeight));
+            trackedBoards = entriesByBoard.size();
+        } finally {
+            lock.unlock();
+        }
+
+        log.info("인기 게시글 순위 재구성 완료 - 게시글 이력: {}건, 댓글 이력: {}건, 추적 게시글: {}개",
+                boardActivities.size(), commentActivities.size(), trackedBoards);
+    }
+
+    private void addScore(Long boardIdx, double weight, long eventMillis) {
+        if (boardIdx == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            addScoreLocked(boardIdx, weight, eventMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addActivityLocked(BoardActivity activity, double weight) {
+        long eventMillis = activity.getActivityAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        int count = activity.getActivityCount() != null ? activity.getActivityCount() : 1;
+        addScoreLocked(activity.getBoardIdx(), weight * count, eventMillis);
+    }
+
+    /**
+     * 점수 갱신 (락 보유 상태에서 호출)
+     * 기존 항목 제거 → 새 점수로 삽입, 각각 O(log n)
+     */
+    private void addScoreLocked(Long boardIdx, double weight, long eventMillis) {
+        if (weight <= 0 || isRecentlyDeletedLocked(boardIdx)) {
+            return;
+        }
+
+        double exponent = (eventMillis - landmarkMillis) * decayPerMillis;
+        if (exponent > MAX_EXPONENT) {
+            moveLandmarkLocked(eventMillis);
+            exponent = 0;
+        }
+
+        double increment = weight * Math.exp(exponent);
+        ScoreEntry previous = entriesByBoard.get(boardIdx);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+
+        ScoreEntry updated = new ScoreEntry(boardIdx, (previous != null ? previous.score : 0) + increment);
+        entriesByBoard.put(boardIdx, updated);
+        ranking.add(updated);
+
+        // 추적 게시글 수 상한 유지: 가장 낮은 점수의 게시글 제거
+        while (ranking.size() > maxTrackedBoards) {
+            ScoreEntry lowest = ranking.pollLast();
+            entriesByBoard.remove(lowest.boardIdx);
+        }
+
+        topSnapshot = null;
+    }
+
+    /**
+     * 순위에서 제외하고 삭제 시각 기록 (락 보유 상태에서 호출)
+     */
+    private void removeLocked(Long boardIdx, long now) {
+        ScoreEntry entry = entriesByBoard.remove(boardIdx);
+        if (entry != null) {
+            ranking.remove(entry);
+            topSnapshot = null;
+        }
+
+        recentlyDeleted.remove(boardIdx);
+        recentlyDeleted.put(boardIdx, now);
+        expireDeletedLocked(now);
+    }
+
+    private boolean isRecentlyDeletedLocked(Long boardIdx) {
+        if (recentlyDeleted.isEmpty()) {
+            return false;
+        }
+
+        expireDeletedLocked(System.currentTimeMillis());
+        return recentlyDeleted.containsKey(boardIdx);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (삭제 순서로 저장되어 있으므로 앞에서부터 확인)
+     */
+    private void expireDeletedLocked(long now) {
+        Iterator<Long> deletedAt = recentlyDeleted.values().iterator();
+        while (deletedAt.hasNext() && now - deletedAt.next() >= deletedRetentionMillis) {
+            deletedAt.remove();
+        }
+    }
+
+    /**
+     * 기준시각을 옮기고 모든 점수를 같은 비율로 축소
+     * 모든 점수에 같은 값을 곱하므로 순위는 그대로 유지됩니다.
+     */
+    private void moveLandmarkLocked(long newLandmarkMillis) {
+        double factor = Math.exp(-(newLandmarkMillis - landmarkMillis) * decayPerMillis);
+        List<ScoreEntry> rescaled = new ArrayList<>(ranking.size());
+        for (ScoreEntry entry : ranking) {
+            rescaled.add(new ScoreEntry(entry.boardIdx, entry.score * factor));
+        }
+
+        ranking.clear();
+        entriesByBoard.clear();
+        for (ScoreEntry entry : rescaled) {
+            ranking.add(entry);
+            entriesByBoard.put(entry.boardIdx, entry);
+        }
+        landmarkMillis = newLandmarkMillis;
+    }
+
+    private Snapshot buildSnapshot() {
+        lock.lock();
+        try {
+            Snapshot snapshot = topSnapshot;
+            if (snapshot != null && !snapshot.isExpired()) {
+                return snapshot;
+            }
+
+            // 저장된 점수를 현재 시점 기준 값으로 환산 (표시용)
+            long now = System.currentTimeMillis();
+            double toNow = Math.exp(-(now - landmarkMillis) * decayPerMillis);
+            List<TrendingBoard> built = new ArrayList<>(Math.min(snapshotSize, ranking.size()));
+            Iterator<ScoreEntry> iterator = ranking.iterator();
+            while (iterator.hasNext() && built.size() < snapshotSize) {
+                ScoreEntry entry = iterator.next();
+                built.add(TrendingBoard.builder()
+                        .rank(built.size() + 1)
+                        .boardIdx(entry.boardIdx)
+                        .score(entry.score * toNow)
+                        .build());
+            }
+
+            snapshot = new Snapshot(Collections.unmodifiableList(built), now);
+            topSnapshot = snapshot;
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 상위 목록 스냅샷 (생성 시각 기준으로 일정 시간이 지나면 표시 점수를 다시 환산)
+     */
+    private static final class Snapshot {
+
+        private final List<TrendingBoard> boards;
+        private final long builtAtMillis;
+
+        private Snapshot(List<TrendingBoard> boards, long builtAtMillis) {
+            this.boards = boards;
+            this.builtAtMillis = builtAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - builtAtMillis > SNAPSHOT_MAX_AGE_MILLIS;
+        }
+    }
+
+    /**
+     * 게시글별 점수 (불변 객체, 점수 내림차순 → 게시글 번호 내림차순 정렬)
+     */
+    private static final class ScoreEntry {
+
+        private static final Comparator<ScoreEntry> ORDER = Comparator
+                .comparingDouble((ScoreEntry entry) -> entry.score).reversed()
+                .thenComparing(entry -> entry.boardIdx, Comparator.reverseOrder());
+
+        private final Long boardIdx;
+        private final double score;
+
+        private ScoreEntry(Long boardIdx, double score) {
+            this.boardIdx = boardIdx;
+            this.score = score;
+        }
+    }
+}
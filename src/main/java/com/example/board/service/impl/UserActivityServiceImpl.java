@@ -0,0 +1,157 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.UserActivity;
+import com.example.board.repository.UserActivityRepository;
+import com.example.board.service.UserActivityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 사용자별 활동 집계의 증감, 재집계, 조회만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 UserActivityRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 조회할 때 집계하지 않고 쓸 때 집계
+ * - 게시글/댓글 등록·삭제 시 호출자의 트랜잭션 안에서 사용자 행 하나만 증감 (기본키 upsert)
+ * - 게시글 삭제처럼 여러 사용자의 댓글이 함께 삭제되는 경우는 관련 사용자만 원본에서 다시 계산 (재집계와 같은 묶음 단위)
+ * - 직접 SQL 수정, 가져오기 등으로 생긴 차이는 야간 재집계(user-activity.reconcile-*)가 사용자 묶음 단위로 맞춤
+ * - 조회는 기본키 조회 한 번 (여러 명은 IN 조회 한 번, 순위는 게시글 수/댓글 수 인덱스 앞부분만 읽음)
+ */
+@Slf4j
+@Service
+public class UserActivityServiceImpl implements UserActivityService {
+
+    /** 여러 사용자/순위 조회 시 한 번에 요청할 수 있는 최대 사용자 수 */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final UserActivityRepository userActivityRepository;
+    private final boolean reconcileEnabled;
+    private final int reconcileBatchSize;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public UserActivityServiceImpl(
+            UserActivityRepository userActivityRepository,
+            @Value("${user-activity.reconcile-enabled:false}") boolean reconcileEnabled,
+            @Value("${user-activity.reconcile-batch-size:200}") int reconcileBatchSize) {
+
+        this.userActivityRepository = userActivityRepository;
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    @Override
+    public void onBoardCreated(String userId) {
+        userActivityRepository.addDelta(userId, 1, 0, LocalDateTime.now());
+    }
+
+    @Override
+    public void onCommentCreated(String userId) {
+        userActivityRepository.addDelta(userId, 0, 1, LocalDateTime.now());
+    }
+
+    @Override
+    public void onCommentDeleted(String userId) {
+        userActivityRepository.addDelta(userId, 0, -1, null);
+    }
+
+    /**
+     * 작성자가 많아도 한 문장이 길어지지 않도록 reconcile-batch-size 명씩 나누어 다시 계산
+     */
+    @Override
+    public void onBoardsDeleted(Collection<Long> boardIds) {
+        List<String> writerIds = userActivityRepository.findWriterIdsByBoardIds(boardIds);
+        for (int from = 0; from < writerIds.size(); from += reconcileBatchSize) {
+            userActivityRepository.recount(writerIds.subList(from, Math.min(from + reconcileBatchSize, writerIds.size())));
+        }
+    }
+
+    @Override
+    public UserActivity getStats(String userId) {
+        return userActivityRepository.findByUserId(userId)
+                .orElseGet(() -> UserActivity.empty(userId));
+    }
+
+    @Override
+    public List<UserActivity> getStats(List<String> userIds) {
+        List<String> distinctIds = userIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "명까지 조회할 수 있습니다.");
+        }
+
+        Map<String, UserActivity> activitiesById = userActivityRepository.findByUserIds(distinctIds).stream()
+                .collect(Collectors.toMap(UserActivity::getUserId, Function.identity()));
+
+        return distinctIds.stream()
+                .map(userId -> activitiesById.getOrDefault(userId, UserActivity.empty(userId)))
+                .toList();
+    }
+
+    @Override
+    public List<UserActivity> getTopUsers(String by, int limit) {
+        if (!"boards".equals(by) && !"comments".equals(by)) {
+            throw new IllegalArgumentException("순위 기준은 boards 또는 comments만 가능합니다: " + by);
+        }
+        if (limit < 1 || limit > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("순위는 1 ~ " + MAX_BATCH_SIZE + "명까지 조회할 수 있습니다.");
+        }
+        return userActivityRepository.findTop("comments".equals(by), limit);
+    }
+
+    /**
+     * 야간 재집계 (user-activity.reconcile-enabled=true 인 인스턴스에서만 실행)
+     */
+    @Scheduled(cron = "${user-activity.reconcile-cron:0 0 5 * * *}")
+    public void runScheduledReconcile() {
+        if (reconcileEnabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 사용자 ID 키셋 순서로 reconcile-batch-size 명씩 다시 계산
+     * 묶음마다 짧은 문장 하나로 커밋되어 긴 잠금이 생기지 않습니다.
+     */
+    @Override
+    public long reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            log.info("사용자 활동 재집계가 이미 실행 중입니다.");
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long recounted = 0;
+        try {
+            String afterUserId = "";
+            while (true) {
+                List<String> userIds = userActivityRepository.findUserIdsAfter(afterUserId, reconcileBatchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                userActivityRepository.recount(userIds);
+                recounted += userIds.size();
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+            log.info("사용자 활동 재집계 완료 - 사용자: {}명, 소요: {}ms", recounted, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("사용자 활동 재집계 실패 - 처리: {}명, 오류: {}", recounted, e.getMessage(), e);
+        } finally {
+            reconciling.set(false);
+        }
+        return recounted;
+    }
+}
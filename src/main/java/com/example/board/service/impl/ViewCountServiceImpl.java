@@ -0,0 +1,195 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.repository.BoardRepository;
+import com.example.board.service.TrendingService;
+import com.example.board.service.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID 원칙 적용:
+ *
+ * SRP (Single Responsibility Principle):
+ * 게시글 조회수의 메모리 집계와 DB 일괄 반영만을 담당합니다.
+ *
+ * DIP (Dependency Inversion Principle):
+ * 구체적인 Mapper가 아닌 추상화된 BoardRepository 인터페이스에 의존합니다.
+ *
+ * 실무 원칙: 가장 많이 호출되는 조회 경로를 쓰기 경합 지점으로 만들지 않음
+ * - 요청 경로에서는 게시글별 카운터만 CAS로 증가 (락 없음)
+ * - 더 이상 조회되지 않는 게시글의 카운터는 0일 때만 CAS로 폐기 표시 후 제거하므로,
+ *   제거와 동시에 들어온 증가는 새 카운터로 옮겨져 유실되지 않음
+ * - 몇 초마다 누적분(delta)을 한 번의 UPDATE 문으로 반영, 종료 시에도 반영
+ * - 반영 중인 값은 별도로 보관하여 조회 결과에 항상 합산되도록 함
+ * - 반영 실패 시 누적분을 다시 되돌려 다음 주기에 재시도
+ * - 같은 주기에 누적분을 인기 게시글 순위(TrendingService)에도 전달
+ */
+@Slf4j
+@Service
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private final BoardRepository boardRepository;
+    private final TrendingService trendingService;
+    private final int flushBatchSize;
+
+    /** 폐기된 카운터 표시 (이 값이 된 카운터는 더 이상 증가하지 않음) */
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    /** 아직 DB에 반영되지 않은 조회수 */
+    private final Map<Long, AtomicLong> pendingViews = new ConcurrentHashMap<>();
+
+    /** DB에 반영 중인 조회수 (반영이 끝날 때까지 조회 결과에 합산) */
+    private final Map<Long, Long> flushingViews = new ConcurrentHashMap<>();
+
+    public ViewCountServiceImpl(
+            BoardRepository boardRepository,
+            TrendingService trendingService,
+            @Value("${board.view.flush-batch-size:1000}") int flushBatchSize) {
+        this.boardRepository = boardRepository;
+        this.trendingService = trendingService;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 게시글 조회수 1 증가
+     * 이미 집계 중인 게시글은 락 없이 카운터만 증가시킵니다.
+     */
+    @Override
+    public void increment(Long boardIdx) {
+        addPendingViews(boardIdx, 1L);
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 조회수를 게시글에 합산
+     */
+    @Override
+    public void applyPendingViews(BoardV0 board) {
+        if (board == null || board.getIdx() == null) {
+            return;
+        }
+
+        long persisted = board.getViews() != null ? board.getViews() : 0L;
+        board.setViews(persisted + getUnflushedViews(board.getIdx()));
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 조회수를 게시글 목록에 합산
+     */
+    @Override
+    public void applyPendingViews(List<BoardV0> boards) {
+        if (pendingViews.isEmpty() && flushingViews.isEmpty()) {
+            return;
+        }
+        boards.forEach(this::applyPendingViews);
+    }
+
+    /**
+     * 집계된 조회수를 DB에 일괄 반영
+     * 게시글별 누적분을 모아 flush-batch-size 단위의 UPDATE 문으로 실행합니다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${board.view.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = drainPendingViews();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < boardIds.size(); from += flushBatchSize) {
+            Map<Long, Long> batch = new LinkedHashMap<>();
+            boardIds.subList(from, Math.min(from + flushBatchSize, boardIds.size()))
+                    .forEach(boardIdx -> batch.put(boardIdx, deltas.get(boardIdx)));
+
+            try {
+                boardRepository.increaseViews(batch);
+                batch.keySet().forEach(flushingViews::remove);
+
+                // 인기 게시글 순위에는 요청 경로가 아닌 이 주기에서 묶어서 반영
+                trendingService.onBoardViews(batch);
+            } catch (Exception e) {
+                log.error("조회수 반영 실패 - 게시글 수: {}, 오류: {}", batch.size(), e.getMessage(), e);
+                restorePendingViews(batch);
+            }
+        }
+
+        log.debug("조회수 반영 완료 - 게시글 수: {}", deltas.size());
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private long getUnflushedViews(Long boardIdx) {
+        AtomicLong counter = pendingViews.get(boardIdx);
+        long pending = counter != null ? counter.get() : 0L;
+        Long flushing = flushingViews.get(boardIdx);
+        return (pending != RETIRED ? pending : 0L) + (flushing != null ? flushing : 0L);
+    }
+
+    /**
+     * 카운터에 조회수 추가
+     * 카운터가 정리 중 폐기되었으면 새 카운터로 교체한 뒤 다시 시도합니다.
+     */
+    private void addPendingViews(Long boardIdx, long delta) {
+        while (true) {
+            AtomicLong counter = pendingViews.get(boardIdx);
+            if (counter == null || counter.get() == RETIRED) {
+                counter = pendingViews.compute(boardIdx, (key, current) ->
+                        current == null || current.get() == RETIRED ? new AtomicLong() : current);
+            }
+            if (counter.updateAndGet(value -> value == RETIRED ? RETIRED : value + delta) != RETIRED) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 누적분을 반영 중 상태로 옮긴 뒤 카운터에서 차감
+     * 옮기는 순서 덕분에 조회 결과가 실제 값보다 작게 보이는 순간이 없습니다.
+     */
+    private Map<Long, Long> drainPendingViews() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+
+        pendingViews.forEach((boardIdx, counter) -> {
+            long delta = counter.get();
+            if (delta > 0) {
+                flushingViews.merge(boardIdx, delta, Long::sum);
+                counter.addAndGet(-delta);
+                deltas.put(boardIdx, delta);
+            } else if (counter.compareAndSet(0L, RETIRED)) {
+                // 더 이상 조회되지 않는 게시글의 카운터 정리 (메모리 상한 유지)
+                // 폐기 표시 이후의 증가는 addPendingViews가 새 카운터에 반영
+                pendingViews.remove(boardIdx, counter);
+            }
+        });
+
+        return deltas;
+    }
+
+    private void restorePendingViews(Map<Long, Long> batch) {
+        batch.forEach((boardIdx, delta) -> {
+            addPendingViews(boardIdx, delta);
+            flushingViews.remove(boardIdx);
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.board.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한 요청의 단계별 누적 시간
+ * 요청 스레드에서만 사용되므로 동기화하지 않습니다.
+ */
+class RequestTimingContext {
+
+    private final long startedAt = System.nanoTime();
+
+    /** 단계 이름 → 누적 시간(ns), 같은 단계가 여러 번 실행되면(쿼리 여러 건 등) 합산 */
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    void record(String phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    Map<String, Long> getPhaseNanos() {
+        return phaseNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: auth;dur=0.12, db-board;dur=1.30, serialize;dur=0.41, total;dur=3.05)
+     * total은 헤더를 만드는 시점까지 애플리케이션에서 걸린 시간입니다.
+     */
+    String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        phaseNanos.forEach((phase, nanos) -> appendMetric(header, phase, nanos));
+        appendMetric(header, "total", System.nanoTime() - startedAt);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000d));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.board.timing;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 현재 요청의 처리 단계(phase) 시간 측정 진입점만을 담당합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * try (RequestTimings.Scope ignored = RequestTimings.start("auth")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * 실무 원칙: 꺼져 있을 때 비용이 거의 없도록 함
+ * - 측정 문맥은 ServerTimingFilter가 요청 스레드에만 설정
+ * - 문맥이 없으면(기능 꺼짐, 요청 밖의 스레드) ThreadLocal 조회 한 번 후 공유 NOOP 객체 반환
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimingContext> CURRENT = new ThreadLocal<>();
+
+    private static final Scope NOOP = () -> {
+    };
+
+    private RequestTimings() {
+    }
+
+    /**
+     * 단계 측정 시작 (close 시 경과 시간이 해당 단계에 누적됨)
+     */
+    public static Scope start(String phase) {
+        RequestTimingContext context = CURRENT.get();
+        if (context == null) {
+            return NOOP;
+        }
+
+        long startedAt = System.nanoTime();
+        return () -> context.record(phase, System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 현재 요청의 측정 문맥 (없으면 null)
+     */
+    static RequestTimingContext current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestTimingContext context) {
+        CURRENT.set(context);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 단계 측정 범위 (try-with-resources용, 예외를 던지지 않음)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
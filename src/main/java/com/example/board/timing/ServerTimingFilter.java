@@ -0,0 +1,69 @@
+package com.example.board.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 요청 단위 측정 문맥의 생성/해제와 결과 기록(Server-Timing 헤더, 단계별 히스토그램)만을 담당합니다.
+ *
+ * - 응답 본문이 있는 요청은 ServerTimingHttpMessageConverter가 직렬화 직후 헤더를 설정
+ * - 본문 없이 끝난 요청은 이 필터가 응답이 커밋되기 전이면 헤더를 설정
+ * - 단계별 시간은 http.server.phase 타이머(phase, route 태그, 히스토그램)로 기록
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServerTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestTimingContext context = new RequestTimingContext();
+        RequestTimings.bind(context);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.unbind();
+
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING_HEADER)) {
+                response.setHeader(SERVER_TIMING_HEADER, context.toHeaderValue());
+            }
+            recordMetrics(request, context);
+        }
+    }
+
+    private void recordMetrics(HttpServletRequest request, RequestTimingContext context) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+
+        context.getPhaseNanos().forEach((phase, nanos) ->
+                timers.computeIfAbsent(phase + ' ' + route, key -> Timer.builder("http.server.phase")
+                                .description("요청 처리 단계별 소요 시간")
+                                .tags("phase", phase, "route", route)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry))
+                        .record(nanos, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.board.timing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * SOLID 원칙 적용: OCP (Open-Closed Principle)
+ * 기존 Jackson 메시지 컨버터를 수정하지 않고 감싸서 직렬화 시간(serialize 단계)을 측정합니다.
+ *
+ * Server-Timing은 응답 헤더이므로 본문을 쓰기 전에 정해져야 합니다.
+ * 측정 중인 요청은 직렬화 결과를 메모리에 모은 뒤 헤더(Server-Timing, Content-Length)를 설정하고 본문을 씁니다.
+ * 측정 문맥이 없는 경우(기능 꺼짐, SSE 전송 스레드 등)는 원래 컨버터에 그대로 위임합니다.
+ */
+public class ServerTimingHttpMessageConverter implements GenericHttpMessageConverter<Object> {
+
+    private final GenericHttpMessageConverter<Object> delegate;
+
+    public ServerTimingHttpMessageConverter(GenericHttpMessageConverter<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return delegate.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return delegate.read(clazz, inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return delegate.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    public void write(Object body, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        write(body, null, contentType, outputMessage);
+    }
+
+    @Override
+    public void write(Object body, Type type, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+
+        RequestTimingContext context = RequestTimings.current();
+        if (context == null) {
+            delegate.write(body, type, contentType, outputMessage);
+            return;
+        }
+
+        BufferedOutputMessage buffered = new BufferedOutputMessage();
+        long startedAt = System.nanoTime();
+        delegate.write(body, type, contentType, buffered);
+        context.record("serialize", System.nanoTime() - startedAt);
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.putAll(buffered.getHeaders());
+        headers.setContentLength(buffered.body.size());
+        headers.set(ServerTimingFilter.SERVER_TIMING_HEADER, context.toHeaderValue());
+        buffered.body.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * 직렬화 결과를 메모리에 모으는 출력 메시지
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final FastByteArrayOutputStream body = new FastByteArrayOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.board.timing;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * Repository 구현체가 실행하는 쿼리 시간을 Mapper별 단계(db-board, db-comment 등)로 기록하는 역할만을 담당합니다.
+ *
+ * Repository 메서드마다 측정 코드를 넣는 대신 모든 Mapper 호출이 지나는 Executor에서 한 번에 측정합니다.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ServerTimingMyBatisInterceptor implements Interceptor {
+
+    /** Mapper 네임스페이스 → 단계 이름 */
+    private final Map<String, String> phaseByNamespace = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (RequestTimings.current() == null) {
+            return invocation.proceed();
+        }
+
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        try (RequestTimings.Scope ignored = RequestTimings.start(phaseOf(statement.getId()))) {
+            return invocation.proceed();
+        }
+    }
+
+    /**
+     * com.example.board.mapper.BoardMapper.selectBoardById → db-board
+     */
+    private String phaseOf(String statementId) {
+        int lastDot = statementId.lastIndexOf('.');
+        String namespace = lastDot > 0 ? statementId.substring(0, lastDot) : statementId;
+
+        return phaseByNamespace.computeIfAbsent(namespace, key -> {
+            String mapperName = key.substring(key.lastIndexOf('.') + 1);
+            if (mapperName.endsWith("Mapper") && mapperName.length() > "Mapper".length()) {
+                mapperName = mapperName.substring(0, mapperName.length() - "Mapper".length());
+            }
+            return "db-" + mapperName.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.board.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 키셋 페이지 커서의 인코딩/디코딩만을 담당합니다.
+ *
+ * 커서는 마지막 항목의 정렬 키 값들을 이어 붙여 URL-safe Base64로 감싼 불투명 문자열입니다.
+ * 클라이언트는 내용을 해석하지 않고 그대로 다시 전달합니다.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 변환
+     */
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 변환
+     * @param cursor 커서 문자열
+     * @param expectedKeys 정렬 키 개수
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + SEPARATOR, -1);
+            if (keys.length != expectedKeys) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
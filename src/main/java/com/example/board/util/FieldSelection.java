@@ -0,0 +1,101 @@
+package com.example.board.util;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 조회 API의 부분 필드 선택(fields=title,regDate) 해석만을 담당합니다.
+ *
+ * 실무 원칙: 필요한 컬럼만 읽고 필요한 필드만 내보냄
+ * - 선택된 필드 목록으로 MyBatis 동적 SQL의 SELECT 컬럼을 결정
+ * - 같은 목록으로 Jackson 필터를 구성해 응답에서도 나머지 필드를 제외
+ * - 허용 목록에 없는 필드는 잘못된 요청으로 처리 (SQL에는 고정된 컬럼만 들어감)
+ * - 식별자(idx)는 선택 여부와 관계없이 항상 포함
+ */
+public final class FieldSelection {
+
+    private static final String ID_FIELD = "idx";
+
+    private final Set<String> fields;
+    private final boolean all;
+
+    private FieldSelection(Set<String> fields, boolean all) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.all = all;
+    }
+
+    /**
+     * 전체 필드 선택 (fields 파라미터가 없는 경우)
+     */
+    public static FieldSelection all(Set<String> selectableFields) {
+        return new FieldSelection(new LinkedHashSet<>(selectableFields), true);
+    }
+
+    /**
+     * fields 파라미터 해석
+     * @param fields 쉼표로 구분된 필드 이름 (비어 있으면 전체 필드)
+     * @param selectableFields 선택 가능한 필드 이름
+     * @throws IllegalArgumentException 선택할 수 없는 필드가 포함된 경우
+     */
+    public static FieldSelection parse(String fields, Set<String> selectableFields) {
+        if (fields == null || fields.isBlank()) {
+            return all(selectableFields);
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID_FIELD);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectableFields.contains(name)) {
+                throw new IllegalArgumentException("선택할 수 없는 필드입니다: " + name);
+            }
+            selected.add(name);
+        }
+        return new FieldSelection(selected, false);
+    }
+
+    /**
+     * 선택된 필드 이름 (동적 SQL의 컬럼 선택 조건에 사용)
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 응답 본문에 필드 필터 적용
+     * filterId로 표시된(@JsonFilter) 객체는 선택된 필드만, 나머지 객체는 모든 필드를 직렬화합니다.
+     */
+    public MappingJacksonValue applyTo(Object body, String filterId) {
+        return applyAll(body, Map.of(filterId, this));
+    }
+
+    /**
+     * 응답 본문에 여러 필드 필터 적용 (게시글 상세처럼 게시글과 댓글이 함께 있는 응답)
+     * @param selectionsByFilter 필터 ID(@JsonFilter)별 선택된 필드
+     */
+    public static MappingJacksonValue applyAll(Object body, Map<String, FieldSelection> selectionsByFilter) {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+        selectionsByFilter.forEach((filterId, selection) -> filters.addFilter(filterId, selection.all
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(selection.fields)));
+
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters);
+        return value;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * SOLID 원칙 적용: SRP (Single Responsibility Principle)
@@ -47,6 +48,7 @@ public class JwtTokenUtil {
         Date expiryDate = new Date(now.getTime() + tokenValidityInMilliseconds);
         
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())           // 토큰 ID (jti, 로그아웃 시 폐기 단위)
                 .subject(userId)                            // 사용자 ID (토큰의 주체)
                 .claim("username", username)                // 사용자 이름
                 .claim("role", role)                        // 사용자 역할
@@ -118,6 +120,23 @@ public class JwtTokenUtil {
         return false;
     }
     
+    /**
+     * JWT 토큰 검증과 Claims 추출을 한 번에 수행
+     * 요청마다 서명 검증을 여러 번 반복하지 않도록 인증 필터에서 사용합니다.
+     * @param token JWT 토큰
+     * @return 유효한 토큰이면 Claims, 아니면 null
+     */
+    public Claims parseValidClaims(String token) {
+        try {
+            return getClaimsFromToken(token);
+        } catch (ExpiredJwtException ex) {
+            log.debug("Expired JWT token: {}", ex.getMessage());
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.warn("Invalid JWT token: {}", ex.getMessage());
+        }
+        return null;
+    }
+    
     /**
      * JWT 토큰이 만료되었는지 확인
      * @param token JWT 토큰
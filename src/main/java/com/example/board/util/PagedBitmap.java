@@ -0,0 +1,86 @@
+package com.example.board.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SOLID 원칙 적용: SRP (Single Responsibility Principle)
+ * 0 이상의 정수 집합(예: 게시글 ID)에 대한 포함 여부 관리만을 담당합니다.
+ *
+ * 실무 원칙: ID 범위가 넓어도 사용하는 구간만큼만 메모리 사용
+ * - 65,536개 ID 단위 페이지(8KB)를 처음 추가될 때 할당, 값이 없는 구간은 메모리를 쓰지 않음
+ * - 페이지 안의 비트는 AtomicLongArray로 관리하여 조회는 락 없이, 추가/삭제는 원자적으로 처리
+ * - 자동 증가 ID처럼 조밀한 집합은 ID 100만 개당 약 128KB
+ */
+public class PagedBitmap {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) / Long.SIZE;
+
+    private final Map<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+
+    /**
+     * 값 추가
+     */
+    public void set(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+        }
+
+        AtomicLongArray page = pages.computeIfAbsent(value >>> PAGE_SHIFT, key -> new AtomicLongArray(WORDS_PER_PAGE));
+        long mask = 1L << value;
+        page.getAndAccumulate(wordIndex(value), mask, (word, bit) -> word | bit);
+    }
+
+    /**
+     * 값 삭제 (빈 페이지도 그대로 두어 다시 추가될 때 재할당하지 않음)
+     */
+    public void clear(long value) {
+        if (value < 0) {
+            return;
+        }
+
+        AtomicLongArray page = pages.get(value >>> PAGE_SHIFT);
+        if (page != null) {
+            long mask = 1L << value;
+            page.getAndAccumulate(wordIndex(value), mask, (word, bit) -> word & ~bit);
+        }
+    }
+
+    /**
+     * 값 포함 여부
+     */
+    public boolean contains(long value) {
+        if (value < 0) {
+            return false;
+        }
+
+        AtomicLongArray page = pages.get(value >>> PAGE_SHIFT);
+        return page != null && (page.get(wordIndex(value)) & (1L << value)) != 0;
+    }
+
+    /**
+     * 저장된 값 개수
+     */
+    public long cardinality() {
+        long count = 0;
+        for (AtomicLongArray page : pages.values()) {
+            for (int i = 0; i < page.length(); i++) {
+                count += Long.bitCount(page.get(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 할당된 비트 배열 크기 (바이트)
+     */
+    public long memoryBytes() {
+        return (long) pages.size() * WORDS_PER_PAGE * Long.BYTES;
+    }
+
+    private static int wordIndex(long value) {
+        return (int) (value >>> 6) & (WORDS_PER_PAGE - 1);
+    }
+}
@@ -0,0 +1,4 @@
+-- 게시글 조회수 컬럼 추가
+-- 조회수는 애플리케이션 메모리에서 집계한 뒤 주기적으로 일괄 반영됩니다. (ViewCountService)
+ALTER TABLE t_board
+    ADD COLUMN views BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,46 @@
+-- 논리 삭제 시각 컬럼 추가 및 보관(archive) 테이블 생성
+-- 논리 삭제 후 일정 기간이 지난 게시글/댓글은 ArchiveService가 보관 테이블로 옮깁니다.
+
+ALTER TABLE t_board
+    ADD COLUMN delDate DATETIME NULL;
+
+ALTER TABLE t_comment
+    ADD COLUMN delDate DATETIME NULL;
+
+-- 기존에 삭제된 데이터는 마이그레이션 시각을 삭제 시각으로 간주 (보관 기간을 새로 시작)
+UPDATE t_board SET delDate = NOW() WHERE delYn = 'Y' AND delDate IS NULL;
+UPDATE t_comment SET delDate = NOW() WHERE delYn = 'Y' AND delDate IS NULL;
+
+-- 보관 대상 키셋 조회용 인덱스 (delYn = 'Y' 범위를 idx 순으로 스캔, delDate는 인덱스에서 필터)
+CREATE INDEX idx_board_del_idx ON t_board (delYn, idx, delDate);
+CREATE INDEX idx_comment_del_idx ON t_comment (delYn, idx, delDate);
+
+CREATE TABLE t_board_archive (
+    idx          BIGINT        NOT NULL PRIMARY KEY,
+    title        VARCHAR(100)  NOT NULL,
+    content      TEXT          NOT NULL,
+    writer_id    VARCHAR(50)   NULL,
+    regDate      DATETIME      NOT NULL,
+    delYn        CHAR(1)       NOT NULL,
+    delDate      DATETIME      NULL,
+    views        BIGINT        NOT NULL DEFAULT 0,
+    archivedDate DATETIME      NOT NULL
+);
+
+CREATE TABLE t_comment_archive (
+    idx          BIGINT        NOT NULL PRIMARY KEY,
+    boardIdx     BIGINT        NOT NULL,
+    comment      VARCHAR(500)  NOT NULL,
+    writer_id    VARCHAR(50)   NULL,
+    regDate      DATETIME      NOT NULL,
+    delYn        CHAR(1)       NOT NULL,
+    delDate      DATETIME      NULL,
+    archivedDate DATETIME      NOT NULL
+);
+
+-- 배치 작업 진행 위치 (재시작 시 이어서 처리)
+CREATE TABLE t_job_checkpoint (
+    job_name     VARCHAR(100)  NOT NULL PRIMARY KEY,
+    last_idx     BIGINT        NOT NULL,
+    updated_at   DATETIME      NOT NULL
+);
@@ -0,0 +1,13 @@
+-- 인스턴스 간 캐시 무효화 메시지 (cache.invalidation.transport=db 일 때 사용)
+-- 각 인스턴스는 마지막으로 읽은 id 이후를 폴링하고, 오래된 메시지는 주기적으로 삭제합니다.
+
+CREATE TABLE t_cache_invalidation (
+    id           BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    cache_name   VARCHAR(50)   NOT NULL,
+    cache_key    VARCHAR(200)  NOT NULL,
+    origin_node  VARCHAR(100)  NOT NULL,
+    published_at BIGINT        NOT NULL
+);
+
+-- 보관 기간이 지난 메시지 삭제용
+CREATE INDEX idx_cache_invalidation_published ON t_cache_invalidation (published_at);
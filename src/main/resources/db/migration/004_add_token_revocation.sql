@@ -0,0 +1,15 @@
+-- 토큰 폐기 목록 (로그아웃, 계정 비활성화)
+-- 각 인스턴스는 시작 시 만료되지 않은 항목을 메모리로 읽고, 이후 id 순으로 폴링하여 동기화합니다.
+-- revoke_type = 'TOKEN': jti 한 개 폐기 / 'USER': revoked_at 이전에 발급된 사용자 토큰 전체 폐기
+
+CREATE TABLE t_token_revocation (
+    id           BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    revoke_type  VARCHAR(10)   NOT NULL,
+    jti          VARCHAR(64)   NULL,
+    user_id      VARCHAR(50)   NOT NULL,
+    revoked_at   BIGINT        NOT NULL,
+    expires_at   BIGINT        NOT NULL
+);
+
+-- 만료된 항목 삭제용
+CREATE INDEX idx_token_revocation_expires ON t_token_revocation (expires_at);
@@ -0,0 +1,25 @@
+-- 댓글 답글(스레드) 구조와 키셋 페이지 조회용 인덱스
+-- path: 루트부터 자신까지의 댓글 번호를 12자리로 채워 '/'로 이은 경로 (materialized path)
+--       예) 000000000012/000000000057 → 12번 댓글의 답글 57번
+--       하위 스레드 전체를 path 접두사 범위 조회 한 번으로 가져올 수 있음
+
+ALTER TABLE t_comment
+    ADD COLUMN parentIdx BIGINT       NULL;
+
+ALTER TABLE t_comment
+    ADD COLUMN path      VARCHAR(255) NOT NULL DEFAULT '';
+
+ALTER TABLE t_comment
+    ADD COLUMN depth     INT          NOT NULL DEFAULT 0;
+
+-- 기존 댓글은 모두 최상위 댓글
+UPDATE t_comment SET path = LPAD(idx, 12, '0') WHERE path = '';
+
+-- 최상위 댓글 페이지: boardIdx, delYn, depth 고정 후 (regDate, idx) 순 범위 조회 / 게시글별 댓글 수
+CREATE INDEX idx_comment_board_page ON t_comment (boardIdx, delYn, depth, regDate, idx);
+
+-- 하위 스레드 조회: path 접두사 범위 조회
+CREATE INDEX idx_comment_board_path ON t_comment (boardIdx, path);
+
+-- 답글 수 집계
+CREATE INDEX idx_comment_parent ON t_comment (parentIdx, delYn);
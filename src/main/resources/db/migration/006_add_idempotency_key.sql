@@ -0,0 +1,16 @@
+-- 등록 요청 멱등성 키 (idempotency.persistence.enabled=true 일 때 사용)
+-- 재시도된 POST /board, POST /comment 요청에 처음 처리한 응답을 그대로 돌려주기 위해 보관합니다.
+-- 인스턴스 재시작이나 다른 인스턴스로 재시도가 들어와도 중복 등록되지 않도록 메모리 저장소를 보완합니다.
+
+CREATE TABLE t_idempotency_key (
+    scope          VARCHAR(20)   NOT NULL,
+    user_id        VARCHAR(50)   NOT NULL,
+    idem_key       VARCHAR(100)  NOT NULL,
+    request_hash   VARCHAR(64)   NOT NULL,
+    response_body  TEXT          NOT NULL,
+    expires_at     BIGINT        NOT NULL,
+    PRIMARY KEY (scope, user_id, idem_key)
+);
+
+-- 만료된 키 삭제용
+CREATE INDEX idx_idempotency_key_expires ON t_idempotency_key (expires_at);
@@ -0,0 +1,15 @@
+-- 사용자별 활동 집계 (게시글 수, 댓글 수, 마지막 활동 시각)
+-- 게시글/댓글 등록·삭제 시 같은 트랜잭션에서 증감하고, 야간 작업(UserActivityService.reconcile)이 원본과 맞춥니다.
+-- 조회는 user_id 기본키 조회 한 번으로 끝나므로 GROUP BY writer_id 전체 스캔이 필요 없습니다.
+
+CREATE TABLE t_user_activity (
+    user_id           VARCHAR(50)   NOT NULL PRIMARY KEY,
+    board_count       BIGINT        NOT NULL DEFAULT 0,
+    comment_count     BIGINT        NOT NULL DEFAULT 0,
+    last_activity_at  DATETIME      NULL,
+    updated_at        DATETIME      NOT NULL
+);
+
+-- 재집계 시 사용자별 COUNT/MAX를 인덱스 범위로 계산
+CREATE INDEX idx_board_writer ON t_board (writer_id, delYn, regDate);
+CREATE INDEX idx_comment_writer ON t_comment (writer_id, delYn, regDate);
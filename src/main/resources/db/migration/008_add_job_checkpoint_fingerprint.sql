@@ -0,0 +1,10 @@
+-- 가져오기 체크포인트에 행 순번과 내용 지문(fingerprint) 추가
+-- idx 하나만으로는 중단 후 다른 파일을 올렸을 때 그 파일의 앞부분을 반영된 것으로 잘못 건너뜁니다.
+-- 커밋한 행 수(last_row)와 그 행들까지의 SHA-256(fingerprint)을 함께 저장하고,
+-- 이어서 처리할 때 같은 위치까지의 지문이 다르면 이어서 처리하지 않습니다.
+
+ALTER TABLE t_job_checkpoint
+    ADD COLUMN last_row BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE t_job_checkpoint
+    ADD COLUMN fingerprint CHAR(64) NULL;
@@ -0,0 +1,6 @@
+-- 사용자 활동 순위 조회용 인덱스 (GET /users/top)
+-- 게시글 수/댓글 수 내림차순으로 인덱스 앞부분만 읽고 LIMIT에서 멈추므로 정렬(filesort)이 필요 없습니다.
+-- 같은 수일 때는 user_id 순으로 고정해 페이지마다 순서가 바뀌지 않습니다.
+
+CREATE INDEX idx_user_activity_board_rank ON t_user_activity (board_count DESC, user_id);
+CREATE INDEX idx_user_activity_comment_rank ON t_user_activity (comment_count DESC, user_id);
@@ -0,0 +1,14 @@
+-- 보관 테이블에도 댓글 스레드 구조(005) 컬럼 추가
+-- 보관 작업은 원본을 물리 삭제하므로 보관 테이블에 없으면 답글의 스레드 위치가 사라집니다.
+
+ALTER TABLE t_comment_archive
+    ADD COLUMN parentIdx BIGINT       NULL;
+
+ALTER TABLE t_comment_archive
+    ADD COLUMN path      VARCHAR(255) NOT NULL DEFAULT '';
+
+ALTER TABLE t_comment_archive
+    ADD COLUMN depth     INT          NOT NULL DEFAULT 0;
+
+-- 이미 보관된 댓글은 스레드 정보 없이 옮겨졌으므로 최상위 댓글로 간주
+UPDATE t_comment_archive SET path = LPAD(idx, 12, '0') WHERE path = '';
@@ -0,0 +1,36 @@
+-- 기본 테이블 (db/migration 001 이전 상태)
+-- 운영 DB에는 이미 있는 테이블이므로 perf 프로필의 내장 DB를 만들 때만 사용합니다.
+-- 이후 db/migration의 스크립트를 순서대로 적용하여 운영과 같은 구조를 만듭니다.
+
+CREATE TABLE users (
+    idx          BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id      VARCHAR(50)   NOT NULL,
+    password     VARCHAR(100)  NOT NULL,
+    username     VARCHAR(50)   NOT NULL,
+    email        VARCHAR(100)  NULL,
+    role         VARCHAR(20)   NOT NULL DEFAULT 'USER',
+    active_yn    CHAR(1)       NOT NULL DEFAULT 'Y',
+    reg_date     DATETIME      NOT NULL,
+    del_yn       CHAR(1)       NOT NULL DEFAULT 'N'
+);
+
+CREATE UNIQUE INDEX uk_users_user_id ON users (user_id);
+
+CREATE TABLE t_board (
+    idx          BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    title        VARCHAR(100)  NOT NULL,
+    content      TEXT          NOT NULL,
+    writer_id    VARCHAR(50)   NULL,
+    regDate      DATETIME      NOT NULL,
+    delYn        CHAR(1)       NOT NULL DEFAULT 'N'
+);
+
+CREATE TABLE t_comment (
+    idx          BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    boardIdx     BIGINT        NOT NULL,
+    comment      VARCHAR(500)  NOT NULL,
+    writer_id    VARCHAR(50)   NULL,
+    regDate      DATETIME      NOT NULL,
+    delYn        CHAR(1)       NOT NULL DEFAULT 'N',
+    CONSTRAINT fk_comment_board FOREIGN KEY (boardIdx) REFERENCES t_board (idx)
+);
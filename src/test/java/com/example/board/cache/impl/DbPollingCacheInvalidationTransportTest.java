@@ -0,0 +1,94 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DbPollingCacheInvalidationTransportTest {
+
+    private static final int POLL_BATCH_SIZE = 2;
+    private static final long OVERLAP_IDS = 5;
+
+    /** 커밋된 메시지 (t_cache_invalidation) */
+    private final List<CacheInvalidation> table = new ArrayList<>();
+    private final List<Long> received = new ArrayList<>();
+
+    private final CacheInvalidationRepository repository = mock(CacheInvalidationRepository.class);
+    private final DbPollingCacheInvalidationTransport transport =
+            new DbPollingCacheInvalidationTransport(repository, POLL_BATCH_SIZE, OVERLAP_IDS, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findMaxId()).thenReturn(9L);
+        when(repository.findAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return table.stream()
+                    .filter(row -> row.getId() > afterId)
+                    .sorted(Comparator.comparing(CacheInvalidation::getId))
+                    .limit(limit)
+                    .toList();
+        });
+        transport.start(rows -> rows.forEach(row -> received.add(row.getId())));
+    }
+
+    @Test
+    void firstPollOnlyRecordsCurrentMaxId() {
+        commit(5, 9);
+
+        transport.poll();
+
+        assertThat(received).isEmpty();
+        verify(repository, never()).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void deliversLateCommittedIdsInsideOverlapOnlyOnce() {
+        transport.poll();
+
+        // 12번이 13번보다 늦게 커밋됨
+        commit(10, 11, 13);
+        transport.poll();
+        assertThat(received).containsExactly(10L, 11L, 13L);
+
+        commit(12);
+        transport.poll();
+        transport.poll();
+        assertThat(received).containsExactly(10L, 11L, 13L, 12L);
+    }
+
+    @Test
+    void keepsReadingWhileBatchesAreFull() {
+        transport.poll();
+
+        commit(10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+        transport.poll();
+
+        assertThat(received).containsExactly(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+    }
+
+    private void commit(long... ids) {
+        for (long id : ids) {
+            table.add(CacheInvalidation.builder()
+                    .id(id)
+                    .cacheName("board")
+                    .cacheKey(String.valueOf(id))
+                    .originNode("node-b")
+                    .publishedAt(System.currentTimeMillis())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidation;
+import com.example.board.cache.CacheInvalidationTransport;
+import com.example.board.cache.CacheNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DefaultCacheInvalidationBusTest {
+
+    private final RecordingTransport transport = new RecordingTransport();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DefaultCacheInvalidationBus bus = new DefaultCacheInvalidationBus(transport, meterRegistry, "node-a");
+    private final List<String> delivered = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bus.start();
+        bus.subscribe(CacheNames.BOARD, delivered::add);
+    }
+
+    @Test
+    void deliversLocallyAtOnceAndCoalescesRemoteSends() {
+        bus.publish(CacheNames.BOARD, 1L);
+        bus.publish(CacheNames.BOARD, 1L);
+        bus.publish(CacheNames.BOARD_COMMENTS, 1L);
+
+        // 로컬 구독자는 발행마다 즉시 받음
+        assertThat(delivered).containsExactly("1", "1");
+
+        bus.flush();
+
+        assertThat(transport.sent).hasSize(1);
+        assertThat(transport.sent.get(0))
+                .extracting(CacheInvalidation::getCacheName, CacheInvalidation::getCacheKey, CacheInvalidation::getOriginNode)
+                .containsExactlyInAnyOrder(
+                        tuple(CacheNames.BOARD, "1", "node-a"),
+                        tuple(CacheNames.BOARD_COMMENTS, "1", "node-a"));
+        assertThat(meterRegistry.counter("cache.invalidation.coalesced", "node", "node-a").count()).isEqualTo(1);
+
+        bus.flush();
+        assertThat(transport.sent).hasSize(1);
+    }
+
+    @Test
+    void retriesFailedSendOnNextFlush() {
+        bus.publish(CacheNames.BOARD, 1L);
+        transport.failNext = true;
+
+        bus.flush();
+        bus.flush();
+
+        assertThat(transport.sent).hasSize(1);
+        assertThat(transport.sent.get(0)).extracting(CacheInvalidation::getCacheKey).containsExactly("1");
+    }
+
+    @Test
+    void appliesRemoteInvalidationsOnceAndSkipsOwnMessages() {
+        transport.receive(List.of(
+                invalidation("node-b", "1"),
+                invalidation("node-b", "1"),
+                invalidation("node-a", "2"),
+                invalidation("node-c", "3")));
+
+        assertThat(delivered).containsExactly("1", "3");
+        assertThat(meterRegistry.counter("cache.invalidation.received", "node", "node-a").count()).isEqualTo(3);
+    }
+
+    private static CacheInvalidation invalidation(String originNode, String cacheKey) {
+        return CacheInvalidation.builder()
+                .cacheName(CacheNames.BOARD)
+                .cacheKey(cacheKey)
+                .originNode(originNode)
+                .publishedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * 보낸 묶음을 기록하고, 다른 인스턴스에서 온 메시지를 직접 넣을 수 있는 전송
+     */
+    private static final class RecordingTransport implements CacheInvalidationTransport {
+
+        private final List<List<CacheInvalidation>> sent = new ArrayList<>();
+        private Consumer<List<CacheInvalidation>> receiver;
+        private boolean failNext;
+
+        @Override
+        public void send(List<CacheInvalidation> invalidations) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("db down");
+            }
+            sent.add(List.copyOf(invalidations));
+        }
+
+        @Override
+        public void start(Consumer<List<CacheInvalidation>> receiver) {
+            this.receiver = receiver;
+        }
+
+        private void receive(List<CacheInvalidation> invalidations) {
+            receiver.accept(invalidations);
+        }
+    }
+}
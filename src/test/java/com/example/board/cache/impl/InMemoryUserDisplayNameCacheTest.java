@@ -0,0 +1,70 @@
+package com.example.board.cache.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheInvalidationListener;
+import com.example.board.cache.CacheNames;
+import com.example.board.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryUserDisplayNameCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+    private final InMemoryUserDisplayNameCache cache = new InMemoryUserDisplayNameCache(
+            userRepository, cacheInvalidationBus, new SimpleMeterRegistry(), 100, 600, 500);
+
+    @Test
+    void cachesLoadedNamesIncludingMissingUsers() {
+        when(userRepository.findDisplayNames(anyCollection())).thenReturn(Map.of("alice", "Alice"));
+
+        assertThat(cache.getDisplayNames(List.of("alice", "gone"))).containsExactly(Map.entry("alice", "Alice"));
+        assertThat(cache.getDisplayNames(List.of("alice", "gone"))).containsExactly(Map.entry("alice", "Alice"));
+
+        verify(userRepository, times(1)).findDisplayNames(anyCollection());
+        assertThat(cache.isCached(List.of("alice", "gone"))).isTrue();
+    }
+
+    @Test
+    void doesNotCacheNamesLoadedWhileInvalidationHappened() {
+        // 이름을 읽는 사이에 같은 사용자의 무효화가 도착한 경우
+        when(userRepository.findDisplayNames(anyCollection())).thenAnswer(invocation -> {
+            cache.invalidate("alice");
+            return Map.of("alice", "Old Alice");
+        }).thenReturn(Map.of("alice", "New Alice"));
+
+        assertThat(cache.getDisplayNames(List.of("alice"))).containsEntry("alice", "Old Alice");
+        assertThat(cache.isCached(List.of("alice"))).isFalse();
+
+        assertThat(cache.getDisplayNames(List.of("alice"))).containsEntry("alice", "New Alice");
+        assertThat(cache.isCached(List.of("alice"))).isTrue();
+    }
+
+    @Test
+    void subscribesToUserInvalidationsAfterConstruction() {
+        verify(cacheInvalidationBus, never()).subscribe(eq(CacheNames.USER), any());
+        when(userRepository.findDisplayNames(anyCollection())).thenReturn(Map.of("alice", "Alice"));
+        cache.getDisplayNames(List.of("alice"));
+
+        cache.subscribe();
+        ArgumentCaptor<CacheInvalidationListener> listener = ArgumentCaptor.forClass(CacheInvalidationListener.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheNames.USER), listener.capture());
+        listener.getValue().onInvalidate("alice");
+
+        assertThat(cache.isCached(List.of("alice"))).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.board.cache.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시각을 직접 움직여(System.nanoTime 대신) 무게 계산, 만료, 크기 기반 제거를 확인합니다.
+ */
+class WeightedMyBatisCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void tracksWeightOnOverwriteRemoveAndClear() {
+        WeightedMyBatisCache cache = cache(1024 * 1024, 60);
+
+        cache.putObject("a", "x".repeat(100));
+        long small = cache.getWeightBytes();
+        cache.putObject("a", "x".repeat(300));
+        long large = cache.getWeightBytes();
+        cache.putObject("b", "x".repeat(100));
+
+        assertThat(large - small).isEqualTo(200);
+        assertThat(cache.getWeightBytes()).isEqualTo(large + small);
+
+        cache.removeObject("a");
+        assertThat(cache.getWeightBytes()).isEqualTo(small);
+
+        cache.putObject("b", null);
+        assertThat(cache.getWeightBytes()).isZero();
+        assertThat(cache.getSize()).isZero();
+
+        cache.putObject("c", "x".repeat(100));
+        cache.clear();
+        assertThat(cache.getWeightBytes()).isZero();
+    }
+
+    @Test
+    void expiresEntriesAfterTtlAndReleasesTheirWeight() {
+        WeightedMyBatisCache cache = cache(1024 * 1024, 60);
+        cache.putObject("a", "value");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(cache.getObject("a")).isEqualTo("value");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(cache.getObject("a")).isNull();
+        assertThat(cache.getWeightBytes()).isZero();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyReadEntriesDownToNinetyPercent() {
+        WeightedMyBatisCache probe = cache(1024 * 1024, 60);
+        probe.putObject("probe", "x".repeat(100));
+        long entryWeight = probe.getWeightBytes();
+
+        // 항목 10개만큼의 상한
+        WeightedMyBatisCache cache = cache(entryWeight * 10, 60);
+        for (int i = 0; i < 10; i++) {
+            cache.putObject(i, "x".repeat(100));
+            now.incrementAndGet();
+        }
+        // 0번은 최근에 조회되어 제거 순서가 가장 늦음
+        cache.getObject(0);
+        now.incrementAndGet();
+
+        cache.putObject(10, "x".repeat(100));
+
+        assertThat(cache.getWeightBytes()).isLessThanOrEqualTo(entryWeight * 9);
+        assertThat(cache.getSize()).isEqualTo(9);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getObject(1)).isNull();
+        assertThat(cache.getObject(2)).isNull();
+        assertThat(cache.getObject(0)).isNotNull();
+        assertThat(cache.getObject(10)).isNotNull();
+    }
+
+    @Test
+    void dropsExpiredEntriesBeforeRecentlyReadOnes() {
+        WeightedMyBatisCache probe = cache(1024 * 1024, 60);
+        probe.putObject("probe", "x".repeat(100));
+        long entryWeight = probe.getWeightBytes();
+
+        // 항목 3.5개만큼의 상한 (4번째 항목에서 제거 시작, 목표는 3.15개)
+        WeightedMyBatisCache cache = cache(entryWeight * 7 / 2, 60);
+        cache.putObject("old", "x".repeat(100));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        cache.putObject("a", "x".repeat(100));
+        cache.putObject("b", "x".repeat(100));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        cache.putObject("c", "x".repeat(100));
+
+        // 만료된 항목만 제거해도 90% 이하가 되므로 조회 중인 항목은 남음
+        assertThat(cache.getSize()).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isZero();
+        assertThat(cache.getObject("a")).isNotNull();
+        assertThat(cache.getObject("old")).isNull();
+    }
+
+    private WeightedMyBatisCache cache(long maxWeightBytes, long ttlSeconds) {
+        WeightedMyBatisCache cache = new WeightedMyBatisCache("test", now::get);
+        cache.setMaxWeightBytes(maxWeightBytes);
+        cache.setTtlSeconds(ttlSeconds);
+        cache.initialize();
+        return cache;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.board.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    @Test
+    void routesPublicReadsToFastPath() {
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/board"))).isTrue();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/board/12"))).isTrue();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/comment/board/12"))).isTrue();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/reactive/board/12"))).isTrue();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/users/top"))).isFalse();
+    }
+
+    @Test
+    void keepsEncodedMyListPathsOnAuthenticatedChain() {
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/board/my"))).isFalse();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/board/%6Dy"))).isFalse();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/comment/%6d%79"))).isFalse();
+        assertThat(SecurityConfig.isPublicReadPath(get("", "/board/my;jsessionid=x"))).isFalse();
+        assertThat(SecurityConfig.isPublicReadPath(get("/api", "/api/comment/my"))).isFalse();
+    }
+
+    private static MockHttpServletRequest get(String contextPath, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(contextPath);
+        return request;
+    }
+}
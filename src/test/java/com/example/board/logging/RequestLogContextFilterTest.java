@@ -0,0 +1,42 @@
+package com.example.board.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLogContextFilterTest {
+
+    private final RequestLogContextFilter filter = new RequestLogContextFilter(0, "10.0.0.0/8, ::1/128", 2);
+
+    @Test
+    void honoursDebugHeaderOnlyFromTrustedNetworks() throws Exception {
+        assertThat(sampled("10.1.2.3", true)).isTrue();
+        assertThat(sampled("203.0.113.7", true)).isFalse();
+        assertThat(sampled("10.1.2.3", false)).isFalse();
+    }
+
+    @Test
+    void capsForcedSamplesPerSecond() throws Exception {
+        assertThat(sampled("10.1.2.3", true)).isTrue();
+        assertThat(sampled("::1", true)).isTrue();
+        assertThat(sampled("10.1.2.3", true)).isFalse();
+    }
+
+    private boolean sampled(String remoteAddr, boolean debugHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/1");
+        request.setRemoteAddr(remoteAddr);
+        if (debugHeader) {
+            request.addHeader(RequestLogContextFilter.DEBUG_SAMPLE_HEADER, "true");
+        }
+
+        AtomicReference<String> sampled = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> sampled.set(MDC.get(LogContext.DEBUG_SAMPLED)));
+        return Boolean.parseBoolean(sampled.get());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.board.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledDebugTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger appLogger = loggerContext.getLogger("com.example.board.service.impl.BoardServiceImpl");
+    private final Logger otherLogger = loggerContext.getLogger("org.apache.catalina.core.StandardWrapper");
+    private final SampledDebugTurboFilter filter = new SampledDebugTurboFilter();
+
+    SampledDebugTurboFilterTest() {
+        filter.setDebugLoggers("com.example.board, org.mybatis");
+    }
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void acceptsDebugOfConfiguredLoggersOnlyForSampledRequests() {
+        MDC.put(LogContext.DEBUG_SAMPLED, "true");
+
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.ACCEPT);
+        assertThat(decide(otherLogger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void deniesDebugForUnsampledRequests() {
+        MDC.put(LogContext.DEBUG_SAMPLED, "false");
+
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(appLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void leavesLogsOutsideRequestsToLoggerLevels() {
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 보관(복사 후 원본 삭제)을 내장 DB(H2, MySQL 호환 모드)에서 확인합니다.
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive-mapper;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/perf/000_base_schema.sql,classpath:db/migration/*.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArchiveMapperTest {
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private CommentMapper commentMapper;
+
+    @Autowired
+    private ArchiveMapper archiveMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void keepsThreadPositionOfArchivedReply() {
+        BoardV0 board = new BoardV0();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setWriterId("writer");
+        boardMapper.insertBoard(board);
+
+        CommentV0 root = insert(board.getIdx(), null, null, 0);
+        CommentV0 reply = insert(board.getIdx(), root.getIdx(), root.getPath(), 1);
+
+        archiveMapper.insertCommentArchive(List.of(reply.getIdx()));
+
+        Map<String, Object> archived = new JdbcTemplate(dataSource).queryForMap(
+                "SELECT parentIdx, path, depth FROM t_comment_archive WHERE idx = ?", reply.getIdx());
+        assertThat(((Number) archived.get("parentIdx")).longValue()).isEqualTo(root.getIdx());
+        assertThat(archived.get("path")).isEqualTo(reply.getPath());
+        assertThat(((Number) archived.get("depth")).intValue()).isEqualTo(1);
+    }
+
+    private CommentV0 insert(Long boardIdx, Long parentIdx, String parentPath, int depth) {
+        CommentV0 comment = new CommentV0();
+        comment.setBoardIdx(boardIdx);
+        comment.setParentIdx(parentIdx);
+        comment.setComment("comment");
+        comment.setWriterId("writer");
+        comment.setDepth(depth);
+        commentMapper.insertComment(comment);
+        commentMapper.updateCommentPath(comment.getIdx(), parentPath != null ? parentPath + "/" : "");
+        return commentMapper.selectCommentById(comment.getIdx());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 키셋 페이지와 경로(path) 조회를 내장 DB(H2, MySQL 호환 모드)에서 확인합니다.
+ * 테이블은 perf 프로필과 같이 기본 테이블 + db/migration 스크립트로 만듭니다.
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-mapper;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/perf/000_base_schema.sql,classpath:db/migration/*.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentMapperTest {
+
+    /** CommentServiceImpl.MAX_DEPTH와 같은 값 */
+    private static final int MAX_DEPTH = 10;
+
+    private static final Set<String> ALL_FIELDS = CommentV0.SELECTABLE_FIELDS;
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private CommentMapper commentMapper;
+
+    private Long boardIdx;
+
+    @BeforeEach
+    void setUp() {
+        BoardV0 board = new BoardV0();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setWriterId("writer");
+        boardMapper.insertBoard(board);
+        boardIdx = board.getIdx();
+    }
+
+    @Test
+    void pagesTopLevelCommentsByRegDateAndIdxWithoutGapsOrDuplicates() {
+        List<Long> inserted = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            inserted.add(insert(null, null, 0).getIdx());
+        }
+        // 답글은 최상위 댓글 페이지에 포함되지 않음
+        CommentV0 first = commentMapper.selectCommentById(inserted.get(0));
+        insert(first.getIdx(), first.getPath(), 1);
+
+        // 같은 초에 등록되어 regDate가 같아도 idx로 이어서 조회
+        List<Long> paged = new ArrayList<>();
+        CommentV0 last = null;
+        while (true) {
+            List<CommentV0> page = commentMapper.selectTopLevelComments(boardIdx,
+                    last != null ? last.getRegDate() : null, last != null ? last.getIdx() : null, 3, ALL_FIELDS);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(comment -> paged.add(comment.getIdx()));
+            last = page.get(page.size() - 1);
+        }
+
+        assertThat(paged).containsExactlyElementsOf(inserted);
+    }
+
+    @Test
+    void returnsRepliesInThreadOrder() {
+        CommentV0 root = insert(null, null, 0);
+        CommentV0 a = insert(root.getIdx(), root.getPath(), 1);
+        CommentV0 b = insert(root.getIdx(), root.getPath(), 1);
+        CommentV0 a1 = insert(a.getIdx(), a.getPath(), 2);
+        CommentV0 b1 = insert(b.getIdx(), b.getPath(), 2);
+        CommentV0 a2 = insert(a.getIdx(), a.getPath(), 2);
+        CommentV0 a1x = insert(a1.getIdx(), a1.getPath(), 3);
+
+        List<Long> thread = commentMapper.selectReplies(boardIdx, root.getPath(), null, 100)
+                .stream().map(CommentV0::getIdx).toList();
+
+        // 상위 댓글 바로 아래에 그 답글이 이어짐 (등록 순서와 다름)
+        assertThat(thread).containsExactly(a.getIdx(), a1.getIdx(), a1x.getIdx(), a2.getIdx(), b.getIdx(), b1.getIdx());
+
+        // 경로 커서로 이어서 조회
+        List<Long> afterA1x = commentMapper.selectReplies(boardIdx, root.getPath(), a1x.getPath(), 2)
+                .stream().map(CommentV0::getIdx).toList();
+        assertThat(afterA1x).containsExactly(a2.getIdx(), b.getIdx());
+    }
+
+    @Test
+    void storesPathOfDeepestAllowedReply() {
+        CommentV0 parent = insert(null, null, 0);
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            parent = insert(parent.getIdx(), parent.getPath(), depth);
+        }
+
+        // 최대 깊이 답글의 경로도 잘리지 않고 저장됨 (13자 * 11단계 < 255)
+        assertThat(parent.getDepth()).isEqualTo(MAX_DEPTH);
+        assertThat(parent.getPath().split("/")).hasSize(MAX_DEPTH + 1);
+        assertThat(parent.getPath()).endsWith(String.format("%012d", parent.getIdx()));
+    }
+
+    @Test
+    void limitsTopLevelCommentsPerBoardInOneQuery() {
+        BoardV0 other = new BoardV0();
+        other.setTitle("other");
+        other.setContent("content");
+        other.setWriterId("writer");
+        boardMapper.insertBoard(other);
+
+        List<Long> inserted = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            inserted.add(insert(null, null, 0).getIdx());
+        }
+        CommentV0 first = commentMapper.selectCommentById(inserted.get(0));
+        insert(first.getIdx(), first.getPath(), 1);
+        List<Long> otherInserted = List.of(
+                insert(other.getIdx(), null, null, 0).getIdx(),
+                insert(other.getIdx(), null, null, 0).getIdx());
+
+        List<CommentV0> comments = commentMapper.selectTopLevelCommentsByBoardIds(List.of(boardIdx, other.getIdx()), 3);
+
+        // 게시글마다 최상위 댓글만 오래된 순으로 limit건
+        assertThat(comments).filteredOn(comment -> comment.getBoardIdx().equals(boardIdx))
+                .extracting(CommentV0::getIdx).containsExactlyElementsOf(inserted.subList(0, 3));
+        assertThat(comments).filteredOn(comment -> comment.getBoardIdx().equals(other.getIdx()))
+                .extracting(CommentV0::getIdx).containsExactlyElementsOf(otherInserted);
+    }
+
+    @Test
+    void hidesCommentsLeftOnDeletedBoard() {
+        CommentV0 comment = insert(null, null, 0);
+
+        // 게시글만 삭제되고 댓글 일괄 삭제가 중단된 상태
+        boardMapper.deleteBoards(List.of(boardIdx));
+
+        assertThat(commentMapper.selectCommentById(comment.getIdx())).isNull();
+        assertThat(commentMapper.selectAllComments()).extracting(CommentV0::getIdx).doesNotContain(comment.getIdx());
+        assertThat(commentMapper.selectCommentsByWriter("writer", null, null, 10)).isEmpty();
+    }
+
+    private CommentV0 insert(Long parentIdx, String parentPath, int depth) {
+        return insert(boardIdx, parentIdx, parentPath, depth);
+    }
+
+    private CommentV0 insert(Long boardIdx, Long parentIdx, String parentPath, int depth) {
+        CommentV0 comment = new CommentV0();
+        comment.setBoardIdx(boardIdx);
+        comment.setParentIdx(parentIdx);
+        comment.setComment("comment");
+        comment.setWriterId("writer");
+        comment.setDepth(depth);
+        commentMapper.insertComment(comment);
+        commentMapper.updateCommentPath(comment.getIdx(), parentPath != null ? parentPath + "/" : "");
+        return commentMapper.selectCommentById(comment.getIdx());
+    }
+}
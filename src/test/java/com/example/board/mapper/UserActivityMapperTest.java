@@ -0,0 +1,39 @@
+package com.example.board.mapper;
+
+import com.example.board.domain.UserActivity;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활동 순위 조회를 내장 DB(H2, MySQL 호환 모드)에서 확인합니다.
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-activity-mapper;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/perf/000_base_schema.sql,classpath:db/migration/*.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserActivityMapperTest {
+
+    @Autowired
+    private UserActivityMapper userActivityMapper;
+
+    @Test
+    void ranksByCountThenUserId() {
+        userActivityMapper.upsertDelta("carol", 3, 1, null);
+        userActivityMapper.upsertDelta("alice", 5, 0, null);
+        userActivityMapper.upsertDelta("bob", 3, 7, null);
+
+        assertThat(userActivityMapper.selectTop(false, 10)).extracting(UserActivity::getUserId)
+                .containsExactly("alice", "bob", "carol");
+        assertThat(userActivityMapper.selectTop(true, 2)).extracting(UserActivity::getUserId)
+                .containsExactly("bob", "carol");
+    }
+}
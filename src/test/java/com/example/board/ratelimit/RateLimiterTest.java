@@ -0,0 +1,74 @@
+package com.example.board.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(6);   // 10건/1분
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiter rateLimiter = rateLimiter(2);
+    private final RateLimiter.CompiledRule rule = rateLimiter.findRule("POST", "/comment");
+    private final long start = System.nanoTime() + INTERVAL;
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertThat(rule.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(rule.retryAfterSeconds(INTERVAL)).isEqualTo(6);
+        assertThat(rule.retryAfterSeconds(INTERVAL + 1)).isEqualTo(7);
+    }
+
+    @Test
+    void evictsIdleBucketsWhenKeyCapIsReached() {
+        rateLimiter.tryAcquire(rule, "a", start);
+        rateLimiter.tryAcquire(rule, "b", start);
+
+        // a, b 버킷이 다시 가득 찬 뒤에는 새 키가 자리를 얻음
+        long later = start + INTERVAL;
+        assertThat(rateLimiter.tryAcquire(rule, "c", later)).isZero();
+        assertThat(rateLimiter.tryAcquire(rule, "d", later)).isZero();
+        assertThat(meterRegistry.counter("rate.limit.overflow", "rule", "comment").count()).isZero();
+    }
+
+    @Test
+    void sharesOverflowBucketInsteadOfRejectingEveryNewKey() {
+        // a, b 모두 제한 중이라 정리할 버킷이 없음
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(rule, "a", start);
+            rateLimiter.tryAcquire(rule, "b", start);
+        }
+
+        // 새 키는 공용 버킷의 연속 허용량까지 통과, 그 뒤로는 공용 버킷 기준으로 제한
+        assertThat(rateLimiter.tryAcquire(rule, "c", start)).isZero();
+        assertThat(rateLimiter.tryAcquire(rule, "d", start)).isZero();
+        assertThat(rateLimiter.tryAcquire(rule, "e", start)).isZero();
+        assertThat(rateLimiter.tryAcquire(rule, "f", start)).isPositive();
+        assertThat(meterRegistry.counter("rate.limit.overflow", "rule", "comment").count()).isEqualTo(4);
+    }
+
+    private RateLimiter rateLimiter(int maxKeysPerRule) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("comment");
+        rule.setMethod("POST");
+        rule.setPath("/comment");
+        rule.setLimit(10);
+        rule.setPeriod(Duration.ofMinutes(1));
+        rule.setBurst(3);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeysPerRule(maxKeysPerRule);
+        properties.setRules(List.of(rule));
+        try {
+            return new RateLimiter(properties, new ObjectMapper(), meterRegistry);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.board.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시각을 직접 넘겨(System.nanoTime 대신) 연속 허용, 충전, 재시도 대기 시간을 확인합니다.
+ */
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(6);   // 10건/1분
+    private static final int BURST = 3;
+    private static final long TOLERANCE = INTERVAL * BURST;
+
+    private final TokenBucket bucket = new TokenBucket(START);
+
+    @Test
+    void allowsBurstThenRejectsWithTimeUntilNextToken() {
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isZero();
+        }
+
+        assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(START + INTERVAL / 2, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+        }
+
+        long later = START + INTERVAL;
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void rejectedAttemptsDoNotConsumeTokens() {
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+        }
+        for (int i = 0; i < 100; i++) {
+            bucket.tryAcquire(START + i, INTERVAL, TOLERANCE);
+        }
+
+        assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+    }
+
+    @Test
+    void longIdleRefillsOnlyUpToBurst() {
+        long later = START + INTERVAL * 100;
+        assertThat(bucket.isIdle(later)).isTrue();
+
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isPositive();
+        assertThat(bucket.isIdle(later)).isFalse();
+        assertThat(bucket.isIdle(later + TOLERANCE)).isTrue();
+    }
+}
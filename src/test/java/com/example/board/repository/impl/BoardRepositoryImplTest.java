@@ -0,0 +1,73 @@
+package com.example.board.repository.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.impl.MyBatisCacheSupport;
+import com.example.board.cache.impl.WeightedMyBatisCache;
+import com.example.board.domain.BoardV0;
+import com.example.board.mapper.BoardMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조회수 반영 후 2차 캐시에서 반영한 게시글 항목만 제거되는지 확인합니다.
+ * 2차 캐시는 커밋 시 저장되므로 테스트 트랜잭션 없이 문장마다 커밋합니다.
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/perf/000_base_schema.sql,classpath:db/migration/*.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardRepositoryImplTest {
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void evictsOnlyFlushedBoardsFromSecondLevelCache() {
+        BoardRepositoryImpl boardRepository = new BoardRepositoryImpl(boardMapper,
+                new MyBatisCacheSupport(sqlSessionFactory, mock(CacheInvalidationBus.class), new SimpleMeterRegistry()));
+        WeightedMyBatisCache cache = WeightedMyBatisCache.find(BoardMapper.class.getName()).orElseThrow();
+        Long viewed = insert();
+        Long other = insert();
+
+        boardRepository.findById(viewed);
+        boardRepository.findById(other);
+        assertThat(cache.getSize()).isEqualTo(2);
+
+        boardRepository.increaseViews(Map.of(viewed, 5L));
+
+        // 반영한 게시글은 DB에서 다시 읽고, 다른 게시글은 캐시에 남음
+        assertThat(boardRepository.findById(viewed).orElseThrow().getViews()).isEqualTo(5L);
+        long hitsBefore = cache.getHitCount();
+        boardRepository.findById(other);
+        assertThat(cache.getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    private Long insert() {
+        BoardV0 board = new BoardV0();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setWriterId("writer");
+        boardMapper.insertBoard(board);
+        return board.getIdx();
+    }
+}
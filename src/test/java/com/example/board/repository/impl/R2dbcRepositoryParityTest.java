@@ -0,0 +1,141 @@
+package com.example.board.repository.impl;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.CommentReplyCount;
+import com.example.board.mapper.BoardMapper;
+import com.example.board.mapper.CommentMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 논블로킹 조회 경로(R2DBC)가 MyBatis 조회 경로와 같은 결과를 반환하는지 같은 내장 DB(H2)에서 비교합니다.
+ * R2DBC 연결에서 보이도록 테스트 트랜잭션 없이 문장마다 커밋합니다.
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:r2dbc-parity;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/perf/000_base_schema.sql,classpath:db/migration/*.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class R2dbcRepositoryParityTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private CommentMapper commentMapper;
+
+    private final DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get(
+            "r2dbc:h2:mem://sa@/r2dbc-parity?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"));
+    private final R2dbcBoardRepositoryImpl r2dbcBoardRepository = new R2dbcBoardRepositoryImpl(databaseClient);
+    private final R2dbcCommentRepositoryImpl r2dbcCommentRepository = new R2dbcCommentRepositoryImpl(databaseClient);
+
+    private Long boardIdx;
+    private CommentV0 root;
+
+    @BeforeEach
+    void setUp() {
+        BoardV0 board = new BoardV0();
+        board.setTitle("title");
+        board.setContent("content");
+        board.setWriterId("writer");
+        boardMapper.insertBoard(board);
+        boardIdx = board.getIdx();
+
+        root = insertComment(null, null, 0);
+        for (int i = 0; i < 4; i++) {
+            insertComment(null, null, 0);
+        }
+        CommentV0 reply = insertComment(root.getIdx(), root.getPath(), 1);
+        insertComment(reply.getIdx(), reply.getPath(), 2);
+    }
+
+    @Test
+    void boardListMatchesForFullAndPartialFields() {
+        for (Set<String> fields : List.of(BoardV0.SELECTABLE_FIELDS, Set.of("idx", "title", "commentCount"))) {
+            List<BoardV0> expected = boardMapper.selectBoardList(fields);
+            List<BoardV0> actual = r2dbcBoardRepository.findAll(fields).collectList().block(TIMEOUT);
+
+            assertThat(actual).usingRecursiveFieldByFieldElementComparatorIgnoringFields("writerNm")
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void boardDetailMatches() {
+        BoardV0 expected = boardMapper.selectBoardById(boardIdx);
+        BoardV0 actual = r2dbcBoardRepository.findById(boardIdx).block(TIMEOUT);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(r2dbcBoardRepository.findById(-1L).block(TIMEOUT)).isNull();
+    }
+
+    @Test
+    void commentPagesMatchAcrossCursor() {
+        Set<String> fields = CommentV0.SELECTABLE_FIELDS;
+        List<CommentV0> firstExpected = commentMapper.selectTopLevelComments(boardIdx, null, null, 3, fields);
+        List<CommentV0> firstActual = r2dbcCommentRepository.findTopLevelPage(boardIdx, null, null, 3, fields)
+                .collectList().block(TIMEOUT);
+        assertThat(firstActual).usingRecursiveFieldByFieldElementComparatorIgnoringFields("path")
+                .containsExactlyElementsOf(firstExpected);
+
+        CommentV0 last = firstExpected.get(firstExpected.size() - 1);
+        List<CommentV0> nextExpected = commentMapper.selectTopLevelComments(
+                boardIdx, last.getRegDate(), last.getIdx(), 3, fields);
+        List<CommentV0> nextActual = r2dbcCommentRepository.findTopLevelPage(
+                boardIdx, last.getRegDate(), last.getIdx(), 3, fields).collectList().block(TIMEOUT);
+        assertThat(nextActual).usingRecursiveFieldByFieldElementComparatorIgnoringFields("path")
+                .containsExactlyElementsOf(nextExpected);
+        assertThat(nextActual).hasSize(2);
+    }
+
+    @Test
+    void countsMatch() {
+        List<Long> topLevelIds = commentMapper.selectTopLevelComments(boardIdx, null, null, 10, Set.of("idx"))
+                .stream().map(CommentV0::getIdx).toList();
+
+        Map<Long, Integer> expected = commentMapper.selectReplyCounts(topLevelIds).stream()
+                .collect(Collectors.toMap(CommentReplyCount::getParentIdx, CommentReplyCount::getReplyCount));
+        assertThat(r2dbcCommentRepository.countReplies(topLevelIds).block(TIMEOUT))
+                .isEqualTo(expected)
+                .containsEntry(root.getIdx(), 1);
+
+        assertThat(r2dbcCommentRepository.countByBoardIdx(boardIdx).block(TIMEOUT))
+                .isEqualTo(commentMapper.countCommentsByBoardIdx(boardIdx))
+                .isEqualTo(7);
+    }
+
+    private CommentV0 insertComment(Long parentIdx, String parentPath, int depth) {
+        CommentV0 comment = new CommentV0();
+        comment.setBoardIdx(boardIdx);
+        comment.setParentIdx(parentIdx);
+        comment.setComment("comment");
+        comment.setWriterId("writer");
+        comment.setDepth(depth);
+        commentMapper.insertComment(comment);
+        commentMapper.updateCommentPath(comment.getIdx(), parentPath != null ? parentPath + "/" : "");
+        return commentMapper.selectCommentById(comment.getIdx());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheInvalidationListener;
+import com.example.board.cache.CacheNames;
+import com.example.board.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardExistenceServiceImplTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+    private final BoardExistenceServiceImpl service = new BoardExistenceServiceImpl(
+            boardRepository, cacheInvalidationBus, new SimpleMeterRegistry(), 2, 10);
+
+    @Test
+    void answersFromMemoryUpToWatermarkAndFallsBackToDatabaseAbove() {
+        load(100, List.of(5L, 95L));
+
+        // watermark = 100 - 10 = 90
+        assertThat(service.exists(5L)).isTrue();
+        assertThat(service.exists(6L)).isFalse();
+        assertThat(service.exists(90L)).isFalse();
+        assertThat(service.exists(95L)).isTrue();
+        verify(boardRepository, never()).existsById(anyLong());
+
+        when(boardRepository.existsById(96L)).thenReturn(true);
+        assertThat(service.exists(91L)).isFalse();
+        assertThat(service.exists(96L)).isTrue();
+        verify(boardRepository).existsById(91L);
+        verify(boardRepository).existsById(96L);
+
+        // DB에서 확인한 게시글은 다음부터 메모리로 판정
+        assertThat(service.exists(96L)).isTrue();
+        verify(boardRepository).existsById(96L);
+        assertThat(service.mightExist(6L)).isFalse();
+        assertThat(service.mightExist(91L)).isTrue();
+    }
+
+    @Test
+    void usesDatabaseForEveryIdBeforeLoad() {
+        when(boardRepository.existsById(5L)).thenReturn(false);
+
+        assertThat(service.exists(5L)).isFalse();
+        verify(boardRepository).existsById(5L);
+    }
+
+    @Test
+    void keepsDeletionThatRacesWithRebuild() {
+        when(boardRepository.findMaxIdx()).thenReturn(100L);
+        // 재적재가 DB에서 2번을 읽은 직후, 비트를 켜기 전에 2번이 삭제됨
+        when(boardRepository.findLiveIdsAfter(0L, 2)).thenAnswer(invocation -> {
+            service.onBoardsDeleted(List.of(2L));
+            return List.of(1L, 2L);
+        });
+        when(boardRepository.findLiveIdsAfter(2L, 2)).thenAnswer(invocation -> {
+            service.onBoardCreated(101L);
+            service.onBoardsDeleted(List.of(3L));
+            return List.of(3L);
+        });
+
+        service.loadOnStartup();
+
+        assertThat(service.exists(1L)).isTrue();
+        assertThat(service.exists(2L)).isFalse();
+        assertThat(service.exists(3L)).isFalse();
+        assertThat(service.exists(101L)).isTrue();
+        verify(boardRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void rechecksBoardsInvalidatedByOtherInstancesAfterSubscribing() {
+        load(100, List.of(5L));
+        verify(cacheInvalidationBus, never()).subscribe(any(), any());
+
+        service.subscribe();
+        ArgumentCaptor<CacheInvalidationListener> listener = ArgumentCaptor.forClass(CacheInvalidationListener.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheNames.BOARD), listener.capture());
+        listener.getValue().onInvalidate("5");
+        listener.getValue().onInvalidate("7");
+        when(boardRepository.findLiveIds(any())).thenReturn(List.of(7L));
+
+        service.recheckPending();
+
+        assertThat(service.exists(5L)).isFalse();
+        assertThat(service.exists(7L)).isTrue();
+    }
+
+    private void load(long maxIdx, List<Long> liveIds) {
+        when(boardRepository.findMaxIdx()).thenReturn(maxIdx);
+        when(boardRepository.findLiveIdsAfter(anyLong(), anyInt())).thenReturn(liveIds).thenReturn(List.of());
+        service.loadOnStartup();
+    }
+}
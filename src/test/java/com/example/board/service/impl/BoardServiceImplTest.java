@@ -0,0 +1,96 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.UserDisplayNameCache;
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardBatchResponse;
+import com.example.board.dto.BoardDetailResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.service.BoardExistenceService;
+import com.example.board.service.CommentService;
+import com.example.board.service.TrendingService;
+import com.example.board.service.UserActivityService;
+import com.example.board.service.ViewCountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardServiceImplTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final BoardServiceImpl boardService = new BoardServiceImpl(
+            boardRepository, mock(CommentRepository.class), commentService, mock(BoardExistenceService.class),
+            mock(ViewCountService.class), mock(TrendingService.class), mock(UserActivityService.class),
+            mock(UserDisplayNameCache.class), mock(CacheInvalidationBus.class), mock(TransactionTemplate.class), 1000);
+
+    @Test
+    void returnsBoardsInRequestOrderAndReportsMissingIds() {
+        when(boardRepository.findAllByIds(List.of(3L, 1L, 2L))).thenReturn(List.of(board(1L), board(3L)));
+        when(commentService.getFirstCommentPages(Set.of(1L, 3L), 5)).thenReturn(Map.of(
+                1L, CursorPage.of(List.of(comment(1L, 10L)), "next"),
+                3L, CursorPage.of(List.of(), null)));
+
+        BoardBatchResponse response = boardService.getBoardsWithComments(List.of(3L, 1L, 2L, 3L), 5);
+
+        assertThat(response.getBoards()).extracting(detail -> detail.getBoard().getIdx()).containsExactly(3L, 1L);
+        assertThat(response.getMissingIds()).containsExactly(2L);
+
+        BoardDetailResponse first = response.getBoards().get(1);
+        assertThat(first.getComments()).extracting(CommentV0::getIdx).containsExactly(10L);
+        assertThat(first.getCommentNextCursor()).isEqualTo("next");
+    }
+
+    @Test
+    void limitsDistinctIdsPerRequest() {
+        List<Long> hundredWithDuplicates = LongStream.rangeClosed(1, 101).map(id -> Math.min(id, 100)).boxed().toList();
+        boardService.getBoardsWithComments(hundredWithDuplicates, 5);
+        verify(boardRepository).findAllByIds(LongStream.rangeClosed(1, 100).boxed().toList());
+
+        List<Long> hundredOne = LongStream.rangeClosed(1, 101).boxed().toList();
+        assertThatThrownBy(() -> boardService.getBoardsWithComments(hundredOne, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(boardRepository, never()).findAllByIds(eq(hundredOne));
+    }
+
+    @Test
+    void reportsEveryIdMissingWhenNoBoardIsFound() {
+        when(boardRepository.findAllByIds(any())).thenReturn(List.of());
+
+        BoardBatchResponse response = boardService.getBoardsWithComments(List.of(7L, 8L), 5);
+
+        assertThat(response.getBoards()).isEmpty();
+        assertThat(response.getMissingIds()).containsExactly(7L, 8L);
+    }
+
+    private static BoardV0 board(Long idx) {
+        BoardV0 board = new BoardV0();
+        board.setIdx(idx);
+        board.setTitle("title");
+        board.setCommentCount(1);
+        return board;
+    }
+
+    private static CommentV0 comment(Long boardIdx, Long idx) {
+        CommentV0 comment = new CommentV0();
+        comment.setBoardIdx(boardIdx);
+        comment.setIdx(idx);
+        return comment;
+    }
+}
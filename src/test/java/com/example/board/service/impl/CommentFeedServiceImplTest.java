@@ -0,0 +1,178 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.CommentV0;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentFeedServiceImplTest {
+
+    private static final int QUEUE_CAPACITY = 2;
+    private static final int MAX_SUBSCRIBERS = 2;
+
+    /** 다음 구독에 사용할 연결 */
+    private final Deque<TestEmitter> nextEmitters = new ArrayDeque<>();
+
+    private final CommentFeedServiceImpl service = new CommentFeedServiceImpl(
+            new ObjectMapper(), 60_000, QUEUE_CAPACITY, MAX_SUBSCRIBERS, 30_000, 2) {
+        @Override
+        SseEmitter newEmitter() {
+            return nextEmitters.poll();
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void disconnectsSlowSubscriberWithoutAffectingOthers() throws Exception {
+        TestEmitter slow = subscribe(1L, true);
+        TestEmitter fast = subscribe(1L, false);
+        assertThat(slow.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.nextFrame()).contains("connected");
+
+        // 느린 구독자는 첫 프레임 전송에 묶여 큐가 차고, 다음 이벤트에서 연결이 끊김
+        for (long commentIdx = 1; commentIdx <= QUEUE_CAPACITY + 1; commentIdx++) {
+            service.publishDeleted(comment(1L, commentIdx));
+            assertThat(fast.nextFrame()).contains("comment-deleted").contains("id:" + commentIdx);
+        }
+        slow.release.countDown();
+
+        assertThat(slow.completed).isTrue();
+        assertThat(fast.completed).isFalse();
+
+        // 끊긴 구독자 자리는 새 구독자가 사용
+        TestEmitter next = subscribe(1L, false);
+        assertThat(next.nextFrame()).contains("connected");
+    }
+
+    @Test
+    void rejectsSubscribersOverLimitWithRetryHint() throws Exception {
+        subscribe(1L, false);
+        subscribe(2L, false);
+
+        TestEmitter rejected = subscribe(3L, false);
+
+        assertThat(rejected.nextFrame()).contains("retry:30000").contains("subscriber limit exceeded");
+        assertThat(rejected.completed).isTrue();
+    }
+
+    @Test
+    void deliversEventsOnlyToSubscribersOfTheBoard() throws Exception {
+        TestEmitter board1 = subscribe(1L, false);
+        TestEmitter board2 = subscribe(2L, false);
+        board1.nextFrame();
+        board2.nextFrame();
+
+        service.publishDeleted(comment(2L, 7L));
+
+        assertThat(board2.nextFrame()).contains("id:7");
+        assertThat(board1.frames.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void heartbeatReachesSubscribersAndRemovesBrokenConnections() throws Exception {
+        TestEmitter alive = subscribe(1L, false);
+        TestEmitter broken = subscribe(2L, false);
+        alive.nextFrame();
+        broken.nextFrame();
+        broken.broken = true;
+
+        service.sendHeartbeat();
+
+        assertThat(alive.nextFrame()).contains(":ping");
+        // 전송에 실패한 연결이 정리되어 상한 안에서 새 구독을 받음
+        TestEmitter next = subscribeWhenSlotFrees(3L);
+        assertThat(next.nextFrame()).contains("connected");
+    }
+
+    private TestEmitter subscribe(Long boardIdx, boolean slow) {
+        TestEmitter emitter = new TestEmitter(slow);
+        nextEmitters.add(emitter);
+        service.subscribe(boardIdx);
+        return emitter;
+    }
+
+    private TestEmitter subscribeWhenSlotFrees(Long boardIdx) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            TestEmitter emitter = subscribe(boardIdx, false);
+            if (!emitter.completed || System.nanoTime() > deadline) {
+                return emitter;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static CommentV0 comment(Long boardIdx, Long idx) {
+        CommentV0 comment = new CommentV0();
+        comment.setBoardIdx(boardIdx);
+        comment.setIdx(idx);
+        return comment;
+    }
+
+    /**
+     * 보낸 프레임을 기록하는 연결 (slow면 첫 전송을 release까지 붙잡음)
+     */
+    private static final class TestEmitter extends SseEmitter {
+
+        private final boolean slow;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+        private volatile boolean broken;
+
+        private TestEmitter(boolean slow) {
+            this.slow = slow;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (broken) {
+                throw new IOException("connection reset");
+            }
+            sendStarted.countDown();
+            if (slow) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            send(builder.build());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private String nextFrame() throws InterruptedException {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertThat(frame).isNotNull();
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.UserDisplayNameCache;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.CursorPage;
+import com.example.board.repository.CommentRepository;
+import com.example.board.service.BoardExistenceService;
+import com.example.board.service.CommentFeedService;
+import com.example.board.service.TrendingService;
+import com.example.board.service.UserActivityService;
+import com.example.board.util.CursorCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceImplTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private BoardExistenceService boardExistenceService;
+    @Mock
+    private CommentFeedService commentFeedService;
+    @Mock
+    private TrendingService trendingService;
+    @Mock
+    private UserActivityService userActivityService;
+    @Mock
+    private UserDisplayNameCache userDisplayNameCache;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @Test
+    void rejectsReplyToCommentAtMaxDepth() {
+        when(boardExistenceService.exists(1L)).thenReturn(true);
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent(100L, 1L, 10)));
+
+        ApiResponse<Void> result = commentService.createComment(reply(1L, 100L), "writer");
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("더 이상 답글을 달 수 없습니다.");
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void acceptsReplyAtDepthBelowLimit() {
+        when(boardExistenceService.exists(1L)).thenReturn(true);
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent(100L, 1L, 9)));
+
+        CommentV0 reply = reply(1L, 100L);
+        ApiResponse<Void> result = commentService.createComment(reply, "writer");
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(reply.getDepth()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsReplyToCommentOfAnotherBoard() {
+        when(boardExistenceService.exists(1L)).thenReturn(true);
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent(100L, 2L, 0)));
+
+        ApiResponse<Void> result = commentService.createComment(reply(1L, 100L), "writer");
+
+        assertThat(result.isSuccess()).isFalse();
+    }
+
+    @Test
+    void rejectsTamperedPageCursor() {
+        // 형식은 맞지만 정렬 키 값이 바뀐 커서
+        String tampered = CursorCodec.encode("2026-13-40T99:00", "1 OR 1=1");
+
+        assertThatThrownBy(() -> commentService.getCommentPage(1L, tampered, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rejectsReplyCursorOutsideRootThread() {
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent(100L, 1L, 0)));
+        String otherThread = CursorCodec.encode("000000000200/000000000201");
+
+        assertThatThrownBy(() -> commentService.getReplyPage(100L, otherThread, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void splitsFirstCommentPagesPerBoardWithinLimit() {
+        Set<Long> boardIds = Set.of(1L, 2L, 3L);
+        // 게시글마다 size + 1건까지 조회해 다음 페이지 여부를 판단
+        when(commentRepository.findTopLevelByBoardIds(eq(boardIds), eq(3))).thenReturn(List.of(
+                topLevel(1L, 10L), topLevel(1L, 11L), topLevel(1L, 12L), topLevel(2L, 20L)));
+
+        Map<Long, CursorPage<CommentV0>> pages = commentService.getFirstCommentPages(boardIds, 2);
+
+        assertThat(pages.get(1L).getItems()).extracting(CommentV0::getIdx).containsExactly(10L, 11L);
+        assertThat(pages.get(1L).isHasNext()).isTrue();
+        assertThat(pages.get(2L).getItems()).extracting(CommentV0::getIdx).containsExactly(20L);
+        assertThat(pages.get(2L).isHasNext()).isFalse();
+        assertThat(pages.get(3L).getItems()).isEmpty();
+    }
+
+    private static CommentV0 topLevel(Long boardIdx, Long idx) {
+        CommentV0 comment = new CommentV0();
+        comment.setIdx(idx);
+        comment.setBoardIdx(boardIdx);
+        comment.setRegDate(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return comment;
+    }
+
+    private static CommentV0 parent(Long idx, Long boardIdx, int depth) {
+        CommentV0 parent = new CommentV0();
+        parent.setIdx(idx);
+        parent.setBoardIdx(boardIdx);
+        parent.setComment("parent");
+        parent.setDelYn("N");
+        parent.setDepth(depth);
+        parent.setPath(String.format("%012d", idx));
+        return parent;
+    }
+
+    private static CommentV0 reply(Long boardIdx, Long parentIdx) {
+        CommentV0 reply = new CommentV0();
+        reply.setBoardIdx(boardIdx);
+        reply.setParentIdx(parentIdx);
+        reply.setComment("reply");
+        return reply;
+    }
+}
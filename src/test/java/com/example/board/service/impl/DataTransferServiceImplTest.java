@@ -0,0 +1,158 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.domain.JobCheckpoint;
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.BoardTransferRecord;
+import com.example.board.dto.CommentTransferRecord;
+import com.example.board.dto.ImportResult;
+import com.example.board.repository.DataTransferRepository;
+import com.example.board.repository.JobCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 중단된 가져오기를 이어서 처리할 때 체크포인트(행 순번 + 내용 지문)를 확인합니다.
+ */
+class DataTransferServiceImplTest {
+
+    private final InMemoryCheckpoints checkpoints = new InMemoryCheckpoints();
+    private final FailingDataTransferRepository dataTransferRepository = new FailingDataTransferRepository();
+    private final DataTransferServiceImpl service = new DataTransferServiceImpl(
+            dataTransferRepository, checkpoints, mock(CacheInvalidationBus.class), new ObjectMapper(),
+            mock(PlatformTransactionManager.class), 2);
+
+    @Test
+    void resumesSameFileAfterLastCommittedRow() {
+        String file = ndjson("title", 1, 5);
+        dataTransferRepository.failOnCall = 2;
+
+        ApiResponse<ImportResult> failed = service.importBoards(stream(file), true);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(checkpoints.get().getLastRow()).isEqualTo(2);
+
+        ApiResponse<ImportResult> resumed = service.importBoards(stream(file), true);
+
+        assertThat(resumed.isSuccess()).isTrue();
+        assertThat(resumed.getData().getSkipped()).isEqualTo(2);
+        assertThat(resumed.getData().getImported()).isEqualTo(3);
+        assertThat(dataTransferRepository.upserted).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(checkpoints.get().getLastRow()).isZero();
+    }
+
+    @Test
+    void refusesToResumeWithDifferentFile() {
+        dataTransferRepository.failOnCall = 2;
+        service.importBoards(stream(ndjson("title", 1, 5)), true);
+        dataTransferRepository.upserted.clear();
+
+        // 행 수와 idx는 같지만 내용이 다른 파일
+        String other = ndjson("changed", 1, 5);
+
+        assertThatThrownBy(() -> service.importBoards(stream(other), true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(dataTransferRepository.upserted).isEmpty();
+        assertThat(checkpoints.get().getLastRow()).isEqualTo(2);
+
+        ApiResponse<ImportResult> restarted = service.importBoards(stream(other), false);
+        assertThat(restarted.isSuccess()).isTrue();
+        assertThat(restarted.getData().getImported()).isEqualTo(5);
+    }
+
+    @Test
+    void refusesToResumeWithShorterFile() {
+        dataTransferRepository.failOnCall = 3;
+        service.importBoards(stream(ndjson("title", 1, 6)), true);
+
+        assertThatThrownBy(() -> service.importBoards(stream(ndjson("title", 1, 3)), true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String ndjson(String title, long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(idx -> "{\"idx\":" + idx + ",\"title\":\"" + title + idx + "\",\"content\":\"c\",\"delYn\":\"N\"}")
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class FailingDataTransferRepository implements DataTransferRepository {
+
+        private final List<Long> upserted = new ArrayList<>();
+        private int calls;
+        private int failOnCall;
+
+        @Override
+        public long streamBoards(long afterIdx, Consumer<BoardTransferRecord> consumer) {
+            return 0;
+        }
+
+        @Override
+        public long streamComments(long afterIdx,
+                                   Consumer<CommentTransferRecord> consumer) {
+            return 0;
+        }
+
+        @Override
+        public void upsertBoards(List<BoardTransferRecord> boards) {
+            if (++calls == failOnCall) {
+                throw new IllegalStateException("connection lost");
+            }
+            boards.forEach(board -> upserted.add(board.getIdx()));
+        }
+
+        @Override
+        public void upsertComments(List<CommentTransferRecord> comments) {
+        }
+    }
+
+    private static final class InMemoryCheckpoints implements JobCheckpointRepository {
+
+        private final Map<String, JobCheckpoint> checkpoints = new HashMap<>();
+
+        JobCheckpoint get() {
+            return checkpoints.get("import.board");
+        }
+
+        @Override
+        public Optional<Long> findLastIdx(String jobName) {
+            return find(jobName).map(JobCheckpoint::getLastIdx);
+        }
+
+        @Override
+        public void save(String jobName, long lastIdx) {
+            JobCheckpoint checkpoint = new JobCheckpoint();
+            checkpoint.setJobName(jobName);
+            checkpoint.setLastIdx(lastIdx);
+            save(checkpoint);
+        }
+
+        @Override
+        public Optional<JobCheckpoint> find(String jobName) {
+            return Optional.ofNullable(checkpoints.get(jobName));
+        }
+
+        @Override
+        public void save(JobCheckpoint checkpoint) {
+            checkpoints.put(checkpoint.getJobName(), checkpoint);
+        }
+    }
+}
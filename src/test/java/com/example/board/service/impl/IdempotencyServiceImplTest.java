@@ -0,0 +1,112 @@
+package com.example.board.service.impl;
+
+import com.example.board.dto.ApiResponse;
+import com.example.board.dto.IdempotentResponse;
+import com.example.board.repository.IdempotencyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceImplTest {
+
+    private static final int MAX_ENTRIES = 2;
+
+    private final IdempotencyServiceImpl service = new IdempotencyServiceImpl(
+            mock(IdempotencyRepository.class), new ObjectMapper(), new SimpleMeterRegistry(),
+            86400, MAX_ENTRIES, 5000, false);
+
+    @Test
+    void replaysFirstSuccessfulResponse() {
+        AtomicInteger executions = new AtomicInteger();
+
+        IdempotentResponse first = service.execute("board", "user", "key", Map.of("title", "t"),
+                () -> success(executions));
+        IdempotentResponse retry = service.execute("board", "user", "key", Map.of("title", "t"),
+                () -> success(executions));
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.isReplayed()).isFalse();
+        assertThat(retry.isReplayed()).isTrue();
+    }
+
+    @Test
+    void doesNotStoreFailedResponse() {
+        AtomicInteger executions = new AtomicInteger();
+
+        service.execute("board", "user", "key", Map.of(), () -> {
+            executions.incrementAndGet();
+            return ApiResponse.failure("failed");
+        });
+        IdempotentResponse retry = service.execute("board", "user", "key", Map.of(), () -> success(executions));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.isReplayed()).isFalse();
+    }
+
+    @Test
+    void inFlightKeyIsNotEvictedByLruCapacity() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<IdempotentResponse> slow = CompletableFuture.supplyAsync(() ->
+                service.execute("board", "user", "slow", Map.of(), () -> {
+                    started.countDown();
+                    await(release);
+                    return success(executions);
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 처리 중에 상한을 넘는 다른 키들이 완료되어 LRU 제거가 일어남
+        for (int i = 0; i < MAX_ENTRIES * 3; i++) {
+            service.execute("board", "user", "other-" + i, Map.of(), () -> ApiResponse.success("ok"));
+        }
+
+        CompletableFuture<IdempotentResponse> retry = CompletableFuture.supplyAsync(() ->
+                service.execute("board", "user", "slow", Map.of(), () -> success(executions)));
+        release.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS).isReplayed()).isFalse();
+        assertThat(retry.get(5, TimeUnit.SECONDS).isReplayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void deletesExpiredRowsUntilLastPartialChunk() {
+        IdempotencyRepository repository = mock(IdempotencyRepository.class);
+        IdempotencyServiceImpl persistent = new IdempotencyServiceImpl(
+                repository, new ObjectMapper(), new SimpleMeterRegistry(), 86400, MAX_ENTRIES, 5000, true);
+        when(repository.deleteExpired(anyLong(), eq(1000))).thenReturn(1000, 1000, 3);
+
+        persistent.cleanupExpired();
+
+        verify(repository, times(3)).deleteExpired(anyLong(), eq(1000));
+    }
+
+    private static ApiResponse<Void> success(AtomicInteger executions) {
+        executions.incrementAndGet();
+        return ApiResponse.success("ok");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
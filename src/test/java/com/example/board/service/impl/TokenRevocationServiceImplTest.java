@@ -0,0 +1,94 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.TokenRevocation;
+import com.example.board.repository.TokenRevocationRepository;
+import com.example.board.util.JwtTokenUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceImplTest {
+
+    /** 밀리초가 0이 아닌 폐기 시각 */
+    private static final long USER_REVOKED_AT = 1_700_000_000_300L;
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationServiceImpl service = new TokenRevocationServiceImpl(repository,
+            new JwtTokenUtil("testSecretKeyForJwtTokenGenerationThatIsLongEnoughForHS512Algorithm!!!!!!", 3600),
+            meterRegistry, 100, 0.01, 1000, 100);
+
+    @Test
+    void revokesOnlyTheLoggedOutToken() {
+        long now = System.currentTimeMillis();
+
+        service.revokeToken("jti-1", "alice", now + 60_000);
+
+        verify(repository).save(any(TokenRevocation.class));
+        assertThat(service.isRevoked("jti-1", "alice", now)).isTrue();
+        assertThat(service.isRevoked("jti-2", "alice", now)).isFalse();
+    }
+
+    @Test
+    void ignoresTokenRevocationPastTokenExpiry() {
+        long now = System.currentTimeMillis();
+
+        service.revokeToken("jti-1", "alice", now - 1);
+
+        assertThat(service.isRevoked("jti-1", "alice", now)).isFalse();
+    }
+
+    @Test
+    void comparesUserRevocationAtSecondGranularity() {
+        syncUserRevocation("alice", USER_REVOKED_AT);
+
+        // iat는 초 단위라 폐기 시각과 같은 초에 발급된 토큰은 폐기 전후를 구분할 수 없어 함께 폐기
+        assertThat(service.isRevoked(null, "alice", USER_REVOKED_AT - 1_000)).isTrue();
+        assertThat(service.isRevoked(null, "alice", 1_700_000_000_000L)).isTrue();
+        assertThat(service.isRevoked(null, "alice", 1_700_000_001_000L)).isFalse();
+        assertThat(service.isRevoked(null, "bob", 1_700_000_000_000L)).isFalse();
+    }
+
+    @Test
+    void cleanupDropsExpiredEntriesAndRebuildsBloomFilter() {
+        long now = System.currentTimeMillis();
+        service.revokeToken("expired", "alice", now - 1);
+        service.revokeToken("active", "alice", now + 60_000);
+
+        service.cleanup();
+
+        verify(repository).deleteExpired(anyLong());
+        assertThat(meterRegistry.get("auth.revocation.entries").gauge().value()).isEqualTo(1);
+        assertThat(service.isRevoked("active", null, now)).isTrue();
+
+        // 정리된 항목은 새 Bloom 필터에 없으므로 맵 조회 없이 통과
+        double passedBefore = bloomPassCount();
+        assertThat(service.isRevoked("expired", null, now)).isFalse();
+        assertThat(bloomPassCount()).isEqualTo(passedBefore + 1);
+    }
+
+    private void syncUserRevocation(String userId, long revokedAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setId(1L);
+        revocation.setRevokeType(TokenRevocation.TYPE_USER);
+        revocation.setUserId(userId);
+        revocation.setRevokedAt(revokedAt);
+        revocation.setExpiresAt(Long.MAX_VALUE);
+        when(repository.findActiveAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of(revocation));
+
+        service.syncPeriodically();
+    }
+
+    private double bloomPassCount() {
+        return meterRegistry.counter("auth.revocation.check", "result", "bloom-pass").count();
+    }
+}
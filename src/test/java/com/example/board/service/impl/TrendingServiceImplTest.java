@@ -0,0 +1,164 @@
+package com.example.board.service.impl;
+
+import com.example.board.cache.CacheInvalidationBus;
+import com.example.board.cache.CacheInvalidationListener;
+import com.example.board.cache.CacheNames;
+import com.example.board.dto.BoardActivity;
+import com.example.board.dto.TrendingBoard;
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingServiceImplTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+
+    private TrendingServiceImpl service = newService(10_000, 60_000);
+
+    @Test
+    void decaysOlderActivityByHalfLife() {
+        LocalDateTime now = LocalDateTime.now();
+        when(boardRepository.findActivitySince(any())).thenReturn(List.of(activity(2L, now, 1)));
+        when(commentRepository.findActivitySince(any())).thenReturn(List.of(
+                activity(1L, now.minusHours(12), 1),
+                activity(3L, now.minusHours(6), 2)));
+
+        service.rebuildFromDatabase();
+
+        // 반감기 6시간: 댓글(5) 12시간 전 = 1.25, 댓글 2건 6시간 전 = 5, 게시글(2) 지금 = 2
+        List<TrendingBoard> top = service.getTopBoards(10);
+        assertThat(boardIds(top)).containsExactly(3L, 2L, 1L);
+        assertThat(top.get(0).getScore()).isCloseTo(5.0, within(0.01));
+        assertThat(top.get(2).getScore()).isCloseTo(1.25, within(0.01));
+        assertThat(top).extracting(TrendingBoard::getRank).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keepsRankingOrderedAcrossIncrementalUpdates() {
+        for (long boardIdx = 1; boardIdx <= 50; boardIdx++) {
+            service.onBoardCreated(boardIdx);
+        }
+        service.onBoardViews(Map.of(10L, 30L, 20L, 10L));
+        assertThat(boardIds(service.getTopBoards(3))).containsExactly(10L, 20L, 50L);
+
+        // 조회 후 갱신된 점수로 다시 정렬 (캐시된 스냅샷을 쓰지 않음)
+        service.onCommentCreated(20L);
+        service.onCommentCreated(20L);
+        service.onCommentCreated(20L);
+        service.onCommentCreated(20L);
+        assertThat(boardIds(service.getTopBoards(3))).containsExactly(20L, 10L, 50L);
+
+        // 같은 점수는 최신 게시글(번호 큰 순) 먼저
+        assertThat(boardIds(service.getTopBoards(5)).subList(2, 5)).containsExactly(50L, 49L, 48L);
+        assertThat(service.getTopBoards(100)).hasSize(50);
+    }
+
+    @Test
+    void evictsLowestScoreWhenTrackedBoardsExceedLimit() {
+        service = newService(2, 60_000);
+
+        service.onBoardViews(Map.of(1L, 10L, 2L, 5L));
+        service.onBoardCreated(3L);
+
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(1L, 2L);
+
+        // 제외된 게시글도 이후 점수가 충분하면 다시 순위에 오름
+        service.onBoardViews(Map.of(3L, 20L));
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void ignoresScoresArrivingAfterDelete() {
+        service.onBoardCreated(1L);
+        service.onBoardCreated(2L);
+
+        service.onBoardDeleted(1L);
+        // 삭제 전에 집계된 조회수, 삭제와 경합한 댓글 등록
+        service.onBoardViews(Map.of(1L, 100L, 2L, 1L));
+        service.onCommentCreated(1L);
+
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(2L);
+    }
+
+    @Test
+    void forgetsDeletedBoardsAfterRetention() {
+        service = newService(10_000, 0);
+
+        service.onBoardDeleted(1L);
+        service.onCommentCreated(1L);
+
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(1L);
+    }
+
+    @Test
+    void removesBoardsDeletedOnOtherInstances() {
+        service.onBoardCreated(1L);
+        service.onBoardCreated(2L);
+        service.onBoardCreated(3L);
+        CacheInvalidationListener listener = subscribedListener();
+
+        // 1은 다른 인스턴스에서 삭제, 2는 수정 (무효화는 둘 다 발행됨)
+        listener.onInvalidate("1");
+        listener.onInvalidate("2");
+        when(boardRepository.findLiveIds(any())).thenReturn(List.of(2L));
+        service.recheckPending();
+        service.onBoardViews(Map.of(1L, 10L));
+
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void retriesRecheckWhenDatabaseFails() {
+        service.onBoardCreated(1L);
+        CacheInvalidationListener listener = subscribedListener();
+        listener.onInvalidate("1");
+
+        when(boardRepository.findLiveIds(any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+        service.recheckPending();
+        assertThat(boardIds(service.getTopBoards(10))).containsExactly(1L);
+
+        service.recheckPending();
+        assertThat(service.getTopBoards(10)).isEmpty();
+    }
+
+    private CacheInvalidationListener subscribedListener() {
+        service.subscribe();
+        ArgumentCaptor<CacheInvalidationListener> listener = ArgumentCaptor.forClass(CacheInvalidationListener.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheNames.BOARD), listener.capture());
+        return listener.getValue();
+    }
+
+    private TrendingServiceImpl newService(int maxTrackedBoards, long deletedRetentionMillis) {
+        return new TrendingServiceImpl(boardRepository, commentRepository, cacheInvalidationBus,
+                6, 48, maxTrackedBoards, 100, 2.0, 5.0, 1.0, deletedRetentionMillis);
+    }
+
+    private static BoardActivity activity(Long boardIdx, LocalDateTime activityAt, int count) {
+        BoardActivity activity = new BoardActivity();
+        activity.setBoardIdx(boardIdx);
+        activity.setActivityAt(activityAt);
+        activity.setActivityCount(count);
+        return activity;
+    }
+
+    private static List<Long> boardIds(List<TrendingBoard> boards) {
+        return boards.stream().map(TrendingBoard::getBoardIdx).toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.board.service.impl;
+
+import com.example.board.repository.UserActivityRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserActivityServiceImplTest {
+
+    private final UserActivityRepository userActivityRepository = mock(UserActivityRepository.class);
+    private final UserActivityServiceImpl service = new UserActivityServiceImpl(userActivityRepository, false, 2);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recountsWritersOfDeletedBoardsInBatches() {
+        List<String> writers = IntStream.rangeClosed(1, 5).mapToObj(i -> "user" + i).toList();
+        when(userActivityRepository.findWriterIdsByBoardIds(List.of(1L))).thenReturn(writers);
+
+        service.onBoardsDeleted(List.of(1L));
+
+        ArgumentCaptor<Collection<String>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(userActivityRepository, times(3)).recount(batches.capture());
+        assertThat(batches.getAllValues()).containsExactly(
+                List.of("user1", "user2"), List.of("user3", "user4"), List.of("user5"));
+    }
+
+    @Test
+    void validatesRankingCriteriaAndLimit() {
+        service.getTopUsers("comments", 10);
+        verify(userActivityRepository).findTop(true, 10);
+
+        assertThatThrownBy(() -> service.getTopUsers("views", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getTopUsers("boards", 101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
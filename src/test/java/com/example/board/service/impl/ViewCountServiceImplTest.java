@@ -0,0 +1,125 @@
+package com.example.board.service.impl;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.repository.BoardRepository;
+import com.example.board.service.TrendingService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ViewCountServiceImplTest {
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final TrendingService trendingService = mock(TrendingService.class);
+    private final Map<Long, AtomicLong> persistedViews = new ConcurrentHashMap<>();
+    private final AtomicBoolean failWrites = new AtomicBoolean();
+
+    private ViewCountServiceImpl newService() {
+        doAnswer(invocation -> {
+            if (failWrites.get()) {
+                throw new IllegalStateException("db down");
+            }
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((idx, delta) -> persistedViews.computeIfAbsent(idx, key -> new AtomicLong()).addAndGet(delta));
+            return null;
+        }).when(boardRepository).increaseViews(anyMap());
+        return new ViewCountServiceImpl(boardRepository, trendingService, 100);
+    }
+
+    @Test
+    void incrementsAreNotLostWhileIdleCountersAreRetired() throws Exception {
+        ViewCountServiceImpl service = newService();
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        int boards = 64;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 짧은 간격으로 계속 반영하여 카운터가 0이 되어 폐기되는 경우를 자주 만듦
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                service.flush();
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    service.increment((long) ((i * 7 + offset) % boards));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        running.set(false);
+        flusher.join();
+        service.flush();
+
+        long total = persistedViews.values().stream().mapToLong(AtomicLong::get).sum();
+        assertThat(total).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    @Test
+    void pendingViewsAreVisibleBeforeAndAfterFlush() {
+        ViewCountServiceImpl service = newService();
+        service.increment(1L);
+        service.increment(1L);
+
+        BoardV0 board = board(1L, 10L);
+        service.applyPendingViews(board);
+        assertThat(board.getViews()).isEqualTo(12L);
+
+        service.flush();
+        assertThat(persistedViews.get(1L).get()).isEqualTo(2L);
+
+        // 반영 후 다음 주기에 빈 카운터가 폐기되어도 새 조회는 다시 집계
+        service.flush();
+        service.increment(1L);
+        service.flush();
+        assertThat(persistedViews.get(1L).get()).isEqualTo(3L);
+    }
+
+    @Test
+    void failedFlushIsRetriedOnNextCycle() {
+        ViewCountServiceImpl service = newService();
+        service.increment(5L);
+
+        failWrites.set(true);
+        service.flush();
+        BoardV0 board = board(5L, 0L);
+        service.applyPendingViews(board);
+        assertThat(board.getViews()).isEqualTo(1L);
+        assertThat(persistedViews).isEmpty();
+
+        failWrites.set(false);
+        service.flush();
+        assertThat(persistedViews.get(5L).get()).isEqualTo(1L);
+    }
+
+    private static BoardV0 board(Long idx, Long views) {
+        BoardV0 board = new BoardV0();
+        board.setIdx(idx);
+        board.setViews(views);
+        return board;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAddedKeys() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTargetAtExpectedSize() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // 목표 1%, 해시 분포 편차를 감안해 2배까지 허용
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void worksWithMinimalSize() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertThat(filter.mightContain("user:alice")).isFalse();
+        filter.put("user:alice");
+        assertThat(filter.mightContain("user:alice")).isTrue();
+    }
+}
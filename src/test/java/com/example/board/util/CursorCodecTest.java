@@ -0,0 +1,57 @@
+package com.example.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsKeysetValues() {
+        LocalDateTime regDate = LocalDateTime.of(2026, 10, 19, 11, 30, 5, 123_000_000);
+
+        String cursor = CursorCodec.encode(regDate, 42L);
+        String[] keys = CursorCodec.decode(cursor, 2);
+
+        assertThat(LocalDateTime.parse(keys[0])).isEqualTo(regDate);
+        assertThat(Long.parseLong(keys[1])).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsSingleKeyPath() {
+        String path = "000000000012/000000000057";
+
+        assertThat(CursorCodec.decode(CursorCodec.encode(path), 1)).containsExactly(path);
+    }
+
+    @Test
+    void producesUrlSafeCursorWithoutPadding() {
+        String cursor = CursorCodec.encode("??>>", 1L);
+
+        assertThat(cursor).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64() {
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rejectsCursorWithDifferentKeyCount() {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-10-19T11:30|42|7".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorCodec.decode(tampered, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode("only-one"), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.board.util;
+
+import com.example.board.domain.BoardV0;
+import com.example.board.domain.CommentV0;
+import com.example.board.dto.BoardDetailResponse;
+import com.example.board.dto.CursorPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void alwaysIncludesIdAndRejectsUnknownFields() {
+        FieldSelection selection = FieldSelection.parse("title, views", BoardV0.SELECTABLE_FIELDS);
+
+        assertThat(selection.getFields()).containsExactly("idx", "title", "views");
+        assertThatThrownBy(() -> FieldSelection.parse("title,password", BoardV0.SELECTABLE_FIELDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void filtersBoardAndCommentsOfDetailResponseIndependently() throws Exception {
+        BoardV0 board = new BoardV0();
+        board.setIdx(1L);
+        board.setTitle("title");
+        board.setContent("content");
+        CommentV0 comment = new CommentV0();
+        comment.setIdx(10L);
+        comment.setComment("comment");
+        comment.setWriterId("writer");
+        BoardDetailResponse detail = BoardDetailResponse.of(board, CursorPage.of(List.of(comment), null), 1);
+
+        MappingJacksonValue value = FieldSelection.applyAll(detail, Map.of(
+                BoardV0.FIELD_FILTER, FieldSelection.parse("title", BoardV0.SELECTABLE_FIELDS),
+                CommentV0.FIELD_FILTER, FieldSelection.parse(null, CommentV0.SELECTABLE_FIELDS)));
+        JsonNode json = objectMapper.readTree(objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue()));
+
+        assertThat(json.get("board").has("title")).isTrue();
+        assertThat(json.get("board").has("content")).isFalse();
+        assertThat(json.get("comments").get(0).has("comment")).isTrue();
+        assertThat(json.get("comments").get(0).has("writerId")).isTrue();
+        assertThat(json.get("commentCount").asInt()).isEqualTo(1);
+    }
+}
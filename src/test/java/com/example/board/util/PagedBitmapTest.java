@@ -0,0 +1,72 @@
+package com.example.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PagedBitmapTest {
+
+    private static final long PAGE = 1 << 16;
+
+    private final PagedBitmap bitmap = new PagedBitmap();
+
+    @Test
+    void keepsValuesOnBothSidesOfPageBoundaryApart() {
+        bitmap.set(PAGE - 1);
+        bitmap.set(PAGE);
+
+        assertThat(bitmap.contains(PAGE - 1)).isTrue();
+        assertThat(bitmap.contains(PAGE)).isTrue();
+        assertThat(bitmap.contains(PAGE - 2)).isFalse();
+        assertThat(bitmap.contains(PAGE + 1)).isFalse();
+        // 같은 페이지 안의 위치지만 다른 페이지에 속한 값
+        assertThat(bitmap.contains(2 * PAGE - 1)).isFalse();
+        assertThat(bitmap.contains(0)).isFalse();
+        assertThat(bitmap.memoryBytes()).isEqualTo(2 * PAGE / 8);
+
+        bitmap.clear(PAGE);
+        assertThat(bitmap.contains(PAGE)).isFalse();
+        assertThat(bitmap.contains(PAGE - 1)).isTrue();
+    }
+
+    @Test
+    void keepsBitsOfNeighbouringWordsApart() {
+        bitmap.set(63);
+        bitmap.set(64);
+        bitmap.clear(63);
+
+        assertThat(bitmap.contains(63)).isFalse();
+        assertThat(bitmap.contains(64)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void allocatesOnlyTouchedPagesForSparseLargeValues() {
+        long large = (1L << 40) + 5;
+        bitmap.set(0);
+        bitmap.set(large);
+
+        assertThat(bitmap.contains(large)).isTrue();
+        assertThat(bitmap.contains(large - PAGE)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+        assertThat(bitmap.memoryBytes()).isEqualTo(2 * PAGE / 8);
+    }
+
+    @Test
+    void countsDenseRangeAcrossPages() {
+        for (long value = PAGE - 100; value < PAGE + 100; value++) {
+            bitmap.set(value);
+        }
+        bitmap.set(PAGE);   // 이미 있는 값
+
+        assertThat(bitmap.cardinality()).isEqualTo(200);
+    }
+
+    @Test
+    void rejectsNegativeValuesOnlyWhenAdding() {
+        assertThatThrownBy(() -> bitmap.set(-1)).isInstanceOf(IllegalArgumentException.class);
+        bitmap.clear(-1);
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+}